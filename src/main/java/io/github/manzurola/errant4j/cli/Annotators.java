@@ -0,0 +1,62 @@
+package io.github.manzurola.errant4j.cli;
+
+import io.github.manzurola.errant4j.core.Annotator;
+import io.github.manzurola.errant4j.core.Errant;
+import io.github.manzurola.errant4j.core.parse.ParserPool;
+import io.github.manzurola.spacy4j.api.SpaCy;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link Annotator} shared by the worker threads of a command.
+ * <p>
+ * The parser backend is given by {@code -adapter}, the name of a class with a
+ * public no-arg constructor implementing {@code Supplier<SpaCy>}. The
+ * annotator parses with a {@link ParserPool} of one backend instance per
+ * worker thread, so adapters need not be thread-safe. Commands reading parsed
+ * input create an annotator without a parser when no adapter is given.
+ */
+final class Annotators {
+
+    private static final Duration CHECKOUT_TIMEOUT = Duration.ofMinutes(10);
+
+    private Annotators() {
+    }
+
+    static Annotator pooled(Arguments args, int threads) {
+        return pooled(args, threads, false);
+    }
+
+    static Annotator pooled(Arguments args, int threads, boolean parsed) {
+        String language = args.value("lang").orElse("en");
+        if (parsed && !args.has("adapter")) {
+            return Errant.newAnnotator(language);
+        }
+        Supplier<SpaCy> spaCy = adapter(args.required("adapter"));
+        return Errant.newAnnotator(
+            language,
+            ParserPool.create(threads, spaCy, CHECKOUT_TIMEOUT)
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<SpaCy> adapter(String className) {
+        Object adapter;
+        try {
+            adapter = Class.forName(className).getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new UsageException(String.format(
+                "Cannot create adapter %s",
+                className
+            ), e);
+        }
+        if (!(adapter instanceof Supplier)) {
+            throw new UsageException(String.format(
+                "Adapter %s does not implement Supplier<SpaCy>",
+                className
+            ));
+        }
+        return (Supplier<SpaCy>) adapter;
+    }
+}
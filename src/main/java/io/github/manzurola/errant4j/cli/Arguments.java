@@ -0,0 +1,120 @@
+package io.github.manzurola.errant4j.cli;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Command line options of a subcommand. Every option starts with {@code -} or
+ * {@code --} and is followed by zero or more values, e.g. {@code -cor a.txt
+ * b.txt --threads 8 -dt}. Invalid options are reported by a {@link
+ * UsageException}.
+ */
+final class Arguments {
+
+    private final Map<String, List<String>> options;
+
+    private Arguments(Map<String, List<String>> options) {
+        this.options = options;
+    }
+
+    static Arguments parse(List<String> args) {
+        Map<String, List<String>> options = new HashMap<>();
+        List<String> values = null;
+        for (String arg : args) {
+            if (arg.startsWith("-") && arg.length() > 1 && !isNumber(arg)) {
+                String name = arg.replaceFirst("^--?", "");
+                if (options.containsKey(name)) {
+                    throw new UsageException(String.format(
+                        "Option %s is given more than once",
+                        arg
+                    ));
+                }
+                values = new ArrayList<>();
+                options.put(name, values);
+            } else if (values == null) {
+                throw new UsageException(String.format(
+                    "Unexpected argument %s",
+                    arg
+                ));
+            } else {
+                values.add(arg);
+            }
+        }
+        return new Arguments(options);
+    }
+
+    boolean has(String name) {
+        return options.containsKey(name);
+    }
+
+    List<String> values(String name) {
+        return options.getOrDefault(name, List.of());
+    }
+
+    Optional<String> value(String name) {
+        List<String> values = values(name);
+        if (values.size() > 1) {
+            throw new UsageException(String.format(
+                "Option -%s takes a single value, got %s",
+                name,
+                values
+            ));
+        }
+        return values.stream().findFirst();
+    }
+
+    String required(String name) {
+        return value(name).orElseThrow(() -> new UsageException(String.format(
+            "Missing option -%s",
+            name
+        )));
+    }
+
+    Path requiredPath(String name) {
+        return Path.of(required(name));
+    }
+
+    int intValue(String name, int defaultValue) {
+        return value(name).map(value -> number(name, value, Integer::parseInt)).orElse(defaultValue);
+    }
+
+    double doubleValue(String name, double defaultValue) {
+        return value(name).map(value -> number(name, value, Double::parseDouble)).orElse(defaultValue);
+    }
+
+    /**
+     * Fail if any option is not one of the supported names.
+     */
+    void checkSupported(Set<String> supported) {
+        for (String name : options.keySet()) {
+            if (!supported.contains(name)) {
+                throw new UsageException(String.format(
+                    "Unknown option -%s",
+                    name
+                ));
+            }
+        }
+    }
+
+    private static <T> T number(String name, String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException e) {
+            throw new UsageException(String.format(
+                "Option -%s takes a number, got %s",
+                name,
+                value
+            ), e);
+        }
+    }
+
+    private static boolean isNumber(String arg) {
+        return Character.isDigit(arg.charAt(1));
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.manzurola.errant4j.cli;
+
+import java.util.List;
+
+interface Command {
+
+    String name();
+
+    String usage();
+
+    /**
+     * Run the command and return the process exit code.
+     */
+    int run(List<String> args) throws Exception;
+}
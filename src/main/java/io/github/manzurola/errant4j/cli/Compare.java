@@ -0,0 +1,172 @@
+package io.github.manzurola.errant4j.cli;
+
+import io.github.manzurola.errant4j.core.eval.EditCounts;
+import io.github.manzurola.errant4j.core.eval.ErrantScorer;
+import io.github.manzurola.errant4j.core.eval.EvalMode;
+import io.github.manzurola.errant4j.core.eval.EvalResult;
+import io.github.manzurola.errant4j.core.m2.M2Reader;
+
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Scores a hypothesis M2 file against a reference M2 file, like ERRANT's
+ * {@code errant_compare}, printing the same tables.
+ */
+final class Compare implements Command {
+
+    private static final Set<String> OPTIONS = Set.of(
+        "hyp", "ref", "b", "dt", "ds", "cs", "cse", "cat"
+    );
+
+    private final PrintStream out;
+
+    Compare(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public String name() {
+        return "compare";
+    }
+
+    @Override
+    public String usage() {
+        return "compare -hyp HYP -ref REF [-b BETA] [-dt | -ds | -cs | -cse] [-cat 1|2|3]";
+    }
+
+    @Override
+    public int run(List<String> argList) throws Exception {
+        Arguments args = Arguments.parse(argList);
+        args.checkSupported(OPTIONS);
+        EvalMode mode = mode(args);
+        double beta = args.doubleValue("b", 0.5);
+        int category = args.intValue("cat", 0);
+        if (category < 0 || category > 3) {
+            throw new UsageException(String.format(
+                "Category must be 1, 2 or 3, got %d",
+                category
+            ));
+        }
+        EvalResult result = new ErrantScorer(mode, beta).score(
+            M2Reader.readAll(args.requiredPath("hyp")),
+            M2Reader.readAll(args.requiredPath("ref"))
+        );
+        print(result, mode, beta, category);
+        return 0;
+    }
+
+    private EvalMode mode(Arguments args) {
+        EvalMode mode = EvalMode.SPAN_CORRECTION;
+        int selected = 0;
+        if (args.has("dt")) {
+            mode = EvalMode.TOKEN_DETECTION;
+            selected++;
+        }
+        if (args.has("ds")) {
+            mode = EvalMode.SPAN_DETECTION;
+            selected++;
+        }
+        if (args.has("cs")) {
+            mode = EvalMode.SPAN_CORRECTION;
+            selected++;
+        }
+        if (args.has("cse")) {
+            mode = EvalMode.SPAN_CORRECTION_WITH_TYPE;
+            selected++;
+        }
+        if (selected > 1) {
+            throw new UsageException("Only one of -dt, -ds, -cs or -cse is allowed");
+        }
+        return mode;
+    }
+
+    private void print(EvalResult result, EvalMode mode, double beta, int category) {
+        String title = title(mode);
+        String f = "F" + beta;
+        if (category > 0) {
+            out.println();
+            out.println(center(title, 66));
+            out.println(String.join(" ", pad("Category", 14), pad("TP", 8), pad("FP", 8),
+                pad("FN", 8), pad("P", 8), pad("R", 8), f));
+            collapse(result.byType(), category).forEach((type, counts) -> out.println(String.join(
+                " ",
+                pad(type, 14),
+                pad(String.valueOf(counts.tp()), 8),
+                pad(String.valueOf(counts.fp()), 8),
+                pad(String.valueOf(counts.fn()), 8),
+                pad(round(counts.precision()), 8),
+                pad(round(counts.recall()), 8),
+                round(counts.fScore(beta))
+            )));
+        }
+        EditCounts total = result.total();
+        out.println();
+        out.println(center(title, 46));
+        out.println(String.join("\t", "TP", "FP", "FN", "Prec", "Rec", f));
+        out.println(String.join(
+            "\t",
+            String.valueOf(total.tp()),
+            String.valueOf(total.fp()),
+            String.valueOf(total.fn()),
+            round(total.precision()),
+            round(total.recall()),
+            round(total.fScore(beta))
+        ));
+        out.println(center("", 46));
+        out.println();
+    }
+
+    /**
+     * Merge types by operation (1), by main type (2), or keep them (3). UNK is
+     * always kept as is.
+     */
+    private static Map<String, EditCounts> collapse(Map<String, EditCounts> byType, int category) {
+        Map<String, EditCounts> collapsed = new TreeMap<>();
+        byType.forEach((type, counts) -> {
+            String key = type;
+            if (!type.equals("UNK") && category == 1) {
+                key = type.substring(0, 1);
+            } else if (!type.equals("UNK") && category == 2) {
+                key = type.length() > 2 ? type.substring(2) : type;
+            }
+            collapsed.merge(key, counts, EditCounts::plus);
+        });
+        return collapsed;
+    }
+
+    private static String title(EvalMode mode) {
+        switch (mode) {
+            case TOKEN_DETECTION:
+                return " Token-Based Detection ";
+            case SPAN_DETECTION:
+                return " Span-Based Detection ";
+            case SPAN_CORRECTION_WITH_TYPE:
+                return " Span-Based Correction + Classification ";
+            default:
+                return " Span-Based Correction ";
+        }
+    }
+
+    private static String center(String text, int width) {
+        int padding = Math.max(0, width - text.length());
+        int left = padding / 2;
+        return "=".repeat(left) + text + "=".repeat(padding - left);
+    }
+
+    private static String pad(String text, int width) {
+        return text.length() >= width ? text : text + " ".repeat(width - text.length());
+    }
+
+    private static String round(double value) {
+        BigDecimal rounded = BigDecimal.valueOf(value)
+            .setScale(4, RoundingMode.HALF_EVEN)
+            .stripTrailingZeros();
+        return (rounded.scale() < 1 ? rounded.setScale(1) : rounded).toPlainString();
+    }
+}
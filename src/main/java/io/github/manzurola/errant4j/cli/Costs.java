@@ -0,0 +1,64 @@
+package io.github.manzurola.errant4j.cli;
+
+import io.github.manzurola.errant4j.core.LengthAwareScheduler;
+import io.github.manzurola.errant4j.core.io.TokenRecord;
+import io.github.manzurola.errant4j.core.m2.M2Sentence;
+
+import java.util.List;
+
+/**
+ * Annotation cost estimates of command inputs, for a {@link
+ * LengthAwareScheduler}. Token counts of raw text are estimated by counting
+ * whitespace separated words.
+ */
+final class Costs {
+
+    private Costs() {
+    }
+
+    /**
+     * The cost of an original line and its corrections.
+     */
+    static long ofLines(List<String> lines) {
+        int source = words(lines.get(0));
+        long cost = 0;
+        for (String line : lines.subList(1, lines.size())) {
+            cost += LengthAwareScheduler.pairCost(source, words(line));
+        }
+        return cost;
+    }
+
+    /**
+     * The cost of an original parsed sentence and its corrections.
+     */
+    static long ofSentences(List<List<TokenRecord>> sentences) {
+        int source = sentences.get(0).size();
+        long cost = 0;
+        for (List<TokenRecord> sentence : sentences.subList(1, sentences.size())) {
+            cost += LengthAwareScheduler.pairCost(source, sentence.size());
+        }
+        return cost;
+    }
+
+    /**
+     * The cost of annotating every coder of an M2 sentence, assuming
+     * corrections about as long as the source.
+     */
+    static long ofM2(M2Sentence sentence) {
+        int source = words(sentence.source());
+        return LengthAwareScheduler.pairCost(source, source) * Math.max(1, sentence.coders().size());
+    }
+
+    private static int words(String text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return words;
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.manzurola.errant4j.cli;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command line entry point, with the subcommands of the Python ERRANT tools:
+ * <pre>
+ * parallel-to-m2 -orig ORIG -cor COR [COR ...] -out OUT -adapter CLASS
+ * m2-to-m2 (-gold M2 | -auto M2) -out OUT -adapter CLASS
+ * compare -hyp HYP -ref REF [-b BETA] [-dt | -ds | -cs | -cse] [-cat 1|2|3]
+ * </pre>
+ * Commands that parse text run on {@code -threads} worker threads (all cores
+ * by default) and report progress on standard error. Invalid arguments exit
+ * with code 2 and print the usage of the command; invalid input and other
+ * failures exit with code 1.
+ */
+public final class ErrantCli {
+
+    private ErrantCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Run a subcommand and return the process exit code.
+     */
+    public static int run(String... args) {
+        List<Command> commands = List.of(
+            new ParallelToM2(),
+            new M2ToM2(),
+            new Compare(System.out)
+        );
+        if (args.length == 0) {
+            printUsage(commands);
+            return 2;
+        }
+        for (Command command : commands) {
+            if (command.name().equals(args[0])) {
+                try {
+                    return command.run(Arrays.asList(args).subList(1, args.length));
+                } catch (UsageException e) {
+                    System.err.println(e.getMessage());
+                    System.err.println("Usage: " + command.usage());
+                    return 2;
+                } catch (IllegalArgumentException e) {
+                    System.err.println(e.getMessage());
+                    return 1;
+                } catch (Exception e) {
+                    System.err.println(e);
+                    return 1;
+                }
+            }
+        }
+        System.err.printf("Unknown command %s%n", args[0]);
+        printUsage(commands);
+        return 2;
+    }
+
+    private static void printUsage(List<Command> commands) {
+        System.err.println("Usage:");
+        for (Command command : commands) {
+            System.err.println("  " + command.usage());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.github.manzurola.errant4j.cli;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.Annotator;
+import io.github.manzurola.errant4j.core.m2.M2Edit;
+import io.github.manzurola.errant4j.core.m2.M2Reader;
+import io.github.manzurola.errant4j.core.m2.M2Sentence;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Re-annotates an M2 file, like ERRANT's {@code errant_m2}.
+ * <p>
+ * With {@code -gold} the edit spans are kept and only their types are
+ * classified again. With {@code -auto} the corrected sentence of each coder is
+ * rebuilt and annotated from scratch. Gold edits of a sentence the parser
+ * tokenizes differently from the M2 file are kept unchanged.
+ */
+final class M2ToM2 implements Command {
+
+    private static final String UNK = "UNK";
+    private static final Set<String> OPTIONS = Set.of(
+        "gold", "auto", "out", "threads", "shard", "adapter", "lang"
+    );
+
+    @Override
+    public String name() {
+        return "m2-to-m2";
+    }
+
+    @Override
+    public String usage() {
+        return "m2-to-m2 (-gold M2 | -auto M2) -out OUT -adapter CLASS"
+            + " [-lang en] [-threads N] [-shard N]";
+    }
+
+    @Override
+    public int run(List<String> argList) throws Exception {
+        Arguments args = Arguments.parse(argList);
+        args.checkSupported(OPTIONS);
+        if (args.has("gold") == args.has("auto")) {
+            throw new UsageException("Exactly one of -gold or -auto is required");
+        }
+        boolean gold = args.has("gold");
+        Path input = args.requiredPath(gold ? "gold" : "auto");
+        Path out = args.requiredPath("out");
+        int threads = args.intValue("threads", Runtime.getRuntime().availableProcessors());
+        Annotator annotator = Annotators.pooled(args, threads);
+        ShardedPipeline<M2Sentence, String> pipeline = new ShardedPipeline<>(
+            threads,
+            args.intValue("shard", 64),
+            Costs::ofM2
+        );
+
+        try (M2Reader reader = M2Reader.open(input);
+             BufferedWriter writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            pipeline.run(
+                reader,
+                sentence -> annotate(annotator, sentence, gold).toM2(),
+                block -> writer.append(block).append("\n\n"),
+                new Progress(System.err, "sentences")
+            );
+        }
+        return 0;
+    }
+
+    private M2Sentence annotate(Annotator annotator, M2Sentence sentence, boolean gold) {
+        List<Token> source = annotator.parse(sentence.source()).tokens();
+        List<M2Edit> edits = new ArrayList<>();
+        for (int coder : sentence.coders()) {
+            M2Sentence.Correction correction = sentence.correct(coder);
+            List<Token> target = annotator
+                .parse(String.join(" ", correction.tokens()))
+                .tokens();
+            int before = edits.size();
+            if (!gold) {
+                for (Annotation annotation : annotator.annotate(source, target)) {
+                    if (!annotation.error().isNone()) {
+                        edits.add(M2Edit.of(annotation, coder));
+                    }
+                }
+            } else if (source.size() == sentence.sourceTokens().size()
+                && target.size() == correction.tokens().size()) {
+                for (int i = 0; i < correction.edits().size(); i++) {
+                    edits.add(classify(annotator, correction, i, source, target, coder));
+                }
+            } else {
+                edits.addAll(correction.edits());
+            }
+            if (edits.size() == before) {
+                edits.add(M2Edit.noop(coder));
+            }
+        }
+        return M2Sentence.of(sentence.source(), edits);
+    }
+
+    private M2Edit classify(
+        Annotator annotator,
+        M2Sentence.Correction correction,
+        int index,
+        List<Token> source,
+        List<Token> target,
+        int coder
+    ) {
+        M2Edit edit = correction.edits().get(index);
+        if (edit.type().equals(UNK)) {
+            return edit;
+        }
+        int targetStart = correction.targetStart(index);
+        String[] sourceWords = texts(source.subList(edit.start(), edit.end()));
+        String[] targetWords = texts(target.subList(targetStart, correction.targetEnd(index)));
+        Edit<Token> tokenEdit;
+        if (sourceWords.length == 0) {
+            tokenEdit = Edit.builder()
+                .insert(targetWords)
+                .atPosition(edit.start(), targetStart)
+                .project(source, target);
+        } else if (targetWords.length == 0) {
+            tokenEdit = Edit.builder()
+                .delete(sourceWords)
+                .atPosition(edit.start(), targetStart)
+                .project(source, target);
+        } else {
+            tokenEdit = Edit.builder()
+                .substitute(sourceWords)
+                .with(targetWords)
+                .atPosition(edit.start(), targetStart)
+                .project(source, target);
+        }
+        return M2Edit.of(Annotation.of(tokenEdit, annotator.classify(tokenEdit)), coder);
+    }
+
+    private static String[] texts(List<Token> tokens) {
+        return tokens.stream().map(Token::text).toArray(String[]::new);
+    }
+}
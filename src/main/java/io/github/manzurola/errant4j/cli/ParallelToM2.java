@@ -0,0 +1,175 @@
+package io.github.manzurola.errant4j.cli;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.Annotator;
+import io.github.manzurola.errant4j.core.io.ConlluReader;
+import io.github.manzurola.errant4j.core.io.Docs;
+import io.github.manzurola.errant4j.core.io.TokenRecord;
+import io.github.manzurola.errant4j.core.m2.M2Sentence;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Annotates parallel original and corrected text files and writes an M2 file,
+ * like ERRANT's {@code errant_parallel}. Each corrected file is a coder.
+ * <p>
+ * With {@code -conllu} the files are read as pre-parsed CoNLL-U, and no
+ * parser is needed unless an adapter is given.
+ */
+final class ParallelToM2 implements Command {
+
+    private static final Set<String> OPTIONS = Set.of(
+        "orig", "cor", "out", "conllu", "threads", "shard", "adapter", "lang"
+    );
+
+    @Override
+    public String name() {
+        return "parallel-to-m2";
+    }
+
+    @Override
+    public String usage() {
+        return "parallel-to-m2 -orig ORIG -cor COR [COR ...] -out OUT"
+            + " (-adapter CLASS | -conllu) [-lang en] [-threads N] [-shard N]";
+    }
+
+    @Override
+    public int run(List<String> argList) throws Exception {
+        Arguments args = Arguments.parse(argList);
+        args.checkSupported(OPTIONS);
+        List<Path> paths = new ArrayList<>();
+        paths.add(args.requiredPath("orig"));
+        List<String> cor = args.values("cor");
+        if (cor.isEmpty()) {
+            throw new UsageException("Missing option -cor");
+        }
+        for (String path : cor) {
+            paths.add(Path.of(path));
+        }
+        Path out = args.requiredPath("out");
+        boolean conllu = args.has("conllu");
+        int threads = args.intValue("threads", Runtime.getRuntime().availableProcessors());
+        Annotator annotator = Annotators.pooled(args, threads, conllu);
+        int shard = args.intValue("shard", 64);
+
+        List<Closeable> readers = new ArrayList<>();
+        try (BufferedWriter writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            Progress progress = new Progress(System.err, "sentences");
+            if (conllu) {
+                List<Iterator<List<TokenRecord>>> sentences = new ArrayList<>();
+                for (Path path : paths) {
+                    ConlluReader reader = ConlluReader.open(path);
+                    readers.add(reader);
+                    sentences.add(reader);
+                }
+                new ShardedPipeline<List<List<TokenRecord>>, String>(threads, shard, Costs::ofSentences).run(
+                    new Tuples<>(sentences),
+                    tuple -> annotateParsed(annotator, tuple).toM2(),
+                    block -> writer.append(block).append("\n\n"),
+                    progress
+                );
+            } else {
+                List<Iterator<String>> lines = new ArrayList<>();
+                for (Path path : paths) {
+                    BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+                    readers.add(reader);
+                    lines.add(reader.lines().iterator());
+                }
+                new ShardedPipeline<List<String>, String>(threads, shard, Costs::ofLines).run(
+                    new Tuples<>(lines),
+                    tuple -> annotate(annotator, tuple).toM2(),
+                    block -> writer.append(block).append("\n\n"),
+                    progress
+                );
+            }
+        } finally {
+            for (Closeable reader : readers) {
+                reader.close();
+            }
+        }
+        return 0;
+    }
+
+    private M2Sentence annotate(Annotator annotator, List<String> lines) {
+        String original = lines.get(0).strip();
+        List<Token> source = annotator.parse(original).tokens();
+        List<List<Annotation>> coders = new ArrayList<>(lines.size() - 1);
+        for (String line : lines.subList(1, lines.size())) {
+            String corrected = line.strip();
+            if (corrected.equals(original)) {
+                coders.add(List.of());
+            } else {
+                List<Token> target = annotator.parse(corrected).tokens();
+                coders.add(annotator.annotate(source, target));
+            }
+        }
+        return M2Sentence.ofCoders(source, coders);
+    }
+
+    private M2Sentence annotateParsed(Annotator annotator, List<List<TokenRecord>> sentences) {
+        List<TokenRecord> original = sentences.get(0);
+        List<Token> source = Docs.of(original).tokens();
+        List<List<Annotation>> coders = new ArrayList<>(sentences.size() - 1);
+        for (List<TokenRecord> corrected : sentences.subList(1, sentences.size())) {
+            if (corrected.equals(original)) {
+                coders.add(List.of());
+            } else {
+                coders.add(annotator.annotate(source, Docs.of(corrected).tokens()));
+            }
+        }
+        return M2Sentence.ofCoders(source, coders);
+    }
+
+    /**
+     * Reads one item from each iterator at a time, failing if the inputs
+     * differ in length.
+     */
+    private static final class Tuples<T> implements Iterator<List<T>> {
+
+        private final List<Iterator<T>> inputs;
+
+        Tuples(List<Iterator<T>> inputs) {
+            this.inputs = inputs;
+        }
+
+        @Override
+        public boolean hasNext() {
+            int ended = 0;
+            for (Iterator<T> input : inputs) {
+                if (!input.hasNext()) {
+                    ended++;
+                }
+            }
+            if (ended > 0 && ended < inputs.size()) {
+                throw new IllegalArgumentException(
+                    "Original and corrected files differ in length"
+                );
+            }
+            return ended == 0;
+        }
+
+        @Override
+        public List<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<T> tuple = new ArrayList<>(inputs.size());
+            for (Iterator<T> input : inputs) {
+                tuple.add(input.next());
+            }
+            return tuple;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.manzurola.errant4j.cli;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports the number of processed items and the throughput, at most once per
+ * interval.
+ */
+final class Progress {
+
+    private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    private final PrintStream out;
+    private final String unit;
+    private final long startNanos;
+    private long lastReportNanos;
+    private long count;
+
+    Progress(PrintStream out, String unit) {
+        this.out = out;
+        this.unit = unit;
+        this.startNanos = System.nanoTime();
+        this.lastReportNanos = startNanos;
+    }
+
+    void add(int items) {
+        count += items;
+        long now = System.nanoTime();
+        if (now - lastReportNanos >= INTERVAL_NANOS) {
+            lastReportNanos = now;
+            report("Processed", now);
+        }
+    }
+
+    void done() {
+        report("Done:", System.nanoTime());
+    }
+
+    private void report(String prefix, long now) {
+        double seconds = (now - startNanos) / 1e9;
+        out.printf(
+            "%s %d %s in %.1fs (%.1f %s/s)%n",
+            prefix,
+            count,
+            unit,
+            seconds,
+            seconds == 0 ? 0.0 : count / seconds,
+            unit
+        );
+    }
+}
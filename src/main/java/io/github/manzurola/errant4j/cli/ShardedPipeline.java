@@ -0,0 +1,169 @@
+package io.github.manzurola.errant4j.cli;
+
+import io.github.manzurola.errant4j.core.LengthAwareScheduler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Processes a sequential input in shards on a fixed thread pool, writing the
+ * results in input order.
+ * <p>
+ * The input is read by the calling thread and split into shards of
+ * consecutive items. At most a few shards per thread are in flight, so memory
+ * use doesn't grow with the input size. The results of a shard are written as
+ * soon as it and all shards before it are done.
+ * <p>
+ * When a cost estimate is given, the input is instead read in windows of as
+ * many items as would be in flight, and each window is run by a {@link
+ * LengthAwareScheduler}, so that long items don't leave threads idle. The next
+ * window is read and scheduled while the current one drains, so the pool
+ * doesn't wait for the slowest item of a window before starting the next.
+ */
+final class ShardedPipeline<I, O> {
+
+    private static final int SHARDS_PER_THREAD = 4;
+    private static final int WINDOWS_IN_FLIGHT = 2;
+
+    private final int threads;
+    private final int shardSize;
+    private final ToLongFunction<? super I> cost;
+
+    ShardedPipeline(int threads, int shardSize) {
+        this(threads, shardSize, null);
+    }
+
+    /**
+     * @param cost the estimated cost of an item, or null to process shards in
+     *             input order
+     */
+    ShardedPipeline(int threads, int shardSize, ToLongFunction<? super I> cost) {
+        if (threads < 1 || shardSize < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Threads and shard size must be positive, got %d and %d",
+                threads,
+                shardSize
+            ));
+        }
+        this.threads = threads;
+        this.shardSize = shardSize;
+        this.cost = cost;
+    }
+
+    void run(
+        Iterator<I> input,
+        Function<I, O> function,
+        Sink<O> sink,
+        Progress progress
+    ) throws IOException, InterruptedException {
+        if (cost != null) {
+            runScheduled(input, function, sink, progress);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        ArrayDeque<Future<List<O>>> inFlight = new ArrayDeque<>();
+        try {
+            while (input.hasNext()) {
+                List<I> shard = new ArrayList<>(shardSize);
+                while (shard.size() < shardSize && input.hasNext()) {
+                    shard.add(input.next());
+                }
+                inFlight.add(executor.submit(() -> process(shard, function)));
+                if (inFlight.size() >= threads * SHARDS_PER_THREAD) {
+                    write(inFlight.remove(), sink, progress);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.remove(), sink, progress);
+            }
+            progress.done();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void runScheduled(
+        Iterator<I> input,
+        Function<I, O> function,
+        Sink<O> sink,
+        Progress progress
+    ) throws IOException, InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        LengthAwareScheduler scheduler = new LengthAwareScheduler(pool);
+        // Each window blocks one of these threads until its items are done,
+        // while its tasks run on the pool.
+        ExecutorService windows = Executors.newFixedThreadPool(WINDOWS_IN_FLIGHT);
+        int windowSize = threads * SHARDS_PER_THREAD * shardSize;
+        ArrayDeque<Future<List<O>>> inFlight = new ArrayDeque<>();
+        try {
+            while (input.hasNext()) {
+                List<I> window = new ArrayList<>(windowSize);
+                while (window.size() < windowSize && input.hasNext()) {
+                    window.add(input.next());
+                }
+                inFlight.add(windows.submit(() -> scheduler.map(window, cost, function)));
+                if (inFlight.size() >= WINDOWS_IN_FLIGHT) {
+                    write(inFlight.remove(), sink, progress);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.remove(), sink, progress);
+            }
+            progress.done();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            windows.shutdownNow();
+            pool.shutdownNow();
+        }
+    }
+
+    private List<O> process(List<I> shard, Function<I, O> function) {
+        List<O> results = new ArrayList<>(shard.size());
+        for (I item : shard) {
+            results.add(function.apply(item));
+        }
+        return results;
+    }
+
+    private void write(
+        Future<List<O>> shard,
+        Sink<O> sink,
+        Progress progress
+    ) throws IOException, InterruptedException {
+        List<O> results;
+        try {
+            results = shard.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        for (O result : results) {
+            sink.accept(result);
+        }
+        progress.add(results.size());
+    }
+
+    interface Sink<O> {
+        void accept(O result) throws IOException;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.manzurola.errant4j.cli;
+
+/**
+ * Thrown for invalid command line arguments, as opposed to invalid input
+ * data. {@link ErrantCli} prints the usage of the command only for these.
+ */
+final class UsageException extends IllegalArgumentException {
+
+    UsageException(String message) {
+        super(message);
+    }
+
+    UsageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,19 +2,26 @@ package io.github.manzurola.errant4j.core;
 
 import com.github.manzurola.aligner.edit.Edit;
 import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.mark.CharOffset;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * An Annotation matches an {@link Edit} with its associated {@link
  * GrammaticalError}.
+ * <p>
+ * The source and target texts are computed on first access and cached.
  */
 public final class Annotation {
 
     private final Edit<Token> edit;
     private final GrammaticalError error;
+    // lazily computed, racy single-check is safe for immutable strings
+    private String sourceText;
+    private String targetText;
 
     private Annotation(Edit<Token> edit, GrammaticalError error) {
         this.edit = Objects.requireNonNull(edit);
@@ -42,15 +49,20 @@ public final class Annotation {
     }
 
     public final String sourceText() {
-        return concatTokenText(edit.source().tokens());
+        String text = sourceText;
+        if (text == null) {
+            text = concatTokenText(edit.source().tokens());
+            sourceText = text;
+        }
+        return text;
     }
 
-    private String concatTokenText(List<Token> tokens) {
-        return tokens
-            .stream()
-            .map(Token::textWithWs)
-            .reduce("", String::concat)
-            .trim();
+    /**
+     * The character offsets of the source tokens, or empty if the edit has no
+     * source tokens.
+     */
+    public final Optional<CharOffset> sourceCharOffset() {
+        return charOffset(edit.source().tokens());
     }
 
     public final int targetPosition() {
@@ -62,7 +74,65 @@ public final class Annotation {
     }
 
     public final String targetText() {
-        return concatTokenText(edit.target().tokens());
+        String text = targetText;
+        if (text == null) {
+            text = concatTokenText(edit.target().tokens());
+            targetText = text;
+        }
+        return text;
+    }
+
+    /**
+     * The character offsets of the target tokens, or empty if the edit has no
+     * target tokens.
+     */
+    public final Optional<CharOffset> targetCharOffset() {
+        return charOffset(edit.target().tokens());
+    }
+
+    private static Optional<CharOffset> charOffset(List<Token> tokens) {
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(CharOffset.of(
+            tokens.get(0).charStart(),
+            tokens.get(tokens.size() - 1).charEnd()
+        ));
+    }
+
+    /**
+     * Concatenate the text and whitespace of all tokens into a presized
+     * builder and trim the result in a single copy.
+     */
+    private static String concatTokenText(List<Token> tokens) {
+        if (tokens.isEmpty()) {
+            return "";
+        }
+        int length = 0;
+        for (Token token : tokens) {
+            length += token.textWithWs().length();
+        }
+        StringBuilder builder = new StringBuilder(length);
+        for (Token token : tokens) {
+            builder.append(token.textWithWs());
+        }
+        int start = 0;
+        int end = builder.length();
+        while (start < end && builder.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && builder.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return builder.substring(start, end);
+    }
+
+    /**
+     * A compact copy of this annotation that holds no tokens, see {@link
+     * DetachedAnnotation}.
+     */
+    public final DetachedAnnotation detach(StringPool pool) {
+        return DetachedAnnotation.of(this, pool);
     }
 
     @Deprecated
@@ -0,0 +1,79 @@
+package io.github.manzurola.errant4j.core;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Limits on the work spent annotating a single pair, see {@link
+ * Annotator#annotate(java.util.List, java.util.List, AnnotationBudget)}.
+ * <p>
+ * The cell limit bounds the product of the source and target token counts of
+ * any alignment, which determines its time and memory. The timeout bounds the
+ * wall clock time of the whole call; half of it is reserved for classification.
+ */
+public final class AnnotationBudget {
+
+    private static final AnnotationBudget UNLIMITED = new AnnotationBudget(
+        Long.MAX_VALUE,
+        Duration.ofNanos(Long.MAX_VALUE)
+    );
+
+    private final long maxCells;
+    private final Duration timeout;
+
+    private AnnotationBudget(long maxCells, Duration timeout) {
+        this.maxCells = maxCells;
+        this.timeout = timeout;
+    }
+
+    public static AnnotationBudget of(long maxCells, Duration timeout) {
+        Objects.requireNonNull(timeout);
+        if (maxCells < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Cell limit must be positive, got %d",
+                maxCells
+            ));
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException(String.format(
+                "Timeout must be positive, got %s",
+                timeout
+            ));
+        }
+        return new AnnotationBudget(maxCells, timeout);
+    }
+
+    public static AnnotationBudget unlimited() {
+        return UNLIMITED;
+    }
+
+    public final long maxCells() {
+        return maxCells;
+    }
+
+    public final Duration timeout() {
+        return timeout;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnnotationBudget that = (AnnotationBudget) o;
+        return maxCells == that.maxCells &&
+               timeout.equals(that.timeout);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(maxCells, timeout);
+    }
+
+    @Override
+    public final String toString() {
+        return "AnnotationBudget{" +
+               "maxCells=" + maxCells +
+               ", timeout=" + timeout +
+               '}';
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.manzurola.errant4j.core;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The annotations of a pair annotated within an {@link AnnotationBudget},
+ * with the {@link Degradation} applied to stay within it.
+ */
+public final class AnnotationResult {
+
+    private final List<Annotation> annotations;
+    private final Degradation degradation;
+
+    private AnnotationResult(List<Annotation> annotations, Degradation degradation) {
+        this.annotations = List.copyOf(annotations);
+        this.degradation = Objects.requireNonNull(degradation);
+    }
+
+    public static AnnotationResult of(List<Annotation> annotations, Degradation degradation) {
+        return new AnnotationResult(annotations, degradation);
+    }
+
+    public final List<Annotation> annotations() {
+        return annotations;
+    }
+
+    public final Degradation degradation() {
+        return degradation;
+    }
+
+    public final boolean isDegraded() {
+        return degradation != Degradation.NONE;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnnotationResult that = (AnnotationResult) o;
+        return annotations.equals(that.annotations) &&
+               degradation == that.degradation;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(annotations, degradation);
+    }
+
+    @Override
+    public final String toString() {
+        return "AnnotationResult{" +
+               "annotations=" + annotations +
+               ", degradation=" + degradation +
+               '}';
+    }
+}
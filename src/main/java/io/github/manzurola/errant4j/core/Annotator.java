@@ -7,14 +7,17 @@ import io.github.manzurola.errant4j.core.align.TokenAligner;
 import io.github.manzurola.errant4j.core.classify.Classifier;
 import io.github.manzurola.errant4j.core.errors.GrammaticalError;
 import io.github.manzurola.errant4j.core.merge.Merger;
+import io.github.manzurola.errant4j.core.parse.Parser;
 import io.github.manzurola.spacy4j.api.SpaCy;
 import io.github.manzurola.spacy4j.api.containers.Doc;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-public interface Annotator {
+public interface Annotator extends FeatureRequirements {
 
     static Annotator of(SpaCy spaCy, Merger merger, Classifier classifier) {
         return of(spaCy, new TokenAligner(), merger, classifier);
@@ -24,11 +27,54 @@ public interface Annotator {
                         Aligner<Token> aligner,
                         Merger merger,
                         Classifier classifier) {
-        return new AnnotatorImpl(spaCy, aligner, merger, classifier);
+        return of(spaCy == null ? null : Parser.of(spaCy), aligner, merger, classifier);
+    }
+
+    /**
+     * Create an annotator parsing with the given parser, e.g. a {@link
+     * io.github.manzurola.errant4j.core.parse.ParserPool} sharing a few
+     * backend instances between threads.
+     */
+    static Annotator of(Parser parser, Merger merger, Classifier classifier) {
+        return of(parser, new TokenAligner(), merger, classifier);
+    }
+
+    static Annotator of(Parser parser,
+                        Aligner<Token> aligner,
+                        Merger merger,
+                        Classifier classifier) {
+        return new AnnotatorImpl(parser, aligner, merger, classifier);
     }
 
     Doc parse(String text);
 
+    /**
+     * Whether {@link #parse(String)} and {@link #parseAll(List)} are
+     * supported. Annotators created without a parser only accept parsed
+     * tokens. Unless overridden, true.
+     */
+    default boolean hasParser() {
+        return true;
+    }
+
+    /**
+     * Parse several texts with a single call to the parser, see {@link
+     * Parser#parseAll(List)}. Unless overridden, the texts are parsed one at
+     * a time.
+     */
+    default List<Doc> parseAll(List<String> texts) {
+        return texts.stream().map(this::parse).collect(Collectors.toList());
+    }
+
+    /**
+     * The token features read by the aligner, merger and classifier. Tokens
+     * passed to {@link #annotate(List, List)} need no others.
+     */
+    @Override
+    default Set<TokenFeature> requiredFeatures() {
+        return EnumSet.allOf(TokenFeature.class);
+    }
+
     /**
      * Run the full pipeline given parsed source and target texts.
      */
@@ -41,6 +87,17 @@ public interface Annotator {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Run the full pipeline within a budget, degrading along the {@link
+     * Degradation} steps rather than exceeding it. Unless overridden, the
+     * budget is ignored.
+     */
+    default AnnotationResult annotate(List<Token> source,
+                                      List<Token> target,
+                                      AnnotationBudget budget) {
+        return AnnotationResult.of(annotate(source, target), Degradation.NONE);
+    }
+
     /**
      * Run the 1st step in the pipeline - Align
      */
@@ -3,51 +3,187 @@ package io.github.manzurola.errant4j.core;
 import com.github.manzurola.aligner.Aligner;
 import com.github.manzurola.aligner.Alignment;
 import com.github.manzurola.aligner.edit.Edit;
+import com.github.manzurola.aligner.edit.Operation;
+import io.github.manzurola.errant4j.core.align.TokenAligner;
 import io.github.manzurola.errant4j.core.classify.Classifier;
 import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.jfr.AlignEvent;
+import io.github.manzurola.errant4j.core.jfr.ClassifyEvent;
+import io.github.manzurola.errant4j.core.jfr.MergeEvent;
+import io.github.manzurola.errant4j.core.jfr.ParseEvent;
 import io.github.manzurola.errant4j.core.merge.Merger;
-import io.github.manzurola.spacy4j.api.SpaCy;
+import io.github.manzurola.errant4j.core.parse.Parser;
 import io.github.manzurola.spacy4j.api.containers.Doc;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 final class AnnotatorImpl implements Annotator {
 
-    private final SpaCy spaCy;
+    private final Parser parser;
     private final Aligner<Token> aligner;
+    private final Aligner<Token> cheapAligner = TokenAligner.lowerCase();
     private final Merger merger;
     private final Classifier classifier;
+    private final boolean fastPaths;
+    private final Set<TokenFeature> requiredFeatures;
 
-    public AnnotatorImpl(SpaCy spaCy,
+    public AnnotatorImpl(Parser parser,
                           Aligner<Token> aligner,
                           Merger merger,
                           Classifier classifier) {
-        this.spaCy = Objects.requireNonNull(spaCy);
+        this.parser = parser;
         this.aligner = Objects.requireNonNull(aligner);
         this.merger = Objects.requireNonNull(merger);
         this.classifier = Objects.requireNonNull(classifier);
+        this.fastPaths = aligner.getClass() == TokenAligner.class
+            && merger.preservesSingleEdits();
+        EnumSet<TokenFeature> features = EnumSet.noneOf(TokenFeature.class);
+        features.addAll(aligner instanceof FeatureRequirements
+            ? ((FeatureRequirements) aligner).requiredFeatures()
+            : EnumSet.allOf(TokenFeature.class));
+        features.addAll(merger.requiredFeatures());
+        features.addAll(classifier.requiredFeatures());
+        this.requiredFeatures = Collections.unmodifiableSet(features);
+    }
+
+    /**
+     * Pairs within the cell limit are aligned whole; larger ones are aligned
+     * in chunks, see {@link BudgetedAlignment}. Once half of the timeout has
+     * passed, remaining chunks are aligned with {@link TokenAligner#lowerCase()},
+     * and once all of it has, remaining edits are not classified.
+     */
+    @Override
+    public final AnnotationResult annotate(List<Token> source,
+                                           List<Token> target,
+                                           AnnotationBudget budget) {
+        long start = System.nanoTime();
+        long timeout = budget.timeout().toNanos();
+        Degradation degradation = Degradation.NONE;
+        List<Edit<Token>> edits = fastPaths ? TrivialAlignment.edits(source, target) : null;
+        if (edits == null) {
+            if ((long) source.size() * target.size() <= budget.maxCells()) {
+                edits = align(source, target).edits();
+            } else {
+                BudgetedAlignment alignment = BudgetedAlignment.align(
+                    source,
+                    target,
+                    aligner,
+                    cheapAligner,
+                    budget.maxCells(),
+                    start + timeout / 2
+                );
+                edits = alignment.edits();
+                degradation = alignment.degradation();
+            }
+            edits = merge(edits);
+        }
+        List<Annotation> annotations = new ArrayList<>(edits.size());
+        for (Edit<Token> edit : edits) {
+            if (degradation != Degradation.UNCLASSIFIED && System.nanoTime() - start > timeout) {
+                degradation = Degradation.UNCLASSIFIED;
+            }
+            GrammaticalError error = degradation == Degradation.UNCLASSIFIED
+                ? unclassified(edit)
+                : classify(edit);
+            annotations.add(Annotation.of(edit, error));
+        }
+        return AnnotationResult.of(annotations, degradation);
+    }
+
+    private static GrammaticalError unclassified(Edit<Token> edit) {
+        return edit.operation() == Operation.EQUAL
+            ? GrammaticalError.NONE
+            : GrammaticalError.unknown(edit);
+    }
+
+    @Override
+    public final Set<TokenFeature> requiredFeatures() {
+        return requiredFeatures;
+    }
+
+    /**
+     * Identical pairs and pairs differing by a single inserted or deleted
+     * token skip alignment and merging when the default aligner is used with a
+     * merger that leaves single edits unchanged. The result is the same as
+     * that of the full pipeline.
+     */
+    @Override
+    public final List<Annotation> annotate(List<Token> source, List<Token> target) {
+        List<Edit<Token>> edits = fastPaths ? TrivialAlignment.edits(source, target) : null;
+        if (edits == null) {
+            return Annotator.super.annotate(source, target);
+        }
+        List<Annotation> annotations = new ArrayList<>(edits.size());
+        for (Edit<Token> edit : edits) {
+            annotations.add(Annotation.of(edit, classify(edit)));
+        }
+        return annotations;
+    }
+
+    @Override
+    public final boolean hasParser() {
+        return parser != null;
     }
 
     @Override
     public final Doc parse(String text) {
-        return spaCy.nlp(text);
+        requireParser();
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        Doc doc = parser.parse(text);
+        event.complete(text, doc);
+        return doc;
+    }
+
+    @Override
+    public final List<Doc> parseAll(List<String> texts) {
+        requireParser();
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        List<Doc> docs = parser.parseAll(texts);
+        event.complete(texts, docs);
+        return docs;
+    }
+
+    private void requireParser() {
+        if (parser == null) {
+            throw new UnsupportedOperationException(
+                "This annotator has no parser and only accepts parsed tokens"
+            );
+        }
     }
 
     @Override
     public final Alignment<Token> align(List<Token> source, List<Token> target) {
-        return aligner.align(source, target);
+        AlignEvent event = new AlignEvent();
+        event.begin();
+        Alignment<Token> alignment = aligner.align(source, target);
+        event.complete(source, target, alignment);
+        return alignment;
     }
 
     @Override
     public final List<Edit<Token>> merge(List<Edit<Token>> edits) {
-        return merger.merge(edits);
+        MergeEvent event = new MergeEvent();
+        event.begin();
+        List<Edit<Token>> merged = merger.merge(edits);
+        event.complete(edits.size(), merged.size());
+        return merged;
     }
 
     @Override
     public final GrammaticalError classify(Edit<Token> edit) {
-        return classifier.classify(edit);
+        ClassifyEvent event = new ClassifyEvent();
+        event.begin();
+        GrammaticalError error = classifier.classify(edit);
+        event.complete(edit, error);
+        return error;
     }
 
 
@@ -0,0 +1,248 @@
+package io.github.manzurola.errant4j.core;
+
+import com.github.manzurola.aligner.Aligner;
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aligns a pair whose token count product exceeds the cell limit of an {@link
+ * AnnotationBudget} by splitting it into chunks.
+ * <p>
+ * Split points are pairs of tokens whose text occurs exactly once on each
+ * side, kept in the longest order-preserving sequence so that no two cross.
+ * Chunks are grown over as many split points as fit in the cell limit and
+ * aligned separately; their edits are shifted back to pair positions.
+ */
+final class BudgetedAlignment {
+
+    private final List<Token> source;
+    private final List<Token> target;
+    private final Aligner<Token> aligner;
+    private final Aligner<Token> cheapAligner;
+    private final long maxCells;
+    private final long cheapAfter;
+    private final List<Edit<Token>> edits = new ArrayList<>();
+    private Degradation degradation = Degradation.CHUNKED_ALIGNMENT;
+
+    private BudgetedAlignment(List<Token> source,
+                              List<Token> target,
+                              Aligner<Token> aligner,
+                              Aligner<Token> cheapAligner,
+                              long maxCells,
+                              long cheapAfter) {
+        this.source = source;
+        this.target = target;
+        this.aligner = aligner;
+        this.cheapAligner = cheapAligner;
+        this.maxCells = maxCells;
+        this.cheapAfter = cheapAfter;
+    }
+
+    /**
+     * Align the pair chunk by chunk, switching to the cheap aligner for the
+     * remaining chunks once {@link System#nanoTime()} passes {@code
+     * cheapAfter}.
+     */
+    static BudgetedAlignment align(List<Token> source,
+                                   List<Token> target,
+                                   Aligner<Token> aligner,
+                                   Aligner<Token> cheapAligner,
+                                   long maxCells,
+                                   long cheapAfter) {
+        BudgetedAlignment alignment = new BudgetedAlignment(
+            source,
+            target,
+            aligner,
+            cheapAligner,
+            maxCells,
+            cheapAfter
+        );
+        int sourceStart = 0;
+        int targetStart = 0;
+        for (int[] cut : cuts(anchors(source, target), source.size(), target.size(), maxCells)) {
+            alignment.alignChunk(sourceStart, cut[0], targetStart, cut[1]);
+            sourceStart = cut[0];
+            targetStart = cut[1];
+        }
+        return alignment;
+    }
+
+    List<Edit<Token>> edits() {
+        return edits;
+    }
+
+    Degradation degradation() {
+        return degradation;
+    }
+
+    private void alignChunk(int sourceStart, int sourceEnd, int targetStart, int targetEnd) {
+        if (sourceStart == sourceEnd && targetStart == targetEnd) {
+            return;
+        }
+        if ((long) (sourceEnd - sourceStart) * (targetEnd - targetStart) > maxCells) {
+            degradation = Degradation.CHEAP_ALIGNMENT;
+            alignCoarsely(sourceStart, sourceEnd, targetStart, targetEnd);
+            return;
+        }
+        Aligner<Token> chunkAligner = aligner;
+        if (System.nanoTime() - cheapAfter > 0) {
+            degradation = Degradation.CHEAP_ALIGNMENT;
+            chunkAligner = cheapAligner;
+        }
+        List<Edit<Token>> chunkEdits = chunkAligner.align(
+            source.subList(sourceStart, sourceEnd),
+            target.subList(targetStart, targetEnd)
+        ).edits();
+        for (Edit<Token> edit : chunkEdits) {
+            edits.add(Edits.shift(edit, sourceStart, targetStart, source, target));
+        }
+    }
+
+    /**
+     * Equal edits for the common prefix and suffix of the chunk and a single
+     * edit between them, in linear time.
+     */
+    private void alignCoarsely(int sourceStart, int sourceEnd, int targetStart, int targetEnd) {
+        int prefix = 0;
+        while (sourceStart + prefix < sourceEnd
+            && targetStart + prefix < targetEnd
+            && sameText(sourceStart + prefix, targetStart + prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (sourceEnd - suffix > sourceStart + prefix
+            && targetEnd - suffix > targetStart + prefix
+            && sameText(sourceEnd - suffix - 1, targetEnd - suffix - 1)) {
+            suffix++;
+        }
+        for (int i = 0; i < prefix; i++) {
+            edits.add(equal(sourceStart + i, targetStart + i));
+        }
+        String[] sourceWords = Edits.texts(source.subList(sourceStart + prefix, sourceEnd - suffix));
+        String[] targetWords = Edits.texts(target.subList(targetStart + prefix, targetEnd - suffix));
+        if (sourceWords.length > 0 || targetWords.length > 0) {
+            edits.add(Edits.of(
+                sourceWords,
+                targetWords,
+                sourceStart + prefix,
+                targetStart + prefix,
+                source,
+                target
+            ));
+        }
+        for (int i = suffix; i > 0; i--) {
+            edits.add(equal(sourceEnd - i, targetEnd - i));
+        }
+    }
+
+    private boolean sameText(int sourceIndex, int targetIndex) {
+        return source.get(sourceIndex).text().equals(target.get(targetIndex).text());
+    }
+
+    private Edit<Token> equal(int sourceIndex, int targetIndex) {
+        String text = source.get(sourceIndex).text();
+        return Edit.builder()
+            .equal(text)
+            .and(text)
+            .atPosition(sourceIndex, targetIndex)
+            .project(source, target);
+    }
+
+    /**
+     * The positions of tokens whose text occurs once on each side, reduced to
+     * the longest sequence increasing on both sides.
+     */
+    static List<int[]> anchors(List<Token> source, List<Token> target) {
+        Map<String, Integer> sourcePositions = uniquePositions(source);
+        Map<String, Integer> targetPositions = uniquePositions(target);
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < source.size(); i++) {
+            String text = source.get(i).text();
+            Integer sourcePosition = sourcePositions.get(text);
+            Integer targetPosition = targetPositions.get(text);
+            if (sourcePosition != null && sourcePosition >= 0
+                && targetPosition != null && targetPosition >= 0) {
+                pairs.add(new int[]{i, targetPosition});
+            }
+        }
+        // longest increasing subsequence of target positions, by patience sorting
+        int[] tails = new int[pairs.size()];
+        int[] previous = new int[pairs.size()];
+        int length = 0;
+        for (int k = 0; k < pairs.size(); k++) {
+            int position = pairs.get(k)[1];
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (pairs.get(tails[middle])[1] < position) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            previous[k] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = k;
+            if (low == length) {
+                length++;
+            }
+        }
+        int[][] anchors = new int[length][];
+        for (int k = length == 0 ? -1 : tails[length - 1], i = length - 1; k >= 0; k = previous[k], i--) {
+            anchors[i] = pairs.get(k);
+        }
+        return Arrays.asList(anchors);
+    }
+
+    /**
+     * Maps each text to its position, or to -1 if it occurs more than once.
+     */
+    private static Map<String, Integer> uniquePositions(List<Token> tokens) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            positions.merge(tokens.get(i).text(), i, (a, b) -> -1);
+        }
+        return positions;
+    }
+
+    /**
+     * The chunk ends: each is the furthest anchor keeping the chunk within the
+     * cell limit, or the next anchor if none does. The last is the end of the
+     * pair.
+     */
+    static List<int[]> cuts(List<int[]> anchors, int sourceSize, int targetSize, long maxCells) {
+        List<int[]> points = new ArrayList<>(anchors);
+        points.add(new int[]{sourceSize, targetSize});
+        List<int[]> cuts = new ArrayList<>();
+        int sourceStart = 0;
+        int targetStart = 0;
+        int[] candidate = null;
+        for (int k = 0; k < points.size(); k++) {
+            int[] point = points.get(k);
+            long cells = (long) (point[0] - sourceStart) * (point[1] - targetStart);
+            if (cells <= maxCells) {
+                candidate = point;
+            } else if (candidate != null) {
+                cuts.add(candidate);
+                sourceStart = candidate[0];
+                targetStart = candidate[1];
+                candidate = null;
+                k--;
+            } else {
+                cuts.add(point);
+                sourceStart = point[0];
+                targetStart = point[1];
+            }
+        }
+        if (candidate != null) {
+            cuts.add(candidate);
+        }
+        return cuts;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.manzurola.errant4j.core;
+
+/**
+ * The steps taken, in order, when annotating a pair would exceed its {@link
+ * AnnotationBudget}. An {@link AnnotationResult} reports the furthest step
+ * applied.
+ */
+public enum Degradation {
+
+    /**
+     * The full pipeline was run.
+     */
+    NONE,
+
+    /**
+     * The pair was split at tokens occurring once on each side, and the
+     * chunks between them aligned separately, so that no alignment exceeds
+     * the cell limit. Edits never cross a split point.
+     */
+    CHUNKED_ALIGNMENT,
+
+    /**
+     * Some chunks were aligned with a cost that only compares lower case
+     * forms, because half of the timeout had passed, or, when a chunk still
+     * exceeded the cell limit, replaced by a single edit between its common
+     * prefix and suffix.
+     */
+    CHEAP_ALIGNMENT,
+
+    /**
+     * The timeout passed before all edits were classified. The remaining edits
+     * have an {@link io.github.manzurola.errant4j.core.errors.ErrorCategory#OTHER}
+     * error.
+     */
+    UNCLASSIFIED
+}
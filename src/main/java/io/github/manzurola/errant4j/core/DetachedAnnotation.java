@@ -0,0 +1,232 @@
+package io.github.manzurola.errant4j.core;
+
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.mark.CharOffset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * A compact copy of an {@link Annotation} that keeps no reference to its
+ * tokens, so the parsed docs of the annotated sentences can be garbage
+ * collected.
+ * <p>
+ * Holds the token spans and character offsets of both sides as ints, the error
+ * and the source and target texts, which may be taken from a {@link
+ * StringPool} so that recurring texts are stored once. A character offset of
+ * -1 means the side has no tokens, or that the offsets are unknown, as for
+ * annotations read back from a file.
+ * <p>
+ * This is the detached form of an annotation used throughout; a {@link
+ * io.github.manzurola.errant4j.core.json.AnnotationRecord} adds the index of
+ * its sentence.
+ */
+public final class DetachedAnnotation {
+
+    private static final int ABSENT = -1;
+
+    private final int sourceStart;
+    private final int sourceEnd;
+    private final int targetStart;
+    private final int targetEnd;
+    private final int sourceCharStart;
+    private final int sourceCharEnd;
+    private final int targetCharStart;
+    private final int targetCharEnd;
+    private final String sourceText;
+    private final String targetText;
+    private final GrammaticalError error;
+
+    private DetachedAnnotation(
+        int sourceStart,
+        int sourceEnd,
+        int targetStart,
+        int targetEnd,
+        int sourceCharStart,
+        int sourceCharEnd,
+        int targetCharStart,
+        int targetCharEnd,
+        String sourceText,
+        String targetText,
+        GrammaticalError error
+    ) {
+        this.sourceStart = sourceStart;
+        this.sourceEnd = sourceEnd;
+        this.targetStart = targetStart;
+        this.targetEnd = targetEnd;
+        this.sourceCharStart = sourceCharStart;
+        this.sourceCharEnd = sourceCharEnd;
+        this.targetCharStart = targetCharStart;
+        this.targetCharEnd = targetCharEnd;
+        this.sourceText = Objects.requireNonNull(sourceText);
+        this.targetText = Objects.requireNonNull(targetText);
+        this.error = Objects.requireNonNull(error);
+    }
+
+    public static DetachedAnnotation of(Annotation annotation, StringPool pool) {
+        return of(annotation, Objects.requireNonNull(pool)::intern);
+    }
+
+    /**
+     * Detach an annotation without pooling its texts.
+     */
+    public static DetachedAnnotation of(Annotation annotation) {
+        return of(annotation, UnaryOperator.identity());
+    }
+
+    private static DetachedAnnotation of(Annotation annotation, UnaryOperator<String> texts) {
+        Optional<CharOffset> source = annotation.sourceCharOffset();
+        Optional<CharOffset> target = annotation.targetCharOffset();
+        return new DetachedAnnotation(
+            annotation.sourcePosition(),
+            annotation.sourcePosition() + annotation.sourceTokens().size(),
+            annotation.targetPosition(),
+            annotation.targetPosition() + annotation.targetTokens().size(),
+            source.map(CharOffset::start).orElse(ABSENT),
+            source.map(CharOffset::end).orElse(ABSENT),
+            target.map(CharOffset::start).orElse(ABSENT),
+            target.map(CharOffset::end).orElse(ABSENT),
+            texts.apply(annotation.sourceText()),
+            texts.apply(annotation.targetText()),
+            annotation.error()
+        );
+    }
+
+    /**
+     * Create an annotation of the given spans, texts and error, with unknown
+     * character offsets. Ends are exclusive.
+     */
+    public static DetachedAnnotation of(
+        int sourceStart,
+        int sourceEnd,
+        int targetStart,
+        int targetEnd,
+        String sourceText,
+        String targetText,
+        GrammaticalError error
+    ) {
+        return new DetachedAnnotation(
+            sourceStart,
+            sourceEnd,
+            targetStart,
+            targetEnd,
+            ABSENT,
+            ABSENT,
+            ABSENT,
+            ABSENT,
+            sourceText,
+            targetText,
+            error
+        );
+    }
+
+    /**
+     * Detach all annotations, sharing texts through the pool.
+     */
+    public static List<DetachedAnnotation> ofAll(List<Annotation> annotations,
+                                                 StringPool pool) {
+        List<DetachedAnnotation> detached = new ArrayList<>(annotations.size());
+        for (Annotation annotation : annotations) {
+            detached.add(of(annotation, pool));
+        }
+        return detached;
+    }
+
+    public final GrammaticalError error() {
+        return error;
+    }
+
+    public final int sourcePosition() {
+        return sourceStart;
+    }
+
+    /**
+     * The exclusive end of the source token span.
+     */
+    public final int sourceEnd() {
+        return sourceEnd;
+    }
+
+    public final String sourceText() {
+        return sourceText;
+    }
+
+    /**
+     * The character offsets of the source tokens, or empty if the edit had no
+     * source tokens.
+     */
+    public final Optional<CharOffset> sourceCharOffset() {
+        return charOffset(sourceCharStart, sourceCharEnd);
+    }
+
+    public final int targetPosition() {
+        return targetStart;
+    }
+
+    /**
+     * The exclusive end of the target token span.
+     */
+    public final int targetEnd() {
+        return targetEnd;
+    }
+
+    public final String targetText() {
+        return targetText;
+    }
+
+    /**
+     * The character offsets of the target tokens, or empty if the edit had no
+     * target tokens.
+     */
+    public final Optional<CharOffset> targetCharOffset() {
+        return charOffset(targetCharStart, targetCharEnd);
+    }
+
+    private static Optional<CharOffset> charOffset(int start, int end) {
+        return start == ABSENT ? Optional.empty() : Optional.of(CharOffset.of(start, end));
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DetachedAnnotation that = (DetachedAnnotation) o;
+        return sourceStart == that.sourceStart &&
+               sourceEnd == that.sourceEnd &&
+               targetStart == that.targetStart &&
+               targetEnd == that.targetEnd &&
+               sourceCharStart == that.sourceCharStart &&
+               sourceCharEnd == that.sourceCharEnd &&
+               targetCharStart == that.targetCharStart &&
+               targetCharEnd == that.targetCharEnd &&
+               sourceText.equals(that.sourceText) &&
+               targetText.equals(that.targetText) &&
+               error == that.error;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(sourceStart, sourceEnd, targetStart, targetEnd, sourceText, targetText, error);
+    }
+
+    @Override
+    public final String toString() {
+        return String.format(
+            "%s, [%d, %d) %s -> [%d, %d) %s",
+            error,
+            sourceStart,
+            sourceEnd,
+            sourceText,
+            targetStart,
+            targetEnd,
+            targetText
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.manzurola.errant4j.core;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The annotations of a document pair, in document positions, with the
+ * sentence alignment they were computed on.
+ */
+public final class DocumentAnnotation {
+
+    private final List<Annotation> annotations;
+    private final List<SentencePair> sentencePairs;
+
+    private DocumentAnnotation(List<Annotation> annotations, List<SentencePair> sentencePairs) {
+        this.annotations = List.copyOf(annotations);
+        this.sentencePairs = List.copyOf(sentencePairs);
+    }
+
+    public static DocumentAnnotation of(List<Annotation> annotations, List<SentencePair> sentencePairs) {
+        return new DocumentAnnotation(annotations, sentencePairs);
+    }
+
+    /**
+     * The annotations of all sentence pairs in order. Token positions are
+     * relative to the documents, and character offsets are those of the
+     * document tokens.
+     */
+    public final List<Annotation> annotations() {
+        return annotations;
+    }
+
+    public final List<SentencePair> sentencePairs() {
+        return sentencePairs;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DocumentAnnotation that = (DocumentAnnotation) o;
+        return annotations.equals(that.annotations) &&
+               sentencePairs.equals(that.sentencePairs);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(annotations, sentencePairs);
+    }
+
+    @Override
+    public final String toString() {
+        return "DocumentAnnotation{" +
+               "annotations=" + annotations +
+               ", sentencePairs=" + sentencePairs +
+               '}';
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.manzurola.errant4j.core;
+
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Annotates whole documents whose sentences may have been split, joined,
+ * inserted or deleted by the correction.
+ * <p>
+ * Both documents are split into sentences, which are aligned by a {@link
+ * SentenceAligner}; each aligned pair is annotated separately on a {@link
+ * LengthAwareScheduler}, so no edit crosses a sentence boundary and the cost
+ * is that of the sentences rather than of the documents. The edits are then
+ * projected back onto the document tokens.
+ */
+public final class DocumentAnnotator {
+
+    private final Annotator annotator;
+    private final LengthAwareScheduler scheduler;
+
+    /**
+     * Create a document annotator running on the common pool. The annotator
+     * must be safe to call from several threads.
+     */
+    public DocumentAnnotator(Annotator annotator) {
+        this(annotator, new LengthAwareScheduler());
+    }
+
+    public DocumentAnnotator(Annotator annotator, LengthAwareScheduler scheduler) {
+        this.annotator = Objects.requireNonNull(annotator);
+        this.scheduler = Objects.requireNonNull(scheduler);
+    }
+
+    /**
+     * Parse and annotate a pair of documents.
+     */
+    public DocumentAnnotation annotate(String source, String target) {
+        return annotate(
+            annotator.parse(source).tokens(),
+            annotator.parse(target).tokens()
+        );
+    }
+
+    public DocumentAnnotation annotate(List<Token> source, List<Token> target) {
+        List<SentencePair> pairs = SentenceAligner.align(
+            source,
+            SentenceSplitter.split(source),
+            target,
+            SentenceSplitter.split(target)
+        );
+        List<List<Annotation>> annotated = scheduler.map(
+            pairs,
+            pair -> LengthAwareScheduler.pairCost(
+                pair.sourceEnd() - pair.sourceStart(),
+                pair.targetEnd() - pair.targetStart()
+            ),
+            pair -> annotate(source, target, pair)
+        );
+        List<Annotation> annotations = new ArrayList<>();
+        for (List<Annotation> sentence : annotated) {
+            annotations.addAll(sentence);
+        }
+        return DocumentAnnotation.of(annotations, pairs);
+    }
+
+    private List<Annotation> annotate(List<Token> source, List<Token> target, SentencePair pair) {
+        List<Annotation> sentence = annotator.annotate(
+            source.subList(pair.sourceStart(), pair.sourceEnd()),
+            target.subList(pair.targetStart(), pair.targetEnd())
+        );
+        List<Annotation> shifted = new ArrayList<>(sentence.size());
+        for (Annotation annotation : sentence) {
+            shifted.add(Annotation.of(
+                Edits.shift(annotation.edit(), pair.sourceStart(), pair.targetStart(), source, target),
+                annotation.error()
+            ));
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.manzurola.errant4j.core;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.List;
+
+/**
+ * Builds token edits projected onto full source and target token lists.
+ */
+final class Edits {
+
+    private Edits() {
+    }
+
+    /**
+     * Project an edit of sublists starting at the given offsets onto the full
+     * lists it was taken from.
+     */
+    static Edit<Token> shift(Edit<Token> edit,
+                             int sourceOffset,
+                             int targetOffset,
+                             List<Token> source,
+                             List<Token> target) {
+        String[] sourceWords = texts(edit.source().tokens());
+        String[] targetWords = texts(edit.target().tokens());
+        int sourcePosition = edit.source().position() + sourceOffset;
+        int targetPosition = edit.target().position() + targetOffset;
+        switch (edit.operation()) {
+            case EQUAL:
+                return Edit.builder()
+                    .equal(sourceWords)
+                    .and(targetWords)
+                    .atPosition(sourcePosition, targetPosition)
+                    .project(source, target);
+            case TRANSPOSE:
+                return Edit.builder()
+                    .transpose(sourceWords)
+                    .to(targetWords)
+                    .atPosition(sourcePosition, targetPosition)
+                    .project(source, target);
+            default:
+                return of(sourceWords, targetWords, sourcePosition, targetPosition, source, target);
+        }
+    }
+
+    /**
+     * An insertion, deletion or substitution, depending on which sides have
+     * words.
+     */
+    static Edit<Token> of(String[] sourceWords,
+                          String[] targetWords,
+                          int sourcePosition,
+                          int targetPosition,
+                          List<Token> source,
+                          List<Token> target) {
+        if (sourceWords.length == 0) {
+            return Edit.builder()
+                .insert(targetWords)
+                .atPosition(sourcePosition, targetPosition)
+                .project(source, target);
+        }
+        if (targetWords.length == 0) {
+            return Edit.builder()
+                .delete(sourceWords)
+                .atPosition(sourcePosition, targetPosition)
+                .project(source, target);
+        }
+        return Edit.builder()
+            .substitute(sourceWords)
+            .with(targetWords)
+            .atPosition(sourcePosition, targetPosition)
+            .project(source, target);
+    }
+
+    static String[] texts(List<Token> tokens) {
+        String[] texts = new String[tokens.size()];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = tokens.get(i).text();
+        }
+        return texts;
+    }
+}
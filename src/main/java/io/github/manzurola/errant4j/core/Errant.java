@@ -1,10 +1,21 @@
 package io.github.manzurola.errant4j.core;
 
+import io.github.manzurola.errant4j.core.parse.Parser;
+import io.github.manzurola.errant4j.core.parse.ParserPool;
+import io.github.manzurola.errant4j.lang.en.EnProfile;
+import io.github.manzurola.errant4j.lang.en.EnResources;
+import io.github.manzurola.errant4j.lang.en.EnWarmUp;
 import io.github.manzurola.errant4j.lang.en.classify.EnClassifier;
 import io.github.manzurola.errant4j.lang.en.merge.EnMerger;
 import io.github.manzurola.spacy4j.api.SpaCy;
+import io.github.manzurola.spacy4j.api.containers.Doc;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -12,11 +23,21 @@ import java.util.function.Function;
  */
 public final class Errant {
 
-    private static final Map<String, Function<SpaCy, Annotator>> annotators;
+    public static final int DEFAULT_WARM_UP_ROUNDS = 50;
+
+    private static final Map<String, Function<Parser, Annotator>> annotators;
+    private static final Map<String, Runnable> resources;
+    private static final Map<String, List<List<String>>> warmUpPairs;
 
     static {
         annotators = Map.of(
-                "en", spaCy -> Annotator.of(spaCy, new EnMerger(), new EnClassifier())
+                "en", parser -> Annotator.of(parser, new EnMerger(), new EnClassifier())
+        );
+        resources = Map.of(
+                "en", EnResources::preload
+        );
+        warmUpPairs = Map.of(
+                "en", EnWarmUp.pairs()
         );
     }
 
@@ -24,15 +45,98 @@ public final class Errant {
     }
 
     public static Annotator newAnnotator(String language, SpaCy spaCy) {
+        return create(language, spaCy == null ? null : Parser.of(spaCy));
+    }
+
+    /**
+     * Create an annotator sharing the instances of a parser pool between
+     * threads. The merger and classifier, and the language resources they
+     * use, are shared by all threads as well.
+     */
+    public static Annotator newAnnotator(String language, ParserPool pool) {
+        return create(language, Objects.requireNonNull(pool));
+    }
+
+    private static Annotator create(String language, Parser parser) {
         if (annotators.containsKey(language)) {
-            return annotators.get(language).apply(spaCy);
+            return annotators.get(language).apply(parser);
         } else {
             throw new IllegalArgumentException(String.format("Unsupported Errant language %s", language));
         }
     }
 
+    /**
+     * Create an annotator for input that is already parsed, e.g. read from a
+     * CoNLL-U file or a doc cache. Its {@link Annotator#parse} method throws
+     * {@link UnsupportedOperationException}.
+     */
+    public static Annotator newAnnotator(String language) {
+        return newAnnotator(language, (SpaCy) null);
+    }
+
     public static Annotator forEnglish(SpaCy spaCy) {
         return newAnnotator("en", spaCy);
     }
 
+    /**
+     * Create an English annotator classifying with the given profile.
+     */
+    public static Annotator forEnglish(EnProfile profile, SpaCy spaCy) {
+        return Annotator.of(spaCy, new EnMerger(), new EnClassifier(profile));
+    }
+
+    /**
+     * Create an English annotator classifying with the given profile, whose
+     * parser is created by the backend for the token features the annotator
+     * requires, see {@link Annotator#requiredFeatures()}. Backends should only
+     * run the components producing those features, e.g. skip the dependency
+     * parser when {@link TokenFeature#DEPENDENCY} is not required. A lambda
+     * backend needs an explicitly typed parameter, since an implicitly typed
+     * one also fits {@link #forEnglish(EnProfile, SpaCy)}.
+     */
+    public static Annotator forEnglish(EnProfile profile,
+                                       Function<Set<TokenFeature>, SpaCy> backend) {
+        Set<TokenFeature> features = forEnglish(profile, (SpaCy) null).requiredFeatures();
+        return forEnglish(profile, backend.apply(features));
+    }
+
+    /**
+     * Warm up an annotator of a language with {@link #DEFAULT_WARM_UP_ROUNDS}
+     * rounds, see {@link #warmUp(String, Annotator, int)}.
+     */
+    public static Duration warmUp(String language, Annotator annotator) {
+        return warmUp(language, annotator, DEFAULT_WARM_UP_ROUNDS);
+    }
+
+    /**
+     * Load the resources of a language and run a built-in workload through the
+     * annotator, so that the first real annotations don't pay for resource
+     * loading, class loading or interpretation. The sentence pairs cover every
+     * classification rule and merge condition of the language; they are parsed
+     * in one {@link Annotator#parseAll(List)} call and annotated {@code rounds}
+     * times. Annotators without a parser, see {@link Annotator#hasParser()},
+     * only load resources.
+     *
+     * @return the time the warm-up took
+     */
+    public static Duration warmUp(String language, Annotator annotator, int rounds) {
+        if (!resources.containsKey(language)) {
+            throw new IllegalArgumentException(String.format("Unsupported Errant language %s", language));
+        }
+        long start = System.nanoTime();
+        resources.get(language).run();
+        if (annotator.hasParser()) {
+            List<String> texts = new ArrayList<>();
+            for (List<String> pair : warmUpPairs.get(language)) {
+                texts.addAll(pair);
+            }
+            List<Doc> docs = annotator.parseAll(texts);
+            for (int round = 0; round < rounds; round++) {
+                for (int i = 0; i < docs.size(); i += 2) {
+                    annotator.annotate(docs.get(i).tokens(), docs.get(i + 1).tokens());
+                }
+            }
+        }
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
 }
@@ -0,0 +1,16 @@
+package io.github.manzurola.errant4j.core;
+
+import java.util.Set;
+
+/**
+ * Declares the token features a pipeline stage reads, so that the parsing
+ * backend can skip the components producing the others.
+ */
+public interface FeatureRequirements {
+
+    /**
+     * The features read by this stage. Features that are not listed may be
+     * missing from the tokens it receives.
+     */
+    Set<TokenFeature> requiredFeatures();
+}
@@ -0,0 +1,111 @@
+package io.github.manzurola.errant4j.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs a batch of items of uneven cost on a work-stealing pool, so that the
+ * batch takes close to its total cost divided by the pool's parallelism.
+ * <p>
+ * Items are sorted by estimated cost, most expensive first. Each item costing
+ * at least a fair share of the batch is dispatched alone; cheaper ones are
+ * grouped into chunks of about that share. Dispatching the longest work first
+ * keeps a few long items from running alone at the end of the batch. Results
+ * are written to their input positions, so they are returned in input order.
+ * <p>
+ * Annotation cost grows with the product of source and target lengths, see
+ * {@link #pairCost(int, int)}.
+ */
+public final class LengthAwareScheduler {
+
+    private static final int CHUNKS_PER_WORKER = 8;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Create a scheduler running on the common pool.
+     */
+    public LengthAwareScheduler() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public LengthAwareScheduler(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * The estimated cost of annotating a pair, the size of its alignment
+     * matrix.
+     */
+    public static long pairCost(int sourceTokens, int targetTokens) {
+        return (long) (sourceTokens + 1) * (targetTokens + 1);
+    }
+
+    /**
+     * Apply the function to all items and return the results in input order.
+     * Blocks until all items are done. If the function throws, the first
+     * exception is rethrown once all items are done.
+     */
+    public <I, O> List<O> map(List<I> items,
+                              ToLongFunction<? super I> cost,
+                              Function<? super I, ? extends O> function) {
+        int size = items.size();
+        long[] costs = new long[size];
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            costs[i] = Math.max(1, cost.applyAsLong(items.get(i)));
+            total += costs[i];
+        }
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong((Integer i) -> costs[i]).reversed());
+
+        long share = Math.max(1, total / ((long) pool.getParallelism() * CHUNKS_PER_WORKER));
+        Object[] results = new Object[size];
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        int start = 0;
+        while (start < size) {
+            int end = start;
+            long chunkCost = 0;
+            while (end < size && (end == start || chunkCost < share)) {
+                chunkCost += costs[order[end]];
+                end++;
+            }
+            int chunkStart = start;
+            int chunkEnd = end;
+            tasks.add(pool.submit(() -> {
+                for (int k = chunkStart; k < chunkEnd; k++) {
+                    int index = order[k];
+                    results[index] = function.apply(items.get(index));
+                }
+            }));
+            start = end;
+        }
+
+        RuntimeException failure = null;
+        for (ForkJoinTask<?> task : tasks) {
+            try {
+                task.join();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        @SuppressWarnings("unchecked")
+        List<O> ordered = (List<O>) Arrays.asList(results);
+        return ordered;
+    }
+}
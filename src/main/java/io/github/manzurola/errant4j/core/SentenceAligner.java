@@ -0,0 +1,235 @@
+package io.github.manzurola.errant4j.core;
+
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aligns the sentences of a document pair by dynamic programming over 1:1,
+ * 1:2, 2:1, 1:0 and 0:1 matches.
+ * <p>
+ * A match costs the number of lower case tokens on either side that have no
+ * counterpart on the other, which grows with both their length difference and
+ * their lack of overlap. Matches of two sentences with one pay a small
+ * penalty, and an unmatched sentence costs its length plus one, so that two
+ * unrelated sentences are matched rather than deleted and inserted. Only cells
+ * within a band around the diagonal are computed, so the time is linear in the
+ * number of sentences for documents of similar structure.
+ */
+final class SentenceAligner {
+
+    private static final double SKIP_PENALTY = 1.0;
+    private static final double MERGE_PENALTY = 2.0;
+    private static final int MIN_BAND = 10;
+
+    private static final byte ONE_ONE = 1;
+    private static final byte ONE_ZERO = 2;
+    private static final byte ZERO_ONE = 3;
+    private static final byte TWO_ONE = 4;
+    private static final byte ONE_TWO = 5;
+
+    private final int[][] source;
+    private final int[][] target;
+    private final int band;
+    private final double[][] costs;
+    private final byte[][] moves;
+
+    private SentenceAligner(int[][] source, int[][] target) {
+        this.source = source;
+        this.target = target;
+        this.band = MIN_BAND + Math.abs(source.length - target.length);
+        this.costs = new double[source.length + 1][2 * band + 1];
+        this.moves = new byte[source.length + 1][2 * band + 1];
+    }
+
+    static List<SentencePair> align(List<Token> sourceTokens,
+                                    List<int[]> sourceSentences,
+                                    List<Token> targetTokens,
+                                    List<int[]> targetSentences) {
+        Map<String, Integer> ids = new HashMap<>();
+        SentenceAligner aligner = new SentenceAligner(
+            bags(sourceTokens, sourceSentences, ids),
+            bags(targetTokens, targetSentences, ids)
+        );
+        aligner.fill();
+        return aligner.pairs(sourceSentences, targetSentences, sourceTokens.size(), targetTokens.size());
+    }
+
+    /**
+     * The sorted lower case token ids of each sentence, ignoring whitespace.
+     */
+    private static int[][] bags(List<Token> tokens, List<int[]> sentences, Map<String, Integer> ids) {
+        int[][] bags = new int[sentences.size()][];
+        for (int s = 0; s < bags.length; s++) {
+            int[] range = sentences.get(s);
+            int[] bag = new int[range[1] - range[0]];
+            int size = 0;
+            for (int i = range[0]; i < range[1]; i++) {
+                Token token = tokens.get(i);
+                if (!token.isWhitespace()) {
+                    Integer id = ids.get(token.lower());
+                    if (id == null) {
+                        id = ids.size();
+                        ids.put(token.lower(), id);
+                    }
+                    bag[size++] = id;
+                }
+            }
+            bag = Arrays.copyOf(bag, size);
+            Arrays.sort(bag);
+            bags[s] = bag;
+        }
+        return bags;
+    }
+
+    private int low(int i) {
+        int center = source.length == 0 ? 0 : (int) ((long) i * target.length / source.length);
+        return center - band;
+    }
+
+    private boolean inBand(int i, int j) {
+        int column = j - low(i);
+        return i >= 0 && j >= 0 && j <= target.length && column >= 0 && column <= 2 * band;
+    }
+
+    private double cost(int i, int j) {
+        return inBand(i, j) ? costs[i][j - low(i)] : Double.POSITIVE_INFINITY;
+    }
+
+    private void fill() {
+        for (int i = 0; i <= source.length; i++) {
+            int low = low(i);
+            for (int column = 0; column <= 2 * band; column++) {
+                int j = low + column;
+                costs[i][column] = Double.POSITIVE_INFINITY;
+                if (j < 0 || j > target.length) {
+                    continue;
+                }
+                if (i == 0 && j == 0) {
+                    costs[i][column] = 0;
+                    continue;
+                }
+                relax(i, column, cost(i - 1, j - 1), ONE_ONE, i > 0 && j > 0 ? match(i - 1, i, j - 1, j) : 0);
+                if (i > 0) {
+                    relax(i, column, cost(i - 1, j), ONE_ZERO, source[i - 1].length + SKIP_PENALTY);
+                }
+                if (j > 0) {
+                    relax(i, column, cost(i, j - 1), ZERO_ONE, target[j - 1].length + SKIP_PENALTY);
+                }
+                if (i > 1 && j > 0) {
+                    relax(i, column, cost(i - 2, j - 1), TWO_ONE, match(i - 2, i, j - 1, j) + MERGE_PENALTY);
+                }
+                if (i > 0 && j > 1) {
+                    relax(i, column, cost(i - 1, j - 2), ONE_TWO, match(i - 1, i, j - 2, j) + MERGE_PENALTY);
+                }
+            }
+        }
+    }
+
+    private void relax(int i, int column, double previous, byte move, double step) {
+        double total = previous + step;
+        if (total < costs[i][column]) {
+            costs[i][column] = total;
+            moves[i][column] = move;
+        }
+    }
+
+    /**
+     * The cost of matching source sentences [sourceStart, sourceEnd) with
+     * target sentences [targetStart, targetEnd).
+     */
+    private double match(int sourceStart, int sourceEnd, int targetStart, int targetEnd) {
+        int[] a = concat(source, sourceStart, sourceEnd);
+        int[] b = concat(target, targetStart, targetEnd);
+        int common = 0;
+        for (int x = 0, y = 0; x < a.length && y < b.length; ) {
+            if (a[x] == b[y]) {
+                common++;
+                x++;
+                y++;
+            } else if (a[x] < b[y]) {
+                x++;
+            } else {
+                y++;
+            }
+        }
+        return a.length + b.length - 2 * common;
+    }
+
+    private static int[] concat(int[][] bags, int start, int end) {
+        if (end - start == 1) {
+            return bags[start];
+        }
+        int[] first = bags[start];
+        int[] second = bags[start + 1];
+        int[] merged = new int[first.length + second.length];
+        for (int x = 0, y = 0, k = 0; k < merged.length; k++) {
+            merged[k] = y >= second.length || (x < first.length && first[x] <= second[y])
+                ? first[x++]
+                : second[y++];
+        }
+        return merged;
+    }
+
+    private List<SentencePair> pairs(List<int[]> sourceSentences,
+                                     List<int[]> targetSentences,
+                                     int sourceSize,
+                                     int targetSize) {
+        List<SentencePair> pairs = new ArrayList<>();
+        int i = source.length;
+        int j = target.length;
+        while (i > 0 || j > 0) {
+            int sourceCount;
+            int targetCount;
+            switch (moves[i][j - low(i)]) {
+                case ONE_ONE:
+                    sourceCount = 1;
+                    targetCount = 1;
+                    break;
+                case ONE_ZERO:
+                    sourceCount = 1;
+                    targetCount = 0;
+                    break;
+                case ZERO_ONE:
+                    sourceCount = 0;
+                    targetCount = 1;
+                    break;
+                case TWO_ONE:
+                    sourceCount = 2;
+                    targetCount = 1;
+                    break;
+                default:
+                    sourceCount = 1;
+                    targetCount = 2;
+            }
+            int sourceStart = start(sourceSentences, i - sourceCount, i, sourceSize);
+            int targetStart = start(targetSentences, j - targetCount, j, targetSize);
+            pairs.add(SentencePair.of(
+                sourceStart,
+                sourceCount == 0 ? sourceStart : sourceSentences.get(i - 1)[1],
+                targetStart,
+                targetCount == 0 ? targetStart : targetSentences.get(j - 1)[1]
+            ));
+            i -= sourceCount;
+            j -= targetCount;
+        }
+        Collections.reverse(pairs);
+        return pairs;
+    }
+
+    /**
+     * The first token of sentences [first, end), or, if there are none, the
+     * token following sentence {@code first - 1}.
+     */
+    private static int start(List<int[]> sentences, int first, int end, int size) {
+        if (first < end) {
+            return sentences.get(first)[0];
+        }
+        return first < sentences.size() ? sentences.get(first)[0] : size;
+    }
+}
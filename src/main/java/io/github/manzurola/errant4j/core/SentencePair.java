@@ -0,0 +1,73 @@
+package io.github.manzurola.errant4j.core;
+
+import java.util.Objects;
+
+/**
+ * The token ranges of aligned source and target sentences in a document pair.
+ * Either side may span two sentences, when a sentence was split or joined, or
+ * none, when a sentence was inserted or deleted. Ends are exclusive.
+ */
+public final class SentencePair {
+
+    private final int sourceStart;
+    private final int sourceEnd;
+    private final int targetStart;
+    private final int targetEnd;
+
+    private SentencePair(int sourceStart, int sourceEnd, int targetStart, int targetEnd) {
+        this.sourceStart = sourceStart;
+        this.sourceEnd = sourceEnd;
+        this.targetStart = targetStart;
+        this.targetEnd = targetEnd;
+    }
+
+    public static SentencePair of(int sourceStart, int sourceEnd, int targetStart, int targetEnd) {
+        if (sourceStart < 0 || sourceEnd < sourceStart || targetStart < 0 || targetEnd < targetStart) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid sentence pair [%d, %d) -> [%d, %d)",
+                sourceStart,
+                sourceEnd,
+                targetStart,
+                targetEnd
+            ));
+        }
+        return new SentencePair(sourceStart, sourceEnd, targetStart, targetEnd);
+    }
+
+    public final int sourceStart() {
+        return sourceStart;
+    }
+
+    public final int sourceEnd() {
+        return sourceEnd;
+    }
+
+    public final int targetStart() {
+        return targetStart;
+    }
+
+    public final int targetEnd() {
+        return targetEnd;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SentencePair that = (SentencePair) o;
+        return sourceStart == that.sourceStart &&
+               sourceEnd == that.sourceEnd &&
+               targetStart == that.targetStart &&
+               targetEnd == that.targetEnd;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(sourceStart, sourceEnd, targetStart, targetEnd);
+    }
+
+    @Override
+    public final String toString() {
+        return String.format("[%d, %d) -> [%d, %d)", sourceStart, sourceEnd, targetStart, targetEnd);
+    }
+}
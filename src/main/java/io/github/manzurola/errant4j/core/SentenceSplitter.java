@@ -0,0 +1,61 @@
+package io.github.manzurola.errant4j.core;
+
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a token list into sentences after sentence-final punctuation and any
+ * closing quotes or brackets following it, and after line breaks.
+ */
+final class SentenceSplitter {
+
+    private static final String TERMINALS = ".!?…";
+    private static final String CLOSERS = "\"')]}»”’";
+
+    private SentenceSplitter() {
+    }
+
+    /**
+     * The token ranges of the sentences as {start, end} pairs, end exclusive.
+     */
+    static List<int[]> split(List<Token> tokens) {
+        List<int[]> sentences = new ArrayList<>();
+        int start = 0;
+        int i = 0;
+        while (i < tokens.size()) {
+            Token token = tokens.get(i);
+            i++;
+            boolean end = false;
+            if (consistsOf(token.text(), TERMINALS)) {
+                while (i < tokens.size() && consistsOf(tokens.get(i).text(), CLOSERS)) {
+                    i++;
+                }
+                end = true;
+            } else if (token.isWhitespace() && token.text().indexOf('\n') >= 0) {
+                end = true;
+            }
+            if (end) {
+                sentences.add(new int[]{start, i});
+                start = i;
+            }
+        }
+        if (start < tokens.size()) {
+            sentences.add(new int[]{start, tokens.size()});
+        }
+        return sentences;
+    }
+
+    private static boolean consistsOf(String text, String characters) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (characters.indexOf(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
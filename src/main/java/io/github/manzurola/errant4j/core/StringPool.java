@@ -0,0 +1,38 @@
+package io.github.manzurola.errant4j.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe pool of canonical strings, so that equal texts held by many
+ * objects share a single instance.
+ * <p>
+ * The pool is unbounded and holds its strings until it is cleared or no longer
+ * referenced. Use one pool per data set.
+ */
+public final class StringPool {
+
+    private final ConcurrentMap<String, String> strings = new ConcurrentHashMap<>();
+
+    /**
+     * The pooled instance equal to the string, adding it if absent.
+     */
+    public String intern(String value) {
+        String pooled = strings.get(value);
+        if (pooled == null) {
+            pooled = strings.putIfAbsent(value, value);
+            if (pooled == null) {
+                pooled = value;
+            }
+        }
+        return pooled;
+    }
+
+    public int size() {
+        return strings.size();
+    }
+
+    public void clear() {
+        strings.clear();
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.manzurola.errant4j.core;
+
+/**
+ * The token features a pipeline stage may read, each produced by a different
+ * component of the parsing backend.
+ */
+public enum TokenFeature {
+
+    /**
+     * Text, whitespace and character offsets, produced by the tokenizer.
+     */
+    TEXT,
+
+    /**
+     * Lemmas, produced by the lemmatizer.
+     */
+    LEMMA,
+
+    /**
+     * Universal part of speech tags.
+     */
+    POS,
+
+    /**
+     * Fine grained, language specific tags.
+     */
+    TAG,
+
+    /**
+     * Dependency labels, heads and children, produced by the dependency
+     * parser.
+     */
+    DEPENDENCY
+}
@@ -0,0 +1,106 @@
+package io.github.manzurola.errant4j.core;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detects, with a linear scan, pairs whose alignment is known without running
+ * the aligner: token-identical pairs, and pairs that differ by a single
+ * inserted or deleted token.
+ * <p>
+ * A single insertion or deletion is only reported when it's the one minimum
+ * cost alignment. Tokens with the same lower case form substitute at no cost,
+ * so the scan matches tokens by lower case form, requires the position of the
+ * extra token to be unambiguous, and requires every matched pair to have the
+ * same text. Anything else is left to the aligner.
+ */
+final class TrivialAlignment {
+
+    private TrivialAlignment() {
+    }
+
+    /**
+     * The edits the token aligner would produce for this pair, or null if the
+     * pair is not trivial.
+     */
+    static List<Edit<Token>> edits(List<Token> source, List<Token> target) {
+        int difference = target.size() - source.size();
+        if (difference < -1 || difference > 1) {
+            return null;
+        }
+        List<Token> shorter = difference < 0 ? target : source;
+        List<Token> longer = difference < 0 ? source : target;
+        int size = shorter.size();
+        int prefix = 0;
+        while (prefix < size && sameLower(shorter.get(prefix), longer.get(prefix))) {
+            prefix++;
+        }
+        if (difference == 0) {
+            return prefix == size && sameText(source, target, 0, 0, size)
+                ? equalEdits(source, target, size, -1)
+                : null;
+        }
+        int suffix = 0;
+        while (suffix < size && sameLower(
+            shorter.get(size - 1 - suffix),
+            longer.get(size - suffix)
+        )) {
+            suffix++;
+        }
+        if (prefix + suffix != size
+            || !sameText(shorter, longer, 0, 0, prefix)
+            || !sameText(shorter, longer, prefix, prefix + 1, size - prefix)) {
+            return null;
+        }
+        List<Edit<Token>> edits = equalEdits(source, target, size, prefix);
+        Edit<Token> edit = difference > 0
+            ? Edit.builder()
+                .insert(target.get(prefix).text())
+                .atPosition(prefix, prefix)
+                .project(source, target)
+            : Edit.builder()
+                .delete(source.get(prefix).text())
+                .atPosition(prefix, prefix)
+                .project(source, target);
+        edits.add(prefix, edit);
+        return edits;
+    }
+
+    private static List<Edit<Token>> equalEdits(List<Token> source,
+                                                List<Token> target,
+                                                int count,
+                                                int gap) {
+        List<Edit<Token>> edits = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            int sourceIndex = gap >= 0 && i >= gap && source.size() > target.size() ? i + 1 : i;
+            int targetIndex = gap >= 0 && i >= gap && target.size() > source.size() ? i + 1 : i;
+            String text = source.get(sourceIndex).text();
+            edits.add(Edit.builder()
+                .equal(text)
+                .and(text)
+                .atPosition(sourceIndex, targetIndex)
+                .project(source, target));
+        }
+        return edits;
+    }
+
+    private static boolean sameText(List<Token> a,
+                                    List<Token> b,
+                                    int aStart,
+                                    int bStart,
+                                    int length) {
+        for (int i = 0; i < length; i++) {
+            if (!a.get(aStart + i).text().equals(b.get(bStart + i).text())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameLower(Token a, Token b) {
+        return a.lower().equals(b.lower());
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.manzurola.errant4j.core.align;
+
+import com.github.manzurola.aligner.metrics.SubstituteCost;
+import com.github.manzurola.aligner.utils.AlignerUtils;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.Comparator;
+
+/**
+ * The {@link TokenSubstituteCost} computed from the columns of a source and a
+ * target {@link TokenSequence}.
+ * <p>
+ * Costs, equality and ordering are answered from the sequence columns whenever
+ * both tokens belong to the sequences, and by {@link TokenSubstituteCost}
+ * otherwise, so the result is always the same as the per-token cost.
+ */
+final class SequenceSubstituteCost implements SubstituteCost<Token> {
+
+    private static final TokenSubstituteCost TOKEN_COST = new TokenSubstituteCost();
+
+    private final TokenSequence source;
+    private final TokenSequence target;
+
+    SequenceSubstituteCost(TokenSequence source, TokenSequence target) {
+        this.source = source;
+        this.target = target;
+    }
+
+    @Override
+    public double getCost(Token sourceToken, Token targetToken) {
+        int s = source.indexOf(sourceToken);
+        int t = target.indexOf(targetToken);
+        if (s < 0 || t < 0) {
+            return TOKEN_COST.getCost(sourceToken, targetToken);
+        }
+        if (source.lower(s) == target.lower(t)) {
+            return 0.0;
+        }
+        return lemmaCost(s, t) + posCost(s, t) + charCost(s, t) + whitespaceCost(s, t);
+    }
+
+    /**
+     * Whether the two tokens have the same text.
+     */
+    boolean equal(Token sourceToken, Token targetToken) {
+        int s = source.indexOf(sourceToken);
+        int t = target.indexOf(targetToken);
+        if (s < 0 || t < 0) {
+            return sourceToken.text().equals(targetToken.text());
+        }
+        return source.text(s) == target.text(t);
+    }
+
+    /**
+     * Orders tokens by their lower case form.
+     */
+    Comparator<Token> lowerOrder() {
+        return (left, right) -> lower(left).compareTo(lower(right));
+    }
+
+    private String lower(Token token) {
+        int index = source.indexOf(token);
+        if (index >= 0) {
+            return source.lowerString(index);
+        }
+        index = target.indexOf(token);
+        if (index >= 0) {
+            return target.lowerString(index);
+        }
+        return token.lower();
+    }
+
+    private double lemmaCost(int s, int t) {
+        return source.lemma(s) == target.lemma(t) ? 0.0 : 0.499;
+    }
+
+    private double posCost(int s, int t) {
+        if (source.pos(s) == target.pos(t)) {
+            return 0;
+        }
+        if (source.isContentWord(s) && target.isContentWord(t)) {
+            return 0.25;
+        }
+        return 0.5;
+    }
+
+    private double charCost(int s, int t) {
+        return AlignerUtils.charEditRatio(source.textString(s), target.textString(t));
+    }
+
+    private double whitespaceCost(int s, int t) {
+        return source.isSpace(s) != target.isSpace(t) ? 2.0 : 0.0;
+    }
+}
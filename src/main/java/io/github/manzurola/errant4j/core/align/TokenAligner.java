@@ -2,26 +2,54 @@ package io.github.manzurola.errant4j.core.align;
 
 import com.github.manzurola.aligner.Aligner;
 import com.github.manzurola.aligner.Alignment;
+import io.github.manzurola.errant4j.core.FeatureRequirements;
+import io.github.manzurola.errant4j.core.TokenFeature;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
-public class TokenAligner implements Aligner<Token> {
+/**
+ * Aligns token lists with a Damerau-Levenshtein aligner using ERRANT's
+ * linguistically informed substitution cost.
+ * <p>
+ * The features read by the cost are copied into a columnar {@link
+ * TokenSequence} once per input list, so the quadratic alignment loop compares
+ * ints instead of dereferencing token fields.
+ */
+public class TokenAligner implements Aligner<Token>, FeatureRequirements {
 
-    private final Aligner<Token> impl;
+    @Override
+    public Set<TokenFeature> requiredFeatures() {
+        return EnumSet.of(TokenFeature.TEXT, TokenFeature.LEMMA, TokenFeature.POS);
+    }
 
-    public TokenAligner() {
-        this.impl = Aligner.damerauLevenshtein(
+    /**
+     * A cheaper aligner whose substitution cost only compares lower case
+     * forms, used when there's no time for the full cost.
+     */
+    public static Aligner<Token> lowerCase() {
+        return Aligner.damerauLevenshtein(
             (source, target) -> source.text().equals(target.text()),
             Comparator.comparing(Token::lower),
-            new TokenSubstituteCost()
+            (source, target) -> source.lower().equals(target.lower()) ? 0.0 : 1.0
         );
     }
 
     @Override
     public Alignment<Token> align(List<Token> source, List<Token> target) {
-        return impl.align(source, target);
+        TokenSequence.Dictionary dictionary = new TokenSequence.Dictionary();
+        SequenceSubstituteCost cost = new SequenceSubstituteCost(
+            TokenSequence.of(source, dictionary),
+            TokenSequence.of(target, dictionary)
+        );
+        return Aligner.damerauLevenshtein(
+            cost::equal,
+            cost.lowerOrder(),
+            cost
+        ).align(source, target);
     }
 
 }
@@ -0,0 +1,135 @@
+package io.github.manzurola.errant4j.core.align;
+
+import io.github.manzurola.errant4j.core.labels.LabelEncoder;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import io.github.manzurola.spacy4j.api.features.Pos;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A columnar copy of the token features read while aligning, built once per
+ * token list.
+ * <p>
+ * Strings are replaced by ids from a {@link Dictionary} shared by the source
+ * and target sequences, so equal texts, lower forms, lemmas and POS labels
+ * have equal ids across both. The POS classes read by the substitution cost
+ * are resolved once per token with the {@link LabelEncoder}. A token is found
+ * by its index relative to the first token and confirmed by identity, so
+ * tokens that are not part of the sequence are never mistaken for ones that
+ * are.
+ */
+final class TokenSequence {
+
+    private final List<Token> tokens;
+    private final int base;
+    private final int[] text;
+    private final int[] lower;
+    private final int[] lemma;
+    private final int[] pos;
+    private final boolean[] contentWord;
+    private final boolean[] space;
+    private final String[] texts;
+    private final String[] lowers;
+
+    private TokenSequence(List<Token> tokens, Dictionary dictionary) {
+        int size = tokens.size();
+        this.tokens = tokens;
+        this.base = size == 0 ? 0 : tokens.get(0).index();
+        this.text = new int[size];
+        this.lower = new int[size];
+        this.lemma = new int[size];
+        this.pos = new int[size];
+        this.contentWord = new boolean[size];
+        this.space = new boolean[size];
+        this.texts = new String[size];
+        this.lowers = new String[size];
+        for (int i = 0; i < size; i++) {
+            Token token = tokens.get(i);
+            String tokenPos = token.pos();
+            texts[i] = token.text();
+            lowers[i] = token.lower();
+            text[i] = dictionary.id(texts[i]);
+            lower[i] = dictionary.id(lowers[i]);
+            lemma[i] = dictionary.id(token.lemma());
+            pos[i] = dictionary.id(tokenPos);
+            contentWord[i] = LabelEncoder.POS.matches(Pos.ADJ, tokenPos)
+                || LabelEncoder.POS.matches(Pos.ADV, tokenPos)
+                || LabelEncoder.POS.matches(Pos.NOUN, tokenPos)
+                || LabelEncoder.POS.matches(Pos.VERB, tokenPos);
+            space[i] = LabelEncoder.POS.matches(Pos.SPACE, tokenPos);
+        }
+    }
+
+    static TokenSequence of(List<Token> tokens, Dictionary dictionary) {
+        return new TokenSequence(tokens, dictionary);
+    }
+
+    int size() {
+        return text.length;
+    }
+
+    /**
+     * The position of the token in this sequence, or -1 if it's not part of it.
+     */
+    int indexOf(Token token) {
+        int index = token.index() - base;
+        return index >= 0 && index < tokens.size() && tokens.get(index) == token ? index : -1;
+    }
+
+    int text(int index) {
+        return text[index];
+    }
+
+    String textString(int index) {
+        return texts[index];
+    }
+
+    int lower(int index) {
+        return lower[index];
+    }
+
+    String lowerString(int index) {
+        return lowers[index];
+    }
+
+    int lemma(int index) {
+        return lemma[index];
+    }
+
+    /**
+     * The dictionary id of the raw POS label.
+     */
+    int pos(int index) {
+        return pos[index];
+    }
+
+    boolean isContentWord(int index) {
+        return contentWord[index];
+    }
+
+    boolean isSpace(int index) {
+        return space[index];
+    }
+
+    /**
+     * Assigns consecutive ids to distinct strings. Null is mapped to -1.
+     */
+    static final class Dictionary {
+
+        private final Map<String, Integer> ids = new HashMap<>();
+
+        int id(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = ids.size();
+                ids.put(value, id);
+            }
+            return id;
+        }
+    }
+}
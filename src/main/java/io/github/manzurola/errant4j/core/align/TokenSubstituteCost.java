@@ -46,9 +46,7 @@ class TokenSubstituteCost implements SubstituteCost<Token> {
     private double whitespaceCost(Token source, Token target) {
         // special treatment for spacy whitespace tokens: penalize word -
         // whitespace substitution
-        if (Pos.SPACE.matches(source.pos()) &&
-            !Pos.SPACE.matches(target.pos()) ||
-            !Pos.SPACE.matches(source.pos()) &&
+        if (Pos.SPACE.matches(source.pos()) !=
             Pos.SPACE.matches(target.pos())) {
             return 2.0;
         }
@@ -0,0 +1,159 @@
+package io.github.manzurola.errant4j.core.classify;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.TokenFeature;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@link Classifier} decorator that caches results by edit signature.
+ * <p>
+ * The signature function must capture every feature the decorated classifier
+ * reads, so that two edits with equal signatures are always classified the
+ * same way. The cache is split into segments, each evicting its least recently
+ * used entry once full, so concurrent callers rarely contend on the same lock.
+ */
+public final class CachingClassifier implements Classifier {
+
+    private static final int SEGMENTS = 16;
+
+    private final Classifier classifier;
+    private final Function<? super Edit<Token>, ?> signature;
+    private final Segment[] segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingClassifier(Classifier classifier,
+                             Function<? super Edit<Token>, ?> signature,
+                             int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Cache size must be positive, got %d",
+                maximumSize
+            ));
+        }
+        this.classifier = Objects.requireNonNull(classifier);
+        this.signature = Objects.requireNonNull(signature);
+        this.segments = new Segment[SEGMENTS];
+        int segmentSize = Math.max(1, maximumSize / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(segmentSize);
+        }
+    }
+
+    @Override
+    public final GrammaticalError classify(Edit<Token> edit) {
+        Object key = signature.apply(edit);
+        Segment segment = segmentFor(key);
+        GrammaticalError error = segment.get(key);
+        if (error != null) {
+            hits.increment();
+            return error;
+        }
+        misses.increment();
+        error = classifier.classify(edit);
+        segment.put(key, error);
+        return error;
+    }
+
+    @Override
+    public final Set<TokenFeature> requiredFeatures() {
+        return classifier.requiredFeatures();
+    }
+
+    public final long hitCount() {
+        return hits.sum();
+    }
+
+    public final long missCount() {
+        return misses.sum();
+    }
+
+    public final long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * The ratio of cache hits to all lookups, or 0 if there were no lookups.
+     */
+    public final double hitRate() {
+        long hitCount = hitCount();
+        long total = hitCount + missCount();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public final int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public final void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public final String toString() {
+        return String.format(
+            "CachingClassifier{size=%d, hits=%d, misses=%d, evictions=%d}",
+            size(),
+            hitCount(),
+            missCount(),
+            evictionCount()
+        );
+    }
+
+    private Segment segmentFor(Object key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (SEGMENTS - 1)];
+    }
+
+    private final class Segment {
+
+        private final LinkedHashMap<Object, GrammaticalError> entries;
+
+        Segment(int maximumSize) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                    Map.Entry<Object, GrammaticalError> eldest
+                ) {
+                    if (size() > maximumSize) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized GrammaticalError get(Object key) {
+            return entries.get(key);
+        }
+
+        synchronized void put(Object key, GrammaticalError error) {
+            entries.put(key, error);
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+}
@@ -1,15 +1,28 @@
 package io.github.manzurola.errant4j.core.classify;
 
 import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.FeatureRequirements;
+import io.github.manzurola.errant4j.core.TokenFeature;
 import io.github.manzurola.errant4j.core.errors.GrammaticalError;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
+import java.util.EnumSet;
+import java.util.Set;
 
-public interface Classifier {
+
+public interface Classifier extends FeatureRequirements {
 
     /**
      * Get the {@link GrammaticalError} for the supplied Edit.
      */
     GrammaticalError classify(Edit<Token> edit);
 
+    /**
+     * All features, unless overridden.
+     */
+    @Override
+    default Set<TokenFeature> requiredFeatures() {
+        return EnumSet.allOf(TokenFeature.class);
+    }
+
 }
@@ -3,6 +3,7 @@ package io.github.manzurola.errant4j.core.classify;
 import com.github.manzurola.aligner.edit.Edit;
 import io.github.manzurola.errant4j.core.errors.ErrorCategory;
 import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.jfr.ClassificationRuleEvent;
 import io.github.manzurola.errant4j.lang.en.classify.rules.common.Predicates;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
@@ -18,7 +19,10 @@ public abstract class RuleBasedClassifier implements Classifier {
         GrammaticalError error = null;
         List<ClassificationRule> rules = getRules();
         for (ClassificationRule classifier : rules) {
+            ClassificationRuleEvent event = new ClassificationRuleEvent();
+            event.begin();
             error = classifier.classify(edit);
+            event.complete(classifier, error);
             if (!error.category().equals(ErrorCategory.OTHER)) {
                 return error;
             }
@@ -0,0 +1,47 @@
+package io.github.manzurola.errant4j.core.eval;
+
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Overall and per error category results of a paired bootstrap test.
+ */
+public final class BootstrapResult {
+
+    private final Significance total;
+    private final Map<ErrorCategory, Significance> byCategory;
+    private final int resamples;
+
+    BootstrapResult(
+        Significance total,
+        Map<ErrorCategory, Significance> byCategory,
+        int resamples
+    ) {
+        this.total = total;
+        this.byCategory = Collections.unmodifiableMap(new EnumMap<>(byCategory));
+        this.resamples = resamples;
+    }
+
+    public final Significance total() {
+        return total;
+    }
+
+    public final Map<ErrorCategory, Significance> byCategory() {
+        return byCategory;
+    }
+
+    public final int resamples() {
+        return resamples;
+    }
+
+    @Override
+    public final String toString() {
+        return "BootstrapResult{" +
+               "total=" + total +
+               ", resamples=" + resamples +
+               '}';
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.manzurola.errant4j.core.eval;
+
+import java.util.Objects;
+
+/**
+ * True positive, false positive and false negative edit counts.
+ */
+public final class EditCounts {
+
+    public static final EditCounts ZERO = new EditCounts(0, 0, 0);
+
+    private final long tp;
+    private final long fp;
+    private final long fn;
+
+    private EditCounts(long tp, long fp, long fn) {
+        this.tp = tp;
+        this.fp = fp;
+        this.fn = fn;
+    }
+
+    public static EditCounts of(long tp, long fp, long fn) {
+        return new EditCounts(tp, fp, fn);
+    }
+
+    public final long tp() {
+        return tp;
+    }
+
+    public final long fp() {
+        return fp;
+    }
+
+    public final long fn() {
+        return fn;
+    }
+
+    public final EditCounts plus(EditCounts other) {
+        return new EditCounts(tp + other.tp, fp + other.fp, fn + other.fn);
+    }
+
+    /**
+     * Precision, defined as 1 when there are no false positives.
+     */
+    public final double precision() {
+        return precision(tp, fp);
+    }
+
+    /**
+     * Recall, defined as 1 when there are no false negatives.
+     */
+    public final double recall() {
+        return recall(tp, fn);
+    }
+
+    public final double fScore(double beta) {
+        return fScore(tp, fp, fn, beta);
+    }
+
+    public final double f05() {
+        return fScore(0.5);
+    }
+
+    static double precision(long tp, long fp) {
+        return fp == 0 ? 1.0 : (double) tp / (tp + fp);
+    }
+
+    static double recall(long tp, long fn) {
+        return fn == 0 ? 1.0 : (double) tp / (tp + fn);
+    }
+
+    static double fScore(long tp, long fp, long fn, double beta) {
+        double p = precision(tp, fp);
+        double r = recall(tp, fn);
+        double beta2 = beta * beta;
+        return p + r == 0 ? 0.0 : (1 + beta2) * p * r / (beta2 * p + r);
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EditCounts that = (EditCounts) o;
+        return tp == that.tp && fp == that.fp && fn == that.fn;
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(tp, fp, fn);
+    }
+
+    @Override
+    public final String toString() {
+        return "EditCounts{" +
+               "tp=" + tp +
+               ", fp=" + fp +
+               ", fn=" + fn +
+               '}';
+    }
+}
@@ -0,0 +1,319 @@
+package io.github.manzurola.errant4j.core.eval;
+
+import io.github.manzurola.errant4j.core.m2.M2Edit;
+import io.github.manzurola.errant4j.core.m2.M2Sentence;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Scores hypothesis edits against reference edits like ERRANT's {@code
+ * errant_compare}.
+ * <p>
+ * For every sentence, each combination of hypothesis and reference coder is
+ * compared independently and in parallel. The best reference is then picked in
+ * sentence order, since ERRANT picks the combination that maximizes the F
+ * score of the running totals, and counts are accumulated for the chosen
+ * combinations only.
+ */
+public final class ErrantScorer {
+
+    private static final String UNK = "UNK";
+    private static final String NA = "NA";
+
+    private final EvalMode mode;
+    private final double beta;
+
+    /**
+     * Create a span-based correction scorer reporting F0.5.
+     */
+    public ErrantScorer() {
+        this(EvalMode.SPAN_CORRECTION, 0.5);
+    }
+
+    public ErrantScorer(EvalMode mode, double beta) {
+        this.mode = Objects.requireNonNull(mode);
+        this.beta = beta;
+    }
+
+    public EvalResult score(List<M2Sentence> hypothesis, List<M2Sentence> reference) {
+        long tp = 0, fp = 0, fn = 0;
+        Map<String, long[]> byType = new HashMap<>();
+        for (Combination best : select(hypothesis, reference)) {
+            if (best == null) {
+                continue;
+            }
+            tp += best.tp;
+            fp += best.fp;
+            fn += best.fn;
+            best.byType.forEach((type, counts) -> {
+                long[] total = byType.computeIfAbsent(type, t -> new long[3]);
+                total[0] += counts[0];
+                total[1] += counts[1];
+                total[2] += counts[2];
+            });
+        }
+        Map<String, EditCounts> types = new HashMap<>();
+        byType.forEach((type, counts) -> types.put(
+            type,
+            EditCounts.of(counts[0], counts[1], counts[2])
+        ));
+        return new EvalResult(EditCounts.of(tp, fp, fn), types, beta);
+    }
+
+    /**
+     * Get the combination chosen for each sentence, or null for sentences that
+     * cannot be annotated.
+     */
+    Combination[] select(List<M2Sentence> hypothesis, List<M2Sentence> reference) {
+        if (hypothesis.size() != reference.size()) {
+            throw new IllegalArgumentException(String.format(
+                "Hypothesis and reference differ in size: %d != %d",
+                hypothesis.size(),
+                reference.size()
+            ));
+        }
+        SentenceComparison[] comparisons = new SentenceComparison[hypothesis.size()];
+        IntStream
+            .range(0, comparisons.length)
+            .parallel()
+            .forEach(i -> comparisons[i] = compare(hypothesis.get(i), reference.get(i)));
+
+        Combination[] selected = new Combination[comparisons.length];
+        long tp = 0, fp = 0, fn = 0;
+        for (int i = 0; i < comparisons.length; i++) {
+            Combination best = comparisons[i].best(tp, fp, fn, beta);
+            if (best != null) {
+                tp += best.tp;
+                fp += best.fp;
+                fn += best.fn;
+            }
+            selected[i] = best;
+        }
+        return selected;
+    }
+
+    /**
+     * Compare all coder combinations of a single sentence.
+     */
+    SentenceComparison compare(M2Sentence hypothesis, M2Sentence reference) {
+        Map<Integer, Map<EditKey, List<String>>> hyp = process(hypothesis.edits());
+        Map<Integer, Map<EditKey, List<String>>> ref = process(reference.edits());
+        if (isNotAnnotatable(ref)) {
+            return new SentenceComparison(List.of());
+        }
+        List<Combination> combinations = new ArrayList<>(hyp.size() * ref.size());
+        for (Map<EditKey, List<String>> hypEdits : hyp.values()) {
+            for (Map<EditKey, List<String>> refEdits : ref.values()) {
+                combinations.add(compareEdits(hypEdits, refEdits));
+            }
+        }
+        return new SentenceComparison(combinations);
+    }
+
+    private boolean isNotAnnotatable(Map<Integer, Map<EditKey, List<String>>> ref) {
+        if (ref.size() != 1) {
+            return false;
+        }
+        Map<EditKey, List<String>> edits = ref.values().iterator().next();
+        return edits.size() == 1 &&
+               NA.equals(edits.values().iterator().next().get(0));
+    }
+
+    private Map<Integer, Map<EditKey, List<String>>> process(List<M2Edit> edits) {
+        if (edits.isEmpty()) {
+            edits = List.of(M2Edit.noop(0));
+        }
+        Map<Integer, Map<EditKey, List<String>>> coders = new LinkedHashMap<>();
+        for (M2Edit edit : edits) {
+            Map<EditKey, List<String>> coder = coders.computeIfAbsent(
+                edit.coder(),
+                c -> new LinkedHashMap<>()
+            );
+            if (!mode.isDetection() && UNK.equals(edit.type())) {
+                continue;
+            }
+            int start = edit.start();
+            int end = edit.end();
+            switch (mode) {
+                case TOKEN_DETECTION:
+                    if (start == -1) {
+                        add(coder, new EditKey(start, start, null, null), edit);
+                    } else if (start == end) {
+                        add(coder, new EditKey(start, start + 1, null, null), edit);
+                    } else {
+                        for (int token = start; token < end; token++) {
+                            add(coder, new EditKey(token, token + 1, null, null), edit);
+                        }
+                    }
+                    break;
+                case SPAN_DETECTION:
+                    add(coder, new EditKey(start, end, null, null), edit);
+                    break;
+                case SPAN_CORRECTION_WITH_TYPE:
+                    add(coder, new EditKey(start, end, edit.type(), edit.correction()), edit);
+                    break;
+                case SPAN_CORRECTION:
+                default:
+                    add(coder, new EditKey(start, end, null, edit.correction()), edit);
+            }
+        }
+        return coders;
+    }
+
+    private void add(Map<EditKey, List<String>> coder, EditKey key, M2Edit edit) {
+        coder.computeIfAbsent(key, k -> new ArrayList<>(1)).add(edit.type());
+    }
+
+    private Combination compareEdits(
+        Map<EditKey, List<String>> hyp,
+        Map<EditKey, List<String>> ref
+    ) {
+        Combination combination = new Combination();
+        hyp.forEach((edit, types) -> {
+            if (M2Edit.NOOP.equals(types.get(0))) {
+                return;
+            }
+            List<String> refTypes = ref.get(edit);
+            if (refTypes != null) {
+                // true positives are counted with the reference types
+                for (String type : refTypes) {
+                    combination.tp++;
+                    combination.count(type, 0);
+                }
+            } else {
+                for (String type : types) {
+                    combination.fp++;
+                    combination.count(type, 1);
+                }
+            }
+        });
+        ref.forEach((edit, types) -> {
+            if (M2Edit.NOOP.equals(types.get(0)) || hyp.containsKey(edit)) {
+                return;
+            }
+            for (String type : types) {
+                combination.fn++;
+                combination.count(type, 2);
+            }
+        });
+        return combination;
+    }
+
+    /**
+     * Round half-even to 4 decimal places, as Python's round does, so that
+     * ties between combinations are broken the same way.
+     */
+    private static double round4(double value) {
+        return new BigDecimal(value).setScale(4, RoundingMode.HALF_EVEN).doubleValue();
+    }
+
+    static final class SentenceComparison {
+
+        private final List<Combination> combinations;
+
+        SentenceComparison(List<Combination> combinations) {
+            this.combinations = combinations;
+        }
+
+        /**
+         * Pick the combination that maximizes the F score of the running
+         * totals, preferring more true positives, then fewer false positives,
+         * then fewer false negatives. Returns null for sentences that cannot
+         * be annotated.
+         */
+        Combination best(long totalTp, long totalFp, long totalFn, double beta) {
+            Combination best = null;
+            long bestTp = 0, bestFp = 0, bestFn = 0;
+            double bestF = -1;
+            for (Combination c : combinations) {
+                double f = round4(EditCounts.fScore(
+                    c.tp + totalTp,
+                    c.fp + totalFp,
+                    c.fn + totalFn,
+                    beta
+                ));
+                if (f > bestF ||
+                    f == bestF && c.tp > bestTp ||
+                    f == bestF && c.tp == bestTp && c.fp < bestFp ||
+                    f == bestF && c.tp == bestTp && c.fp == bestFp && c.fn < bestFn) {
+                    best = c;
+                    bestTp = c.tp;
+                    bestFp = c.fp;
+                    bestFn = c.fn;
+                    bestF = f;
+                }
+            }
+            return best;
+        }
+    }
+
+    static final class Combination {
+
+        private final Map<String, long[]> byType = new HashMap<>();
+        private long tp;
+        private long fp;
+        private long fn;
+
+        private void count(String type, int index) {
+            byType.computeIfAbsent(type, t -> new long[3])[index]++;
+        }
+
+        long tp() {
+            return tp;
+        }
+
+        long fp() {
+            return fp;
+        }
+
+        long fn() {
+            return fn;
+        }
+
+        /**
+         * TP, FP and FN counts per edit type.
+         */
+        Map<String, long[]> byType() {
+            return byType;
+        }
+    }
+
+    private static final class EditKey {
+
+        private final int start;
+        private final int end;
+        private final String type;
+        private final String correction;
+
+        EditKey(int start, int end, String type, String correction) {
+            this.start = start;
+            this.end = end;
+            this.type = type;
+            this.correction = correction;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            EditKey that = (EditKey) o;
+            return start == that.start &&
+                   end == that.end &&
+                   Objects.equals(type, that.type) &&
+                   Objects.equals(correction, that.correction);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end, type, correction);
+        }
+    }
+}
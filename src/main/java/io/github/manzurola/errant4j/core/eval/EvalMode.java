@@ -0,0 +1,35 @@
+package io.github.manzurola.errant4j.core.eval;
+
+/**
+ * The edit matching modes of ERRANT's {@code errant_compare}.
+ */
+public enum EvalMode {
+
+    /**
+     * Edits match on span and correction (the default, {@code -cs}).
+     */
+    SPAN_CORRECTION,
+
+    /**
+     * Edits match on span, correction and error type ({@code -cse}).
+     */
+    SPAN_CORRECTION_WITH_TYPE,
+
+    /**
+     * Edits match on span only ({@code -ds}).
+     */
+    SPAN_DETECTION,
+
+    /**
+     * Edits are split into single tokens which match on position only
+     * ({@code -dt}). Insertions affect the token on their right.
+     */
+    TOKEN_DETECTION;
+
+    /**
+     * Detection modes keep UNK edits, correction modes drop them.
+     */
+    public boolean isDetection() {
+        return this == SPAN_DETECTION || this == TOKEN_DETECTION;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.manzurola.errant4j.core.eval;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * The overall and per error type counts of a scored test set.
+ */
+public final class EvalResult {
+
+    private final EditCounts total;
+    private final Map<String, EditCounts> byType;
+    private final double beta;
+
+    EvalResult(EditCounts total, Map<String, EditCounts> byType, double beta) {
+        this.total = Objects.requireNonNull(total);
+        this.byType = Collections.unmodifiableMap(new TreeMap<>(byType));
+        this.beta = beta;
+    }
+
+    public final EditCounts total() {
+        return total;
+    }
+
+    /**
+     * Counts per edit type, sorted by type.
+     */
+    public final Map<String, EditCounts> byType() {
+        return byType;
+    }
+
+    public final double precision() {
+        return total.precision();
+    }
+
+    public final double recall() {
+        return total.recall();
+    }
+
+    /**
+     * The F score using the beta the test set was scored with.
+     */
+    public final double fScore() {
+        return total.fScore(beta);
+    }
+
+    public final double beta() {
+        return beta;
+    }
+
+    @Override
+    public final String toString() {
+        return String.format(
+            "TP=%d, FP=%d, FN=%d, Prec=%.4f, Rec=%.4f, F%s=%.4f",
+            total.tp(),
+            total.fp(),
+            total.fn(),
+            precision(),
+            recall(),
+            beta,
+            fScore()
+        );
+    }
+}
@@ -0,0 +1,256 @@
+package io.github.manzurola.errant4j.core.eval;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.m2.M2Edit;
+import io.github.manzurola.errant4j.core.m2.M2Sentence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Paired bootstrap resampling for comparing two systems on the same test set.
+ * <p>
+ * Per-sentence TP, FP and FN counts of both systems are computed once, per
+ * {@link ErrorCategory} and in total, using the same reference selection as
+ * {@link ErrantScorer}. Resamples then only sum primitive counts. They are
+ * split across a fork-join pool, and each resample draws from its own
+ * generator seeded from a single root, so results depend on the seed only and
+ * not on the number of threads.
+ * <p>
+ * Edit types are assigned to categories by their tag in this library, such as
+ * {@code R:DETERMINER}, or in ERRANT, such as {@code R:DET}, so reference M2
+ * files written by either are scored per category. Other types count toward
+ * the total only.
+ */
+public final class PairedBootstrap {
+
+    private static final int COUNTS = 6;
+    private static final int TOTAL = ErrorCategory.values().length;
+    private static final int DIMENSIONS = TOTAL + 1;
+    private static final int LEAF_RESAMPLES = 32;
+    private static final Map<String, ErrorCategory> categoriesByTag = categoriesByTag();
+
+    private final ErrantScorer scorer;
+    private final double beta;
+    private final int resamples;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    public PairedBootstrap(int resamples, long seed) {
+        this(EvalMode.SPAN_CORRECTION, 0.5, resamples, seed, ForkJoinPool.commonPool());
+    }
+
+    public PairedBootstrap(
+        EvalMode mode,
+        double beta,
+        int resamples,
+        long seed,
+        ForkJoinPool pool
+    ) {
+        if (resamples < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Resamples must be positive, got %d",
+                resamples
+            ));
+        }
+        this.scorer = new ErrantScorer(mode, beta);
+        this.beta = beta;
+        this.resamples = resamples;
+        this.seed = seed;
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Compare two systems against a single reference, given the annotations
+     * of each sentence.
+     */
+    public BootstrapResult test(
+        List<List<Annotation>> systemA,
+        List<List<Annotation>> systemB,
+        List<List<Annotation>> reference
+    ) {
+        return testM2(toM2(systemA), toM2(systemB), toM2(reference));
+    }
+
+    /**
+     * Compare two systems against a possibly multi-coder reference.
+     */
+    public BootstrapResult testM2(
+        List<M2Sentence> systemA,
+        List<M2Sentence> systemB,
+        List<M2Sentence> reference
+    ) {
+        int sentences = reference.size();
+        int[] counts = new int[sentences * DIMENSIONS * COUNTS];
+        fill(counts, scorer.select(systemA, reference), 0);
+        fill(counts, scorer.select(systemB, reference), 3);
+
+        long[] observed = new long[DIMENSIONS * COUNTS];
+        for (int i = 0; i < counts.length; i++) {
+            observed[i % observed.length] += counts[i];
+        }
+
+        long[] seeds = new long[resamples];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int r = 0; r < resamples; r++) {
+            seeds[r] = root.nextLong();
+        }
+        int[] notBetter = sentences == 0 ?
+                          new int[DIMENSIONS] :
+                          pool.invoke(new Resample(counts, sentences, seeds, 0, resamples));
+
+        Map<ErrorCategory, Significance> byCategory = new EnumMap<>(ErrorCategory.class);
+        for (ErrorCategory category : ErrorCategory.values()) {
+            byCategory.put(
+                category,
+                significance(observed, category.ordinal(), notBetter)
+            );
+        }
+        return new BootstrapResult(
+            significance(observed, TOTAL, notBetter),
+            byCategory,
+            resamples
+        );
+    }
+
+    private Significance significance(long[] observed, int dimension, int[] notBetter) {
+        int base = dimension * COUNTS;
+        return new Significance(
+            EditCounts.fScore(observed[base], observed[base + 1], observed[base + 2], beta),
+            EditCounts.fScore(observed[base + 3], observed[base + 4], observed[base + 5], beta),
+            (double) notBetter[dimension] / resamples
+        );
+    }
+
+    /**
+     * Write the counts of the chosen combinations into the sentence-major
+     * count vector, at the given offset within each dimension.
+     */
+    private void fill(int[] counts, ErrantScorer.Combination[] selected, int offset) {
+        for (int i = 0; i < selected.length; i++) {
+            ErrantScorer.Combination combination = selected[i];
+            if (combination == null) {
+                continue;
+            }
+            int sentence = i * DIMENSIONS * COUNTS;
+            int total = sentence + TOTAL * COUNTS + offset;
+            counts[total] += (int) combination.tp();
+            counts[total + 1] += (int) combination.fp();
+            counts[total + 2] += (int) combination.fn();
+            for (Map.Entry<String, long[]> entry : combination.byType().entrySet()) {
+                ErrorCategory category = categoriesByTag.get(entry.getKey());
+                if (category == null) {
+                    continue;
+                }
+                int index = sentence + category.ordinal() * COUNTS + offset;
+                counts[index] += (int) entry.getValue()[0];
+                counts[index + 1] += (int) entry.getValue()[1];
+                counts[index + 2] += (int) entry.getValue()[2];
+            }
+        }
+    }
+
+    private static List<M2Sentence> toM2(List<List<Annotation>> annotations) {
+        List<M2Sentence> sentences = new ArrayList<>(annotations.size());
+        for (List<Annotation> sentence : annotations) {
+            List<M2Edit> edits = new ArrayList<>(sentence.size());
+            for (Annotation annotation : sentence) {
+                if (!annotation.error().isNone()) {
+                    edits.add(M2Edit.of(annotation, 0));
+                }
+            }
+            sentences.add(M2Sentence.of("", edits));
+        }
+        return sentences;
+    }
+
+    private static Map<String, ErrorCategory> categoriesByTag() {
+        Map<String, ErrorCategory> categories = new HashMap<>();
+        for (GrammaticalError error : GrammaticalError.values()) {
+            categories.putIfAbsent(error.tag(), error.category());
+            categories.putIfAbsent(errantTag(error), error.category());
+        }
+        return categories;
+    }
+
+    /**
+     * The tag ERRANT writes for the error, the category constant name with
+     * colons, e.g. {@code R:NOUN:NUM} for {@link
+     * GrammaticalError#REPLACEMENT_NOUN_NUMBER}.
+     */
+    private static String errantTag(GrammaticalError error) {
+        return String.format(
+            "%s:%s",
+            error.type().tag(),
+            error.category().name().replace('_', ':')
+        );
+    }
+
+    private final class Resample extends RecursiveTask<int[]> {
+
+        private final int[] counts;
+        private final int sentences;
+        private final long[] seeds;
+        private final int from;
+        private final int to;
+
+        Resample(int[] counts, int sentences, long[] seeds, int from, int to) {
+            this.counts = counts;
+            this.sentences = sentences;
+            this.seeds = seeds;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= LEAF_RESAMPLES) {
+                return resample();
+            }
+            int middle = (from + to) >>> 1;
+            Resample left = new Resample(counts, sentences, seeds, from, middle);
+            left.fork();
+            int[] right = new Resample(counts, sentences, seeds, middle, to).compute();
+            int[] result = left.join();
+            for (int d = 0; d < result.length; d++) {
+                result[d] += right[d];
+            }
+            return result;
+        }
+
+        private int[] resample() {
+            int width = DIMENSIONS * COUNTS;
+            long[] sums = new long[width];
+            int[] notBetter = new int[DIMENSIONS];
+            for (int r = from; r < to; r++) {
+                Arrays.fill(sums, 0L);
+                SplittableRandom random = new SplittableRandom(seeds[r]);
+                for (int j = 0; j < sentences; j++) {
+                    int base = random.nextInt(sentences) * width;
+                    for (int k = 0; k < width; k++) {
+                        sums[k] += counts[base + k];
+                    }
+                }
+                for (int d = 0; d < DIMENSIONS; d++) {
+                    int base = d * COUNTS;
+                    double a = EditCounts.fScore(sums[base], sums[base + 1], sums[base + 2], beta);
+                    double b = EditCounts.fScore(sums[base + 3], sums[base + 4], sums[base + 5], beta);
+                    if (b <= a) {
+                        notBetter[d]++;
+                    }
+                }
+            }
+            return notBetter;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.manzurola.errant4j.core.eval;
+
+/**
+ * The outcome of a paired bootstrap test between two systems: the observed F
+ * scores and the estimated probability that system B is not better than
+ * system A.
+ */
+public final class Significance {
+
+    private final double fScoreA;
+    private final double fScoreB;
+    private final double pValue;
+
+    Significance(double fScoreA, double fScoreB, double pValue) {
+        this.fScoreA = fScoreA;
+        this.fScoreB = fScoreB;
+        this.pValue = pValue;
+    }
+
+    public final double fScoreA() {
+        return fScoreA;
+    }
+
+    public final double fScoreB() {
+        return fScoreB;
+    }
+
+    public final double delta() {
+        return fScoreB - fScoreA;
+    }
+
+    /**
+     * The fraction of resamples in which B did not score higher than A.
+     */
+    public final double pValue() {
+        return pValue;
+    }
+
+    public final boolean isSignificant(double alpha) {
+        return pValue < alpha;
+    }
+
+    @Override
+    public final String toString() {
+        return String.format(
+            "F(A)=%.4f, F(B)=%.4f, delta=%.4f, p=%.4f",
+            fScoreA,
+            fScoreB,
+            delta(),
+            pValue
+        );
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.manzurola.errant4j.core.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads sentences from a CoNLL-U file one at a time, as token records that
+ * {@link Docs#of} turns into parsed Docs.
+ * <p>
+ * Comments and empty nodes are skipped, and multiword tokens are read as their
+ * words. FORM, LEMMA, UPOS, XPOS, HEAD and DEPREL are kept; a missing
+ * ({@code _}) lemma falls back to the form and a missing XPOS to an empty tag.
+ * <p>
+ * Universal Dependencies relations are renamed to the spaCy English labels
+ * tested by the English rules where the two schemes have a direct
+ * counterpart, e.g. {@code root} to {@code ROOT}, {@code obj} to {@code dobj},
+ * {@code nsubj:pass} to {@code nsubjpass} and {@code nmod:poss} to {@code
+ * poss}; other relations are kept as is. Relations that differ in structure
+ * rather than name, such as {@code case} and {@code obl} for spaCy's {@code
+ * prep} and {@code pobj}, or copulas, are not converted, so rules testing
+ * those labels don't fire on CoNLL-U input.
+ * <p>
+ * Words are followed by a space unless MISC holds {@code SpaceAfter=No}. The
+ * words of a multiword token are not separated by spaces, and its last word
+ * takes the MISC of the token's range line, so e.g. {@code don't} is read as
+ * {@code do} and {@code n't} without a space in between. Character offsets are
+ * computed from the forms and spaces, starting at 0 for every sentence.
+ */
+public final class ConlluReader implements Iterator<List<TokenRecord>>, Closeable {
+
+    private static final String MISSING = "_";
+    private static final String NO_SPACE_AFTER = "SpaceAfter=No";
+    private static final Map<String, String> RELATIONS = Map.ofEntries(
+        Map.entry("root", "ROOT"),
+        Map.entry("obj", "dobj"),
+        Map.entry("iobj", "dative"),
+        Map.entry("nsubj:pass", "nsubjpass"),
+        Map.entry("csubj:pass", "csubjpass"),
+        Map.entry("aux:pass", "auxpass"),
+        Map.entry("nmod:poss", "poss"),
+        Map.entry("compound:prt", "prt"),
+        Map.entry("det:predet", "predet"),
+        Map.entry("nmod:npmod", "npadvmod"),
+        Map.entry("nmod:tmod", "npadvmod"),
+        Map.entry("obl:npmod", "npadvmod"),
+        Map.entry("obl:tmod", "npadvmod"),
+        Map.entry("flat", "compound"),
+        Map.entry("flat:name", "compound"),
+        Map.entry("discourse", "intj")
+    );
+
+    private final BufferedReader reader;
+    private List<TokenRecord> next;
+    private long lineNumber;
+
+    public ConlluReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    public static ConlluReader open(Path path) throws IOException {
+        return new ConlluReader(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A sequential stream over the remaining sentences.
+     */
+    public Stream<List<TokenRecord>> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readSentence();
+        }
+        return next != null;
+    }
+
+    @Override
+    public List<TokenRecord> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<TokenRecord> sentence = next;
+        next = null;
+        return sentence;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<TokenRecord> readSentence() {
+        try {
+            List<String[]> rows = new ArrayList<>();
+            List<Boolean> spaces = new ArrayList<>();
+            int rangeEnd = 0;
+            boolean rangeSpaceAfter = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    if (rows.isEmpty()) {
+                        continue;
+                    }
+                    break;
+                }
+                if (line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                if (columns.length != 10) {
+                    throw new IllegalArgumentException(String.format(
+                        "Expected 10 columns at line %d, got %d",
+                        lineNumber,
+                        columns.length
+                    ));
+                }
+                int dash = columns[0].indexOf('-');
+                if (dash >= 0) {
+                    rangeEnd = parseId(columns[0].substring(dash + 1));
+                    rangeSpaceAfter = !columns[9].contains(NO_SPACE_AFTER);
+                    continue;
+                }
+                if (columns[0].indexOf('.') >= 0) {
+                    continue;
+                }
+                int id = parseId(columns[0]);
+                boolean spaceAfter = !columns[9].contains(NO_SPACE_AFTER);
+                if (id < rangeEnd) {
+                    spaceAfter = false;
+                } else if (id == rangeEnd) {
+                    spaceAfter = spaceAfter && rangeSpaceAfter;
+                }
+                rows.add(columns);
+                spaces.add(spaceAfter);
+            }
+            return rows.isEmpty() ? null : toRecords(rows, spaces);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<TokenRecord> toRecords(List<String[]> rows, List<Boolean> spaces) {
+        List<TokenRecord> records = new ArrayList<>(rows.size());
+        int offset = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            String[] columns = rows.get(i);
+            String form = columns[1];
+            int head = parseHead(columns[6]);
+            boolean last = i == rows.size() - 1;
+            String whitespace = last || !spaces.get(i) ? "" : " ";
+            records.add(TokenRecord.of(
+                form,
+                whitespace,
+                MISSING.equals(columns[2]) ? form : columns[2],
+                columns[3],
+                MISSING.equals(columns[4]) ? "" : columns[4],
+                RELATIONS.getOrDefault(columns[7], columns[7]),
+                head == 0 ? i : head - 1,
+                offset,
+                offset + form.length()
+            ));
+            offset += form.length() + whitespace.length();
+        }
+        return records;
+    }
+
+    private int parseId(String column) {
+        try {
+            return Integer.parseInt(column);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid id %s at line %d",
+                column,
+                lineNumber
+            ));
+        }
+    }
+
+    private int parseHead(String column) {
+        try {
+            return Integer.parseInt(column);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid head %s before line %d",
+                column,
+                lineNumber
+            ));
+        }
+    }
+}
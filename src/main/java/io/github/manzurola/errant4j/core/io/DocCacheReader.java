@@ -0,0 +1,216 @@
+package io.github.manzurola.errant4j.core.io;
+
+import io.github.manzurola.spacy4j.api.containers.Doc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Reads a cache file written by a {@link DocCacheWriter}.
+ * <p>
+ * The file is memory-mapped and the string dictionary is decoded once, when
+ * opened. Sentences are decoded on demand, by index, so opening a large cache
+ * is fast and sentences can be read from several threads at once.
+ */
+public final class DocCacheReader implements Closeable, Iterable<Doc> {
+
+    private static final int SEGMENT_BITS = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] segments;
+    private final String[] strings;
+    private final long indexOffset;
+    private final int size;
+
+    private DocCacheReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        int segmentCount = (int) ((fileSize + SEGMENT_MASK) >>> SEGMENT_BITS);
+        this.segments = new MappedByteBuffer[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            long start = (long) i << SEGMENT_BITS;
+            segments[i] = channel.map(
+                FileChannel.MapMode.READ_ONLY,
+                start,
+                Math.min(fileSize - start, SEGMENT_MASK + 1)
+            );
+        }
+        if (fileSize < 8 + DocCacheWriter.TRAILER_SIZE
+            || new Cursor(0).readInt() != DocCacheWriter.MAGIC
+            || new Cursor(fileSize - 4).readInt() != DocCacheWriter.MAGIC) {
+            throw new IOException("Not a doc cache file");
+        }
+        int version = new Cursor(4).readInt();
+        if (version != DocCacheWriter.VERSION) {
+            throw new IOException(String.format(
+                "Unsupported doc cache version %d",
+                version
+            ));
+        }
+        Cursor trailer = new Cursor(fileSize - DocCacheWriter.TRAILER_SIZE);
+        long dictionaryOffset = trailer.readLong();
+        this.indexOffset = trailer.readLong();
+        this.size = trailer.readInt();
+        Cursor dictionary = new Cursor(dictionaryOffset);
+        this.strings = new String[dictionary.readVarint()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = dictionary.readString();
+        }
+    }
+
+    public static DocCacheReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new DocCacheReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The number of sentences in the cache.
+     */
+    public int size() {
+        return size;
+    }
+
+    public List<TokenRecord> records(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format(
+                "Index %d out of bounds for size %d",
+                index,
+                size
+            ));
+        }
+        Cursor cursor = new Cursor(new Cursor(indexOffset + 8L * index).readLong());
+        int tokenCount = cursor.readVarint();
+        List<TokenRecord> records = new ArrayList<>(tokenCount);
+        int previousEnd = cursor.readZigZag();
+        for (int i = 0; i < tokenCount; i++) {
+            String text = strings[cursor.readVarint()];
+            String whitespace = strings[cursor.readVarint()];
+            String lemma = strings[cursor.readVarint()];
+            String pos = strings[cursor.readVarint()];
+            String tag = strings[cursor.readVarint()];
+            String dependency = strings[cursor.readVarint()];
+            int head = i + cursor.readZigZag();
+            int charStart = previousEnd + cursor.readZigZag();
+            int charEnd = charStart + cursor.readZigZag();
+            records.add(TokenRecord.of(
+                text,
+                whitespace,
+                lemma,
+                pos,
+                tag,
+                dependency,
+                head,
+                charStart,
+                charEnd
+            ));
+            previousEnd = charEnd;
+        }
+        return records;
+    }
+
+    public Doc get(int index) {
+        return Docs.of(records(index));
+    }
+
+    /**
+     * A stream of all sentences in order. The stream may be made parallel.
+     */
+    public Stream<Doc> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public Iterator<Doc> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Doc next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private byte byteAt(long position) {
+        return segments[(int) (position >>> SEGMENT_BITS)].get((int) (position & SEGMENT_MASK));
+    }
+
+    private final class Cursor {
+
+        private long position;
+
+        Cursor(long position) {
+            this.position = position;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = byteAt(position++);
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+
+        int readZigZag() {
+            int value = readVarint();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        int readInt() {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (byteAt(position++) & 0xFF);
+            }
+            return value;
+        }
+
+        long readLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (byteAt(position++) & 0xFF);
+            }
+            return value;
+        }
+
+        String readString() {
+            byte[] bytes = new byte[readVarint()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = byteAt(position++);
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.manzurola.errant4j.core.io;
+
+import io.github.manzurola.spacy4j.api.containers.Doc;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes parsed sentences to a binary cache file, to be read back with a
+ * {@link DocCacheReader}.
+ * <p>
+ * The file starts with a header, followed by one record per sentence, the
+ * string dictionary, an index of record offsets and a trailer. Every string
+ * (text, whitespace, lemma, POS, tag, dependency) is stored once in the
+ * dictionary and referenced by id. A record holds the token count, the offset
+ * of the first token and, per token, six string ids, the head relative to the token, the gap from the
+ * previous token's end and the token length, all as variable length integers.
+ * Instances are not thread-safe.
+ */
+public final class DocCacheWriter implements Closeable {
+
+    static final int MAGIC = 0x45524443;
+    static final int VERSION = 1;
+    static final int TRAILER_SIZE = 24;
+
+    private final OutputStream out;
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private long[] offsets = new long[1024];
+    private int count;
+    private long position;
+    private byte[] buffer = new byte[1024];
+    private int length;
+
+    private DocCacheWriter(OutputStream out) throws IOException {
+        this.out = out;
+        writeInt(MAGIC);
+        writeInt(VERSION);
+        flushBuffer();
+    }
+
+    public static DocCacheWriter create(Path path) throws IOException {
+        return new DocCacheWriter(new BufferedOutputStream(
+            Files.newOutputStream(path),
+            1 << 16
+        ));
+    }
+
+    public void write(Doc doc) throws IOException {
+        writeTokens(doc.tokens());
+    }
+
+    public void writeTokens(List<Token> tokens) throws IOException {
+        write(TokenRecord.of(tokens));
+    }
+
+    public void write(List<TokenRecord> records) throws IOException {
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = position;
+        writeVarint(records.size());
+        int previousEnd = records.isEmpty() ? 0 : records.get(0).charStart();
+        writeVarint(zigZag(previousEnd));
+        for (int i = 0; i < records.size(); i++) {
+            TokenRecord record = records.get(i);
+            writeVarint(id(record.text()));
+            writeVarint(id(record.whitespace()));
+            writeVarint(id(record.lemma()));
+            writeVarint(id(record.pos()));
+            writeVarint(id(record.tag()));
+            writeVarint(id(record.dependency()));
+            writeVarint(zigZag(record.head() - i));
+            writeVarint(zigZag(record.charStart() - previousEnd));
+            writeVarint(zigZag(record.charEnd() - record.charStart()));
+            previousEnd = record.charEnd();
+        }
+        flushBuffer();
+    }
+
+    /**
+     * The number of sentences written so far.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Write the dictionary, index and trailer, and close the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            long dictionaryOffset = position;
+            writeVarint(strings.size());
+            flushBuffer();
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarint(bytes.length);
+                ensureCapacity(bytes.length);
+                System.arraycopy(bytes, 0, buffer, length, bytes.length);
+                length += bytes.length;
+                flushBuffer();
+            }
+            long indexOffset = position;
+            for (int i = 0; i < count; i++) {
+                writeLong(offsets[i]);
+                flushBuffer();
+            }
+            writeLong(dictionaryOffset);
+            writeLong(indexOffset);
+            writeInt(count);
+            writeInt(MAGIC);
+            flushBuffer();
+        } finally {
+            out.close();
+        }
+    }
+
+    private int id(String string) {
+        Integer id = ids.get(string);
+        if (id == null) {
+            id = strings.size();
+            ids.put(string, id);
+            strings.add(string);
+        }
+        return id;
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private void writeVarint(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[length++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(4);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            buffer[length++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[length++] = (byte) (value >>> shift);
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, length);
+        position += length;
+        length = 0;
+    }
+}
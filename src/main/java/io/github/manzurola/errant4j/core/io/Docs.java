@@ -0,0 +1,40 @@
+package io.github.manzurola.errant4j.core.io;
+
+import io.github.manzurola.spacy4j.api.containers.Doc;
+import io.github.manzurola.spacy4j.api.containers.TokenData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds {@link Doc} objects from token records, without a parser.
+ */
+public final class Docs {
+
+    private Docs() {
+    }
+
+    /**
+     * Create a Doc whose tokens, heads and children match the records, ready
+     * to be passed to {@link io.github.manzurola.errant4j.core.Annotator#annotate}.
+     */
+    public static Doc of(List<TokenRecord> records) {
+        List<TokenData> data = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            TokenRecord record = records.get(i);
+            data.add(TokenData.builder()
+                .text(record.text())
+                .whitespaceAfter(record.whitespace())
+                .lemma(record.lemma())
+                .pos(record.pos())
+                .tag(record.tag())
+                .dependency(record.dependency())
+                .head(record.head())
+                .index(i)
+                .beginOffset(record.charStart())
+                .endOffset(record.charEnd())
+                .build());
+        }
+        return Doc.create(data);
+    }
+}
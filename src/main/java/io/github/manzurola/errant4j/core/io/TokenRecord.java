@@ -0,0 +1,186 @@
+package io.github.manzurola.errant4j.core.io;
+
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The parse of a single token, detached from its {@link
+ * io.github.manzurola.spacy4j.api.containers.Doc}: text, trailing whitespace,
+ * lemma, POS, tag, dependency label, the index of its head and its character
+ * offsets. The root of a sentence is its own head.
+ */
+public final class TokenRecord {
+
+    private final String text;
+    private final String whitespace;
+    private final String lemma;
+    private final String pos;
+    private final String tag;
+    private final String dependency;
+    private final int head;
+    private final int charStart;
+    private final int charEnd;
+
+    private TokenRecord(
+        String text,
+        String whitespace,
+        String lemma,
+        String pos,
+        String tag,
+        String dependency,
+        int head,
+        int charStart,
+        int charEnd
+    ) {
+        this.text = Objects.requireNonNull(text);
+        this.whitespace = Objects.requireNonNull(whitespace);
+        this.lemma = Objects.requireNonNull(lemma);
+        this.pos = Objects.requireNonNull(pos);
+        this.tag = Objects.requireNonNull(tag);
+        this.dependency = Objects.requireNonNull(dependency);
+        this.head = head;
+        this.charStart = charStart;
+        this.charEnd = charEnd;
+    }
+
+    public static TokenRecord of(
+        String text,
+        String whitespace,
+        String lemma,
+        String pos,
+        String tag,
+        String dependency,
+        int head,
+        int charStart,
+        int charEnd
+    ) {
+        return new TokenRecord(
+            text,
+            whitespace,
+            lemma,
+            pos,
+            tag,
+            dependency,
+            head,
+            charStart,
+            charEnd
+        );
+    }
+
+    /**
+     * Detach the tokens of a parsed sentence. Heads are recovered from the
+     * children of each token.
+     */
+    public static List<TokenRecord> of(List<Token> tokens) {
+        int base = tokens.isEmpty() ? 0 : tokens.get(0).index();
+        int[] heads = new int[tokens.size()];
+        for (int i = 0; i < heads.length; i++) {
+            heads[i] = i;
+        }
+        for (Token token : tokens) {
+            for (Token child : token.children()) {
+                heads[child.index() - base] = token.index() - base;
+            }
+        }
+        List<TokenRecord> records = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            records.add(new TokenRecord(
+                token.text(),
+                token.textWithWs().substring(token.text().length()),
+                nullToEmpty(token.lemma()),
+                nullToEmpty(token.pos()),
+                nullToEmpty(token.tag()),
+                nullToEmpty(token.dependency()),
+                heads[i],
+                token.charStart(),
+                token.charEnd()
+            ));
+        }
+        return records;
+    }
+
+    public final String text() {
+        return text;
+    }
+
+    /**
+     * The whitespace following this token, possibly empty.
+     */
+    public final String whitespace() {
+        return whitespace;
+    }
+
+    public final String lemma() {
+        return lemma;
+    }
+
+    public final String pos() {
+        return pos;
+    }
+
+    public final String tag() {
+        return tag;
+    }
+
+    public final String dependency() {
+        return dependency;
+    }
+
+    /**
+     * The index of the head token within the sentence.
+     */
+    public final int head() {
+        return head;
+    }
+
+    public final int charStart() {
+        return charStart;
+    }
+
+    public final int charEnd() {
+        return charEnd;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TokenRecord that = (TokenRecord) o;
+        return head == that.head &&
+               charStart == that.charStart &&
+               charEnd == that.charEnd &&
+               text.equals(that.text) &&
+               whitespace.equals(that.whitespace) &&
+               lemma.equals(that.lemma) &&
+               pos.equals(that.pos) &&
+               tag.equals(that.tag) &&
+               dependency.equals(that.dependency);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(text, whitespace, lemma, pos, tag, dependency, head, charStart, charEnd);
+    }
+
+    @Override
+    public final String toString() {
+        return "TokenRecord{" +
+               "text='" + text + '\'' +
+               ", lemma='" + lemma + '\'' +
+               ", pos='" + pos + '\'' +
+               ", tag='" + tag + '\'' +
+               ", dependency='" + dependency + '\'' +
+               ", head=" + head +
+               ", charStart=" + charStart +
+               ", charEnd=" + charEnd +
+               '}';
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.manzurola.errant4j.core.jfr;
+
+import com.github.manzurola.aligner.Alignment;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.List;
+
+@Name("errant4j.Align")
+@Label("Align")
+@Category("Errant4J")
+@Description("Alignment of source and target tokens")
+public final class AlignEvent extends Event {
+
+    @Label("Source Tokens")
+    private int sourceTokens;
+
+    @Label("Target Tokens")
+    private int targetTokens;
+
+    @Label("Edits")
+    private int edits;
+
+    /**
+     * End the event and commit it if it's enabled and above its threshold.
+     */
+    public void complete(List<?> source, List<?> target, Alignment<?> alignment) {
+        end();
+        if (shouldCommit()) {
+            this.sourceTokens = source.size();
+            this.targetTokens = target.size();
+            this.edits = alignment.edits().size();
+            commit();
+        }
+    }
+}
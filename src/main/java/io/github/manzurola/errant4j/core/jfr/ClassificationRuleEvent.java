@@ -0,0 +1,35 @@
+package io.github.manzurola.errant4j.core.jfr;
+
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("errant4j.ClassificationRule")
+@Label("Classification Rule")
+@Category("Errant4J")
+@Description("Evaluation of a single classification rule")
+@Enabled(false)
+public final class ClassificationRuleEvent extends Event {
+
+    @Label("Rule")
+    private String rule;
+
+    @Label("Error")
+    private String error;
+
+    /**
+     * End the event and commit it if it's enabled and above its threshold.
+     */
+    public void complete(Object rule, GrammaticalError error) {
+        end();
+        if (shouldCommit()) {
+            this.rule = rule.getClass().getSimpleName();
+            this.error = error.tag();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.manzurola.errant4j.core.jfr;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("errant4j.Classify")
+@Label("Classify")
+@Category("Errant4J")
+@Description("Classification of a merged edit")
+public final class ClassifyEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Source Tokens")
+    private int sourceTokens;
+
+    @Label("Target Tokens")
+    private int targetTokens;
+
+    @Label("Error")
+    private String error;
+
+    @Label("Error Category")
+    private String category;
+
+    /**
+     * End the event and commit it if it's enabled and above its threshold.
+     */
+    public void complete(Edit<?> edit, GrammaticalError error) {
+        end();
+        if (shouldCommit()) {
+            this.operation = edit.operation().name();
+            this.sourceTokens = edit.source().size();
+            this.targetTokens = edit.target().size();
+            this.error = error.tag();
+            this.category = error.category().tag();
+            commit();
+        }
+    }
+}
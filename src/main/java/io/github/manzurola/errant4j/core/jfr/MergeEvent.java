@@ -0,0 +1,32 @@
+package io.github.manzurola.errant4j.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("errant4j.Merge")
+@Label("Merge")
+@Category("Errant4J")
+@Description("Merging of aligned edits")
+public final class MergeEvent extends Event {
+
+    @Label("Input Edits")
+    private int inputEdits;
+
+    @Label("Output Edits")
+    private int outputEdits;
+
+    /**
+     * End the event and commit it if it's enabled and above its threshold.
+     */
+    public void complete(int inputEdits, int outputEdits) {
+        end();
+        if (shouldCommit()) {
+            this.inputEdits = inputEdits;
+            this.outputEdits = outputEdits;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.manzurola.errant4j.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("errant4j.MergePass")
+@Label("Merge Pass")
+@Category("Errant4J")
+@Description("A single pass of the merge conditions over the mergeable edits")
+@Enabled(false)
+public final class MergePassEvent extends Event {
+
+    @Label("Pass")
+    private int pass;
+
+    @Label("Input Edits")
+    private int inputEdits;
+
+    @Label("Output Edits")
+    private int outputEdits;
+
+    /**
+     * End the event and commit it if it's enabled and above its threshold.
+     */
+    public void complete(int pass, int inputEdits, int outputEdits) {
+        end();
+        if (shouldCommit()) {
+            this.pass = pass;
+            this.inputEdits = inputEdits;
+            this.outputEdits = outputEdits;
+            commit();
+        }
+    }
+}
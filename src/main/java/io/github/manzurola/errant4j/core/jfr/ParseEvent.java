@@ -0,0 +1,57 @@
+package io.github.manzurola.errant4j.core.jfr;
+
+import io.github.manzurola.spacy4j.api.containers.Doc;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.List;
+
+@Name("errant4j.Parse")
+@Label("Parse")
+@Category("Errant4J")
+@Description("Parsing of a text, or a batch of texts, by the annotator's parser")
+public final class ParseEvent extends Event {
+
+    @Label("Text Length")
+    private int textLength;
+
+    @Label("Tokens")
+    private int tokens;
+
+    @Label("Texts")
+    private int texts;
+
+    /**
+     * End the event and commit it if it's enabled and above its threshold.
+     */
+    public void complete(String text, Doc doc) {
+        end();
+        if (shouldCommit()) {
+            this.textLength = text.length();
+            this.tokens = doc.tokens().size();
+            this.texts = 1;
+            commit();
+        }
+    }
+
+    /**
+     * End the event for a batch of texts, with the summed text length and
+     * tokens, and commit it if it's enabled and above its threshold.
+     */
+    public void complete(List<String> texts, List<Doc> docs) {
+        end();
+        if (shouldCommit()) {
+            for (String text : texts) {
+                this.textLength += text.length();
+            }
+            for (Doc doc : docs) {
+                this.tokens += doc.tokens().size();
+            }
+            this.texts = texts.size();
+            commit();
+        }
+    }
+}
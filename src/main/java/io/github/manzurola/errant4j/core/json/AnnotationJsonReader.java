@@ -0,0 +1,440 @@
+package io.github.manzurola.errant4j.core.json;
+
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the records written by an {@link AnnotationJsonWriter}, one at a time.
+ * <p>
+ * Input is parsed straight from a byte buffer refilled from the channel, so
+ * lines of any length are read without being materialized as strings. Field
+ * order is free and unknown fields are skipped. Failure lines and records
+ * missing a required field are rejected with an {@link
+ * IllegalArgumentException}.
+ */
+public final class AnnotationJsonReader implements Iterator<AnnotationRecord>, Closeable {
+
+    private static final byte[][] FIELDS = {
+        ascii("sentence"),
+        ascii("source_start"),
+        ascii("source_end"),
+        ascii("target_start"),
+        ascii("target_end"),
+        ascii("source"),
+        ascii("target"),
+        ascii("error"),
+        ascii("char_start"),
+        ascii("char_end"),
+        ascii("failure")
+    };
+    private static final int SENTENCE = 0;
+    private static final int SOURCE_START = 1;
+    private static final int SOURCE_END = 2;
+    private static final int TARGET_START = 3;
+    private static final int TARGET_END = 4;
+    private static final int SOURCE = 5;
+    private static final int TARGET = 6;
+    private static final int ERROR = 7;
+    private static final int CHAR_START = 8;
+    private static final int CHAR_END = 9;
+    private static final int FAILURE = 10;
+    private static final int REQUIRED = 0b11111110;
+    private static final Map<String, GrammaticalError> ERRORS = new HashMap<>();
+
+    static {
+        for (GrammaticalError error : GrammaticalError.values()) {
+            ERRORS.put(error.tag(), error);
+        }
+    }
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer input = ByteBuffer.allocate(1 << 16).limit(0);
+    private byte[] scratch = new byte[256];
+    private int scratchLength;
+    private long line = 1;
+    private AnnotationRecord next;
+
+    public AnnotationJsonReader(ReadableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public AnnotationJsonReader(InputStream in) {
+        this(Channels.newChannel(in));
+    }
+
+    public static AnnotationJsonReader open(Path path) throws IOException {
+        return new AnnotationJsonReader(FileChannel.open(path, StandardOpenOption.READ));
+    }
+
+    /**
+     * A sequential stream over the remaining records.
+     */
+    public Stream<AnnotationRecord> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public AnnotationRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        AnnotationRecord record = next;
+        next = null;
+        return record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private AnnotationRecord readRecord() throws IOException {
+        if (skipWhitespace() < 0) {
+            return null;
+        }
+        expect('{');
+        int[] ints = {AnnotationRecord.ABSENT, 0, 0, 0, 0, 0, 0, 0,
+            AnnotationRecord.ABSENT, AnnotationRecord.ABSENT};
+        String source = null;
+        String target = null;
+        GrammaticalError error = null;
+        String failure = null;
+        int present = 0;
+        if (skipWhitespace() == '}') {
+            read();
+        } else {
+            do {
+                skipWhitespace();
+                readStringBytes();
+                int field = field();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+                switch (field) {
+                    case SOURCE:
+                        source = readString();
+                        break;
+                    case TARGET:
+                        target = readString();
+                        break;
+                    case ERROR:
+                        String tag = readString();
+                        error = ERRORS.get(tag);
+                        if (error == null) {
+                            throw invalid("Unknown error tag " + tag);
+                        }
+                        break;
+                    case FAILURE:
+                        failure = readString();
+                        break;
+                    case -1:
+                        skipValue();
+                        break;
+                    default:
+                        ints[field] = readInt();
+                }
+                if (field >= 0) {
+                    present |= 1 << field;
+                }
+            } while (endOfMember());
+        }
+        if (failure != null) {
+            throw invalid("Sentence " + ints[SENTENCE] + " failed: " + failure);
+        }
+        if ((present & REQUIRED) != REQUIRED) {
+            throw invalid("Missing required fields");
+        }
+        return AnnotationRecord.of(
+            ints[SENTENCE],
+            ints[SOURCE_START],
+            ints[SOURCE_END],
+            ints[TARGET_START],
+            ints[TARGET_END],
+            source,
+            target,
+            error,
+            ints[CHAR_START],
+            ints[CHAR_END]
+        );
+    }
+
+    private boolean endOfMember() throws IOException {
+        int c = skipWhitespace();
+        read();
+        if (c == ',') {
+            return true;
+        }
+        if (c == '}') {
+            return false;
+        }
+        throw invalid("Expected , or }");
+    }
+
+    private int field() {
+        for (int i = 0; i < FIELDS.length; i++) {
+            if (Arrays.equals(FIELDS[i], 0, FIELDS[i].length, scratch, 0, scratchLength)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int readInt() throws IOException {
+        boolean negative = peek() == '-';
+        if (negative) {
+            read();
+        }
+        if (peek() < '0' || peek() > '9') {
+            throw invalid("Expected a number");
+        }
+        long value = 0;
+        while (peek() >= '0' && peek() <= '9') {
+            value = value * 10 + (read() - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                throw invalid("Number out of range");
+            }
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private String readString() throws IOException {
+        readStringBytes();
+        return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a string into the scratch buffer as UTF-8, resolving escapes.
+     */
+    private void readStringBytes() throws IOException {
+        expect('"');
+        scratchLength = 0;
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw invalid("Unterminated string");
+            }
+            if (c == '"') {
+                return;
+            }
+            if (c != '\\') {
+                append(c);
+                continue;
+            }
+            int escaped = read();
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    append(escaped);
+                    break;
+                case 'b':
+                    append('\b');
+                    break;
+                case 'f':
+                    append('\f');
+                    break;
+                case 'n':
+                    append('\n');
+                    break;
+                case 'r':
+                    append('\r');
+                    break;
+                case 't':
+                    append('\t');
+                    break;
+                case 'u':
+                    appendCodePoint(readUnicodeEscape());
+                    break;
+                default:
+                    throw invalid("Invalid escape");
+            }
+        }
+    }
+
+    private int readUnicodeEscape() throws IOException {
+        char c = readHex();
+        if (Character.isHighSurrogate(c) && peek() == '\\') {
+            read();
+            expect('u');
+            char low = readHex();
+            if (!Character.isLowSurrogate(low)) {
+                throw invalid("Unpaired surrogate");
+            }
+            return Character.toCodePoint(c, low);
+        }
+        return c;
+    }
+
+    private char readHex() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(read(), 16);
+            if (digit < 0) {
+                throw invalid("Invalid unicode escape");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    private void appendCodePoint(int codePoint) {
+        if (codePoint < 0x80) {
+            append(codePoint);
+        } else if (codePoint < 0x800) {
+            append(0xC0 | (codePoint >> 6));
+            append(0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            append(0xE0 | (codePoint >> 12));
+            append(0x80 | ((codePoint >> 6) & 0x3F));
+            append(0x80 | (codePoint & 0x3F));
+        } else {
+            append(0xF0 | (codePoint >> 18));
+            append(0x80 | ((codePoint >> 12) & 0x3F));
+            append(0x80 | ((codePoint >> 6) & 0x3F));
+            append(0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void append(int b) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratch.length * 2);
+        }
+        scratch[scratchLength++] = (byte) b;
+    }
+
+    private void skipValue() throws IOException {
+        int c = peek();
+        if (c == '"') {
+            readStringBytes();
+        } else if (c == '{' || c == '[') {
+            int close = c == '{' ? '}' : ']';
+            read();
+            if (skipWhitespace() == close) {
+                read();
+                return;
+            }
+            do {
+                skipWhitespace();
+                if (c == '{') {
+                    readStringBytes();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+                }
+                skipValue();
+                c = skipWhitespace();
+                read();
+            } while (c == ',');
+            if (c != close) {
+                throw invalid("Unbalanced " + (char) close);
+            }
+        } else {
+            int length = 0;
+            while (isScalarByte(peek())) {
+                read();
+                length++;
+            }
+            if (length == 0) {
+                throw invalid("Expected a value");
+            }
+        }
+    }
+
+    private static boolean isScalarByte(int c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || c == '-' || c == '+' || c == '.'
+            || c == 'E';
+    }
+
+    private void expect(char expected) throws IOException {
+        if (read() != expected) {
+            throw invalid("Expected " + expected);
+        }
+    }
+
+    /**
+     * Skip whitespace and return the next byte without consuming it, or -1 at
+     * the end of input.
+     */
+    private int skipWhitespace() throws IOException {
+        int c;
+        while ((c = peek()) == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            read();
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (!input.hasRemaining() && !fill()) {
+            return -1;
+        }
+        return input.get(input.position()) & 0xFF;
+    }
+
+    private int read() throws IOException {
+        if (!input.hasRemaining() && !fill()) {
+            return -1;
+        }
+        int c = input.get() & 0xFF;
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private boolean fill() throws IOException {
+        input.clear();
+        int read;
+        do {
+            read = channel.read(input);
+        } while (read == 0);
+        input.flip();
+        return read > 0;
+    }
+
+    private IllegalArgumentException invalid(String message) {
+        return new IllegalArgumentException(String.format(
+            "%s at line %d",
+            message,
+            line
+        ));
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
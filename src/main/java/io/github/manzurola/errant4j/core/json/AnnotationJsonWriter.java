@@ -0,0 +1,306 @@
+package io.github.manzurola.errant4j.core.json;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.DetachedAnnotation;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.mark.CharOffset;
+import io.github.manzurola.errant4j.core.mark.MarkedError;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Writes annotations as JSON Lines, one object per annotation:
+ * <pre>
+ * {"sentence":0,"source_start":1,"source_end":2,"target_start":1,"target_end":2,
+ *  "source":"go","target":"went","error":"R:VERB:TENSE","char_start":2,"char_end":4}
+ * </pre>
+ * {@code sentence}, {@code char_start} and {@code char_end} are omitted when
+ * unknown. Objects are encoded straight into a reusable byte buffer, which is
+ * written to the channel once full or on {@link #flush()}. Error tags are
+ * encoded once per JVM. Instances are not thread-safe.
+ */
+public final class AnnotationJsonWriter implements Flushable, Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[][] ERROR_TAGS = new byte[GrammaticalError.values().length][];
+    private static final byte[] SENTENCE = ascii("{\"sentence\":");
+    private static final byte[] SOURCE_START_FIRST = ascii("{\"source_start\":");
+    private static final byte[] SOURCE_START = ascii(",\"source_start\":");
+    private static final byte[] SOURCE_END = ascii(",\"source_end\":");
+    private static final byte[] TARGET_START = ascii(",\"target_start\":");
+    private static final byte[] TARGET_END = ascii(",\"target_end\":");
+    private static final byte[] SOURCE = ascii(",\"source\":");
+    private static final byte[] TARGET = ascii(",\"target\":");
+    private static final byte[] ERROR = ascii(",\"error\":");
+    private static final byte[] CHAR_START = ascii(",\"char_start\":");
+    private static final byte[] CHAR_END = ascii(",\"char_end\":");
+    private static final byte[] FAILURE = ascii(",\"failure\":");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    static {
+        for (GrammaticalError error : GrammaticalError.values()) {
+            AnnotationJsonWriter writer = new AnnotationJsonWriter(null, 64);
+            writer.writeString(error.tag());
+            ERROR_TAGS[error.ordinal()] = Arrays.copyOf(writer.buffer, writer.length);
+        }
+    }
+
+    private final WritableByteChannel channel;
+    private byte[] buffer;
+    private int length;
+
+    private AnnotationJsonWriter(WritableByteChannel channel, int bufferSize) {
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+    }
+
+    public AnnotationJsonWriter(WritableByteChannel channel) {
+        this(channel, BUFFER_SIZE);
+    }
+
+    public AnnotationJsonWriter(OutputStream out) {
+        this(Channels.newChannel(out));
+    }
+
+    /**
+     * Write an annotation with the char offsets of its source tokens.
+     */
+    public void write(int sentence, Annotation annotation) throws IOException {
+        Optional<CharOffset> offset = annotation.sourceCharOffset();
+        write(
+            sentence,
+            annotation,
+            offset.map(CharOffset::start).orElse(AnnotationRecord.ABSENT),
+            offset.map(CharOffset::end).orElse(AnnotationRecord.ABSENT)
+        );
+    }
+
+    /**
+     * Write an annotation with the char offsets of its marked error.
+     */
+    public void write(int sentence, Annotation annotation, MarkedError marked) throws IOException {
+        write(sentence, annotation, marked.charStart(), marked.çharEnd());
+    }
+
+    public void write(AnnotationRecord record) throws IOException {
+        DetachedAnnotation annotation = record.annotation();
+        writeObject(
+            record.sentence(),
+            annotation.sourcePosition(),
+            annotation.sourceEnd(),
+            annotation.targetPosition(),
+            annotation.targetEnd(),
+            annotation.sourceText(),
+            annotation.targetText(),
+            annotation.error(),
+            record.charStart(),
+            record.charEnd()
+        );
+    }
+
+    /**
+     * Write a line reporting that a sentence could not be annotated. Such
+     * lines are rejected by {@link AnnotationJsonReader}.
+     */
+    public void writeFailure(int sentence, String message) throws IOException {
+        writeBytes(SENTENCE);
+        writeInt(sentence);
+        writeBytes(FAILURE);
+        writeString(message);
+        endLine();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer, 0, length);
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        length = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void write(
+        int sentence,
+        Annotation annotation,
+        int charStart,
+        int charEnd
+    ) throws IOException {
+        int sourceStart = annotation.sourcePosition();
+        int targetStart = annotation.targetPosition();
+        writeObject(
+            sentence,
+            sourceStart,
+            sourceStart + annotation.sourceTokens().size(),
+            targetStart,
+            targetStart + annotation.targetTokens().size(),
+            annotation.sourceText(),
+            annotation.targetText(),
+            annotation.error(),
+            charStart,
+            charEnd
+        );
+    }
+
+    private void writeObject(
+        int sentence,
+        int sourceStart,
+        int sourceEnd,
+        int targetStart,
+        int targetEnd,
+        String source,
+        String target,
+        GrammaticalError error,
+        int charStart,
+        int charEnd
+    ) throws IOException {
+        if (sentence != AnnotationRecord.ABSENT) {
+            writeBytes(SENTENCE);
+            writeInt(sentence);
+            writeBytes(SOURCE_START);
+        } else {
+            writeBytes(SOURCE_START_FIRST);
+        }
+        writeInt(sourceStart);
+        writeBytes(SOURCE_END);
+        writeInt(sourceEnd);
+        writeBytes(TARGET_START);
+        writeInt(targetStart);
+        writeBytes(TARGET_END);
+        writeInt(targetEnd);
+        writeBytes(SOURCE);
+        writeString(source);
+        writeBytes(TARGET);
+        writeString(target);
+        writeBytes(ERROR);
+        writeBytes(ERROR_TAGS[error.ordinal()]);
+        if (charStart != AnnotationRecord.ABSENT) {
+            writeBytes(CHAR_START);
+            writeInt(charStart);
+            writeBytes(CHAR_END);
+            writeInt(charEnd);
+        }
+        endLine();
+    }
+
+    private void endLine() throws IOException {
+        ensureCapacity(2);
+        buffer[length++] = '}';
+        buffer[length++] = '\n';
+        if (length >= BUFFER_SIZE) {
+            flush();
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void writeInt(int value) {
+        ensureCapacity(11);
+        if (value < 0) {
+            if (value == Integer.MIN_VALUE) {
+                writeBytes(ascii(Integer.toString(value)));
+                return;
+            }
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = length + digits - 1; i >= length; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    private void writeString(String value) {
+        ensureCapacity(value.length() * 6 + 2);
+        buffer[length++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                buffer[length++] = (byte) c;
+            } else if (c < 0x80) {
+                writeEscaped(c);
+            } else if (c < 0x800) {
+                buffer[length++] = (byte) (0xC0 | (c >> 6));
+                buffer[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c)
+                && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                writeEscaped(c);
+            } else {
+                buffer[length++] = (byte) (0xE0 | (c >> 12));
+                buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[length++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        buffer[length++] = '"';
+    }
+
+    private void writeEscaped(char c) {
+        buffer[length++] = '\\';
+        switch (c) {
+            case '"':
+                buffer[length++] = '"';
+                break;
+            case '\\':
+                buffer[length++] = '\\';
+                break;
+            case '\n':
+                buffer[length++] = 'n';
+                break;
+            case '\r':
+                buffer[length++] = 'r';
+                break;
+            case '\t':
+                buffer[length++] = 't';
+                break;
+            default:
+                buffer[length++] = 'u';
+                buffer[length++] = HEX[(c >> 12) & 0xF];
+                buffer[length++] = HEX[(c >> 8) & 0xF];
+                buffer[length++] = HEX[(c >> 4) & 0xF];
+                buffer[length++] = HEX[c & 0xF];
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.manzurola.errant4j.core.json;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.DetachedAnnotation;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.mark.CharOffset;
+import io.github.manzurola.errant4j.core.mark.MarkedError;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A single line of a JSON Lines annotation file: a {@link DetachedAnnotation}
+ * with the index of its sentence and the character offsets written with it,
+ * those of its source text or of its marked error, when known.
+ */
+public final class AnnotationRecord {
+
+    static final int ABSENT = -1;
+
+    private final int sentence;
+    private final DetachedAnnotation annotation;
+    private final int charStart;
+    private final int charEnd;
+
+    private AnnotationRecord(
+        int sentence,
+        DetachedAnnotation annotation,
+        int charStart,
+        int charEnd
+    ) {
+        this.sentence = sentence;
+        this.annotation = Objects.requireNonNull(annotation);
+        this.charStart = charStart;
+        this.charEnd = charEnd;
+    }
+
+    /**
+     * Create a record. Pass -1 for an unknown sentence or char offset.
+     */
+    public static AnnotationRecord of(
+        int sentence,
+        int sourceStart,
+        int sourceEnd,
+        int targetStart,
+        int targetEnd,
+        String source,
+        String target,
+        GrammaticalError error,
+        int charStart,
+        int charEnd
+    ) {
+        return new AnnotationRecord(
+            sentence,
+            DetachedAnnotation.of(sourceStart, sourceEnd, targetStart, targetEnd, source, target, error),
+            charStart,
+            charEnd
+        );
+    }
+
+    /**
+     * Create a record of a detached annotation, with the char offsets of its
+     * source tokens.
+     */
+    public static AnnotationRecord of(int sentence, DetachedAnnotation annotation) {
+        Optional<CharOffset> offset = annotation.sourceCharOffset();
+        return new AnnotationRecord(
+            sentence,
+            annotation,
+            offset.map(CharOffset::start).orElse(ABSENT),
+            offset.map(CharOffset::end).orElse(ABSENT)
+        );
+    }
+
+    /**
+     * Create a record of an annotation, with the char offsets of its source
+     * tokens.
+     */
+    public static AnnotationRecord of(int sentence, Annotation annotation) {
+        return of(sentence, DetachedAnnotation.of(annotation));
+    }
+
+    /**
+     * Create a record of an annotation, with the char offsets of its marked
+     * error.
+     */
+    public static AnnotationRecord of(int sentence, Annotation annotation, MarkedError marked) {
+        return new AnnotationRecord(
+            sentence,
+            DetachedAnnotation.of(annotation),
+            marked.charStart(),
+            marked.çharEnd()
+        );
+    }
+
+    /**
+     * The index of the sentence, or -1 if unknown.
+     */
+    public final int sentence() {
+        return sentence;
+    }
+
+    public final DetachedAnnotation annotation() {
+        return annotation;
+    }
+
+    /**
+     * The char offsets written with the annotation, or empty if unknown.
+     */
+    public final Optional<CharOffset> charOffset() {
+        return charStart == ABSENT ? Optional.empty() : Optional.of(CharOffset.of(charStart, charEnd));
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AnnotationRecord that = (AnnotationRecord) o;
+        return sentence == that.sentence &&
+               charStart == that.charStart &&
+               charEnd == that.charEnd &&
+               annotation.equals(that.annotation);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(sentence, annotation, charStart, charEnd);
+    }
+
+    @Override
+    public final String toString() {
+        return "AnnotationRecord{" +
+               "sentence=" + sentence +
+               ", annotation=" + annotation +
+               ", charStart=" + charStart +
+               ", charEnd=" + charEnd +
+               '}';
+    }
+
+    final int charStart() {
+        return charStart;
+    }
+
+    final int charEnd() {
+        return charEnd;
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.manzurola.errant4j.core.labels;
+
+import io.github.manzurola.spacy4j.api.features.Dependency;
+import io.github.manzurola.spacy4j.api.features.Pos;
+import io.github.manzurola.spacy4j.api.features.Tag;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Encodes POS, tag and dependency label strings as small ints, once per
+ * distinct label.
+ * <p>
+ * Each label is resolved to the enum constants it matches and to a canonical
+ * ordinal, and the result is memoized in a concurrent map. A lookup hashes and
+ * compares the label, so it costs about as much as the single string compare
+ * of a constant's own {@code matches} method and only pays off when its result
+ * replaces several: when a token list is encoded once and read many times, as
+ * the aligner's token sequence does, or when labels are folded into a set of
+ * constants. Single label tests should use the constant's {@code matches}.
+ * {@link #matches(Enum, String)} is equivalent to it. Bits for label sets have
+ * bit 0 reserved for labels without a canonical constant, so sets built with
+ * {@link #bit(String)} compare the same way as the sets of canonical constants
+ * they stand for.
+ */
+public final class LabelEncoder<E extends Enum<E>> {
+
+    /**
+     * POS labels, with {@link Pos#ofTag(String)} as the canonical constant.
+     */
+    public static final LabelEncoder<Pos> POS = new LabelEncoder<>(
+        Pos.class,
+        Pos::matches,
+        Pos::ofTag
+    );
+
+    public static final LabelEncoder<Tag> TAG = new LabelEncoder<>(
+        Tag.class,
+        Tag::matches,
+        null
+    );
+
+    public static final LabelEncoder<Dependency> DEPENDENCY = new LabelEncoder<>(
+        Dependency.class,
+        Dependency::matches,
+        null
+    );
+
+    private static final Encoded UNKNOWN = new Encoded(-1, new boolean[0]);
+
+    private final E[] values;
+    private final BiPredicate<E, String> matcher;
+    private final Function<String, E> canonical;
+    private final ConcurrentMap<String, Encoded> labels = new ConcurrentHashMap<>();
+
+    /**
+     * @param canonical maps a label to its canonical constant, or null to use
+     *                  the first constant that matches it
+     */
+    private LabelEncoder(
+        Class<E> type,
+        BiPredicate<E, String> matcher,
+        Function<String, E> canonical
+    ) {
+        this.values = type.getEnumConstants();
+        this.matcher = Objects.requireNonNull(matcher);
+        this.canonical = canonical;
+    }
+
+    /**
+     * Whether the label matches the constant.
+     */
+    public boolean matches(E value, String label) {
+        boolean[] matches = encode(label).matches;
+        int ordinal = value.ordinal();
+        return ordinal < matches.length && matches[ordinal];
+    }
+
+    /**
+     * The ordinal of the canonical constant of the label, or -1 if it has none.
+     */
+    public int ordinal(String label) {
+        return encode(label).ordinal;
+    }
+
+    /**
+     * A single bit standing for the canonical constant of the label. Valid only
+     * for types with fewer than 64 constants.
+     */
+    public long bit(String label) {
+        return 1L << (encode(label).ordinal + 1);
+    }
+
+    /**
+     * The bits of a set of constants, see {@link #bit(String)}.
+     */
+    @SafeVarargs
+    public static <E extends Enum<E>> long bits(E... values) {
+        long bits = 0;
+        for (E value : values) {
+            bits |= 1L << (value.ordinal() + 1);
+        }
+        return bits;
+    }
+
+    private Encoded encode(String label) {
+        if (label == null) {
+            return UNKNOWN;
+        }
+        Encoded encoded = labels.get(label);
+        if (encoded == null) {
+            encoded = labels.computeIfAbsent(label, this::resolve);
+        }
+        return encoded;
+    }
+
+    private Encoded resolve(String label) {
+        boolean[] matches = new boolean[values.length];
+        int first = -1;
+        for (E value : values) {
+            if (matcher.test(value, label)) {
+                matches[value.ordinal()] = true;
+                if (first < 0) {
+                    first = value.ordinal();
+                }
+            }
+        }
+        int ordinal = first;
+        if (canonical != null) {
+            E value = canonical.apply(label);
+            ordinal = value == null ? -1 : value.ordinal();
+        }
+        return new Encoded(ordinal, matches);
+    }
+
+    private static final class Encoded {
+
+        private final int ordinal;
+        private final boolean[] matches;
+
+        Encoded(int ordinal, boolean[] matches) {
+            this.ordinal = ordinal;
+            this.matches = matches;
+        }
+    }
+}
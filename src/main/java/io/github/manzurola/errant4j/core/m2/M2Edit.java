@@ -0,0 +1,151 @@
+package io.github.manzurola.errant4j.core.m2;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * A single edit line of an M2 file, e.g. {@code A 1 2|||R:VERB:TENSE|||went|||REQUIRED|||-NONE-|||0}.
+ */
+public final class M2Edit {
+
+    public static final String NOOP = "noop";
+    public static final String NONE = "-NONE-";
+    private static final String SEPARATOR = "|||";
+
+    private final int start;
+    private final int end;
+    private final String type;
+    private final String correction;
+    private final int coder;
+
+    private M2Edit(int start, int end, String type, String correction, int coder) {
+        this.start = start;
+        this.end = end;
+        this.type = Objects.requireNonNull(type);
+        this.correction = Objects.requireNonNull(correction);
+        this.coder = coder;
+    }
+
+    public static M2Edit of(int start, int end, String type, String correction, int coder) {
+        return new M2Edit(start, end, type, correction, coder);
+    }
+
+    /**
+     * Create an edit from an annotation, using the tag of its grammatical error
+     * as the edit type. The correction is the space separated target tokens,
+     * as in the source line of an M2 block.
+     */
+    public static M2Edit of(Annotation annotation, int coder) {
+        int start = annotation.sourcePosition();
+        return new M2Edit(
+            start,
+            start + annotation.sourceTokens().size(),
+            annotation.error().tag(),
+            annotation
+                .targetTokens()
+                .stream()
+                .map(Token::text)
+                .collect(Collectors.joining(" ")),
+            coder
+        );
+    }
+
+    /**
+     * The edit written for a sentence that has no edits.
+     */
+    public static M2Edit noop(int coder) {
+        return new M2Edit(-1, -1, NOOP, NONE, coder);
+    }
+
+    /**
+     * Parse an edit line, with or without the leading {@code "A "}.
+     */
+    public static M2Edit parse(String line) {
+        String content = line.startsWith("A ") ? line.substring(2) : line;
+        String[] fields = content.split("\\|\\|\\|", -1);
+        if (fields.length < 3) {
+            throw new IllegalArgumentException(String.format(
+                "Malformed M2 edit line [%s]",
+                line
+            ));
+        }
+        String[] span = fields[0].trim().split("\\s+");
+        if (span.length != 2) {
+            throw new IllegalArgumentException(String.format(
+                "Malformed M2 edit span in line [%s]",
+                line
+            ));
+        }
+        int coder = fields.length > 3 ?
+                    Integer.parseInt(fields[fields.length - 1].trim()) :
+                    0;
+        return new M2Edit(
+            Integer.parseInt(span[0]),
+            Integer.parseInt(span[1]),
+            fields[1],
+            fields[2],
+            coder
+        );
+    }
+
+    public final int start() {
+        return start;
+    }
+
+    public final int end() {
+        return end;
+    }
+
+    public final String type() {
+        return type;
+    }
+
+    public final String correction() {
+        return correction;
+    }
+
+    public final int coder() {
+        return coder;
+    }
+
+    public final boolean isNoop() {
+        return start == -1 && end == -1;
+    }
+
+    /**
+     * Format this edit as an M2 edit line.
+     */
+    public final String toM2() {
+        return "A " + start + " " + end +
+               SEPARATOR + type +
+               SEPARATOR + correction +
+               SEPARATOR + "REQUIRED" +
+               SEPARATOR + NONE +
+               SEPARATOR + coder;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        M2Edit that = (M2Edit) o;
+        return start == that.start &&
+               end == that.end &&
+               coder == that.coder &&
+               type.equals(that.type) &&
+               correction.equals(that.correction);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(start, end, type, correction, coder);
+    }
+
+    @Override
+    public final String toString() {
+        return toM2();
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.manzurola.errant4j.core.m2;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads M2 blocks one at a time. Blocks are separated by blank lines.
+ */
+public final class M2Reader implements Iterator<M2Sentence>, Closeable {
+
+    private final BufferedReader reader;
+    private M2Sentence next;
+
+    public M2Reader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    public static M2Reader open(Path path) throws IOException {
+        return new M2Reader(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read all blocks of an M2 file.
+     */
+    public static List<M2Sentence> readAll(Path path) throws IOException {
+        try (M2Reader reader = open(path)) {
+            List<M2Sentence> sentences = new ArrayList<>();
+            reader.forEachRemaining(sentences::add);
+            return sentences;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * A sequential stream over the remaining blocks.
+     */
+    public Stream<M2Sentence> stream() {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        );
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readBlock();
+        }
+        return next != null;
+    }
+
+    @Override
+    public M2Sentence next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        M2Sentence sentence = next;
+        next = null;
+        return sentence;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private M2Sentence readBlock() {
+        try {
+            String line = reader.readLine();
+            while (line != null && line.isBlank()) {
+                line = reader.readLine();
+            }
+            if (line == null) {
+                return null;
+            }
+            if (!line.startsWith("S")) {
+                throw new IllegalStateException(String.format(
+                    "Expected an M2 source line, got [%s]",
+                    line
+                ));
+            }
+            String source = line.length() > 2 ? line.substring(2) : "";
+            List<M2Edit> edits = new ArrayList<>();
+            line = reader.readLine();
+            while (line != null && !line.isBlank()) {
+                edits.add(M2Edit.parse(line));
+                line = reader.readLine();
+            }
+            return M2Sentence.of(source, edits);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
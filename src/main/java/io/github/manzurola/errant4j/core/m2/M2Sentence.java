@@ -0,0 +1,205 @@
+package io.github.manzurola.errant4j.core.m2;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * A block of an M2 file: a tokenized source sentence and the edits of one or
+ * more coders.
+ */
+public final class M2Sentence {
+
+    private final String source;
+    private final List<M2Edit> edits;
+
+    private M2Sentence(String source, List<M2Edit> edits) {
+        this.source = Objects.requireNonNull(source);
+        this.edits = List.copyOf(edits);
+    }
+
+    public static M2Sentence of(String source, List<M2Edit> edits) {
+        return new M2Sentence(source, edits);
+    }
+
+    /**
+     * Create a sentence annotated by a single coder. Annotations without an
+     * error are skipped, and a noop edit is added if none remain.
+     */
+    public static M2Sentence of(List<Token> source, List<Annotation> annotations) {
+        return ofCoders(source, List.of(annotations));
+    }
+
+    /**
+     * Create a sentence annotated by several coders, where the coder id is the
+     * index of its annotations in the supplied list.
+     */
+    public static M2Sentence ofCoders(
+        List<Token> source,
+        List<List<Annotation>> annotationsByCoder
+    ) {
+        List<M2Edit> edits = new ArrayList<>();
+        for (int coder = 0; coder < annotationsByCoder.size(); coder++) {
+            boolean empty = true;
+            for (Annotation annotation : annotationsByCoder.get(coder)) {
+                if (!annotation.error().isNone()) {
+                    edits.add(M2Edit.of(annotation, coder));
+                    empty = false;
+                }
+            }
+            if (empty) {
+                edits.add(M2Edit.noop(coder));
+            }
+        }
+        String text = source
+            .stream()
+            .map(Token::text)
+            .collect(Collectors.joining(" "));
+        return new M2Sentence(text, edits);
+    }
+
+    /**
+     * The space separated source tokens.
+     */
+    public final String source() {
+        return source;
+    }
+
+    public final List<String> sourceTokens() {
+        return source.isEmpty() ? List.of() : List.of(source.split(" "));
+    }
+
+    public final List<M2Edit> edits() {
+        return edits;
+    }
+
+    /**
+     * The ids of the coders that annotated this sentence, in ascending order.
+     */
+    public final List<Integer> coders() {
+        TreeSet<Integer> coders = new TreeSet<>();
+        for (M2Edit edit : edits) {
+            coders.add(edit.coder());
+        }
+        return List.copyOf(coders);
+    }
+
+    /**
+     * Apply the edits of a coder to the source tokens, in order of their start
+     * and end positions, so an insertion before a replaced span is applied
+     * first. Noop edits are ignored, and overlapping edits are rejected.
+     */
+    public final Correction correct(int coder) {
+        List<M2Edit> coderEdits = new ArrayList<>();
+        for (M2Edit edit : edits) {
+            if (edit.coder() == coder && !edit.isNoop()) {
+                coderEdits.add(edit);
+            }
+        }
+        coderEdits.sort(Comparator.comparingInt(M2Edit::start).thenComparingInt(M2Edit::end));
+        List<String> tokens = new ArrayList<>(sourceTokens());
+        int[] targetStarts = new int[coderEdits.size()];
+        int[] targetEnds = new int[coderEdits.size()];
+        int offset = 0;
+        int previousEnd = 0;
+        for (int i = 0; i < coderEdits.size(); i++) {
+            M2Edit edit = coderEdits.get(i);
+            if (edit.start() < previousEnd) {
+                throw new IllegalArgumentException(String.format(
+                    "Overlapping edits of coder %d in %s",
+                    coder,
+                    source
+                ));
+            }
+            previousEnd = edit.end();
+            List<String> correction = edit.correction().isEmpty()
+                ? List.of()
+                : List.of(edit.correction().split(" "));
+            int start = edit.start() + offset;
+            tokens.subList(start, edit.end() + offset).clear();
+            tokens.addAll(start, correction);
+            targetStarts[i] = start;
+            targetEnds[i] = start + correction.size();
+            offset += correction.size() - (edit.end() - edit.start());
+        }
+        return new Correction(tokens, coderEdits, targetStarts, targetEnds);
+    }
+
+    /**
+     * Format this sentence as an M2 block, without the trailing blank line.
+     */
+    public final String toM2() {
+        StringBuilder builder = new StringBuilder("S ").append(source);
+        for (M2Edit edit : edits) {
+            builder.append('\n').append(edit.toM2());
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        M2Sentence that = (M2Sentence) o;
+        return source.equals(that.source) && edits.equals(that.edits);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(source, edits);
+    }
+
+    @Override
+    public final String toString() {
+        return toM2();
+    }
+
+    /**
+     * The corrected sentence of a single coder, and the target span of each of
+     * its edits.
+     */
+    public static final class Correction {
+
+        private final List<String> tokens;
+        private final List<M2Edit> edits;
+        private final int[] targetStarts;
+        private final int[] targetEnds;
+
+        private Correction(
+            List<String> tokens,
+            List<M2Edit> edits,
+            int[] targetStarts,
+            int[] targetEnds
+        ) {
+            this.tokens = List.copyOf(tokens);
+            this.edits = List.copyOf(edits);
+            this.targetStarts = targetStarts;
+            this.targetEnds = targetEnds;
+        }
+
+        public final List<String> tokens() {
+            return tokens;
+        }
+
+        /**
+         * The applied edits, sorted by start position.
+         */
+        public final List<M2Edit> edits() {
+            return edits;
+        }
+
+        public final int targetStart(int edit) {
+            return targetStarts[edit];
+        }
+
+        public final int targetEnd(int edit) {
+            return targetEnds[edit];
+        }
+    }
+}
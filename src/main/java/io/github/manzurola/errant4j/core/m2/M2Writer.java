@@ -0,0 +1,33 @@
+package io.github.manzurola.errant4j.core.m2;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes M2 blocks, each followed by a blank line.
+ */
+public final class M2Writer implements Closeable, Flushable {
+
+    private final Writer writer;
+
+    public M2Writer(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void write(M2Sentence sentence) throws IOException {
+        writer.write(sentence.toM2());
+        writer.write("\n\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,158 @@
+package io.github.manzurola.errant4j.core.mark;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Marks all annotations of a source text in a single pass over its tokens.
+ * <p>
+ * Errors are marked exactly as {@link CursorErrorMarker} marks them, but the
+ * annotations are visited in source order and each source token is read at
+ * most once. Marking a whole document takes time linear in its length plus
+ * O(n log n) in the number n of annotations to sort them, rather than the
+ * product of its length and the number of annotations. Errors and corrected
+ * spans are returned in input order. Annotations must not overlap on the
+ * source side.
+ */
+public class BatchErrorMarker implements ErrorMarker {
+
+    @Override
+    public MarkedError markError(Annotation annotation, List<Token> source) {
+        return markErrors(List.of(annotation), source).get(0);
+    }
+
+    @Override
+    public List<MarkedError> markErrors(
+        List<Annotation> annotations,
+        List<Token> source
+    ) {
+        return Arrays.asList(walk(annotations, source, null, null));
+    }
+
+    /**
+     * Mark all annotations and apply their corrections to the source text.
+     */
+    public MarkedText mark(List<Annotation> annotations, List<Token> source) {
+        StringBuilder corrected = new StringBuilder(estimateLength(source));
+        CharOffset[] spans = new CharOffset[annotations.size()];
+        MarkedError[] errors = walk(annotations, source, corrected, spans);
+        return new MarkedText(
+            Arrays.asList(errors),
+            corrected.toString(),
+            Arrays.asList(spans)
+        );
+    }
+
+    private MarkedError[] walk(
+        List<Annotation> annotations,
+        List<Token> source,
+        StringBuilder corrected,
+        CharOffset[] spans
+    ) {
+        MarkedError[] errors = new MarkedError[annotations.size()];
+        int cursor = 0;
+        for (int index : sourceOrder(annotations)) {
+            Annotation annotation = annotations.get(index);
+            int start = annotation.sourcePosition();
+            int end = start + annotation.sourceTokens().size();
+            Objects.checkFromToIndex(start, end, source.size());
+            if (start < cursor) {
+                throw new IllegalArgumentException(String.format(
+                    "Annotation at source position %d overlaps a previous annotation ending at %d",
+                    start,
+                    cursor
+                ));
+            }
+            if (corrected != null) {
+                appendTokens(corrected, source, cursor, start);
+                int spanStart = corrected.length();
+                int spanEnd = appendTokens(
+                    corrected,
+                    annotation.targetTokens(),
+                    0,
+                    annotation.targetTokens().size()
+                );
+                spans[index] = CharOffset.of(spanStart, spanEnd);
+            }
+            errors[index] = start == end ?
+                            markInsertLocation(annotation, source, start) :
+                            markSource(annotation, source, start, end);
+            cursor = end;
+        }
+        if (corrected != null) {
+            appendTokens(corrected, source, cursor, source.size());
+        }
+        return errors;
+    }
+
+    private MarkedError markSource(
+        Annotation annotation,
+        List<Token> source,
+        int start,
+        int end
+    ) {
+        return new MarkedError(
+            source.get(start).charStart(),
+            source.get(end - 1).charEnd(),
+            annotation.sourceText(),
+            annotation.targetText()
+        );
+    }
+
+    private MarkedError markInsertLocation(
+        Annotation annotation,
+        List<Token> source,
+        int position
+    ) {
+        int charOffset = position < source.size() ?
+                         source.get(position).charStart() :
+                         0;
+        return new MarkedError(
+            charOffset,
+            charOffset,
+            "",
+            annotation.targetText()
+        );
+    }
+
+    /**
+     * Append tokens with their whitespace, returning the builder length
+     * excluding the whitespace trailing the last token.
+     */
+    private int appendTokens(
+        StringBuilder builder,
+        List<Token> tokens,
+        int from,
+        int to
+    ) {
+        int textEnd = builder.length();
+        for (int i = from; i < to; i++) {
+            Token token = tokens.get(i);
+            builder.append(token.textWithWs());
+            textEnd = builder.length() -
+                      (token.textWithWs().length() - token.text().length());
+        }
+        return textEnd;
+    }
+
+    private int[] sourceOrder(List<Annotation> annotations) {
+        return IntStream
+            .range(0, annotations.size())
+            .boxed()
+            .sorted(Comparator
+                        .comparingInt((Integer i) -> annotations.get(i).sourcePosition())
+                        .thenComparingInt(i -> annotations.get(i).sourceTokens().size()))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    private int estimateLength(List<Token> source) {
+        return source.isEmpty() ? 16 : source.get(source.size() - 1).charEnd() + 16;
+    }
+}
@@ -2,7 +2,6 @@ package io.github.manzurola.errant4j.core.mark;
 
 import io.github.manzurola.errant4j.core.Annotation;
 import io.github.manzurola.spacy4j.api.containers.Token;
-import io.github.manzurola.spacy4j.api.utils.TextUtils;
 
 import java.util.List;
 import java.util.Objects;
@@ -30,10 +29,9 @@ public class CursorErrorMarker implements ErrorMarker {
         int firstTokenPos = annotation.sourcePosition();
         int lastTokenPos = annotation.sourcePosition() +
                            annotation.sourceTokens().size();
-        List<Token> sourceTokens = source.subList(firstTokenPos, lastTokenPos);
-        int start = sourceTokens.get(0).charStart();
-        int end = sourceTokens.get(sourceTokens.size() - 1).charEnd();
-        String original = TextUtils.concatTokenTextWithWs(sourceTokens).trim();
+        int start = source.get(firstTokenPos).charStart();
+        int end = source.get(lastTokenPos - 1).charEnd();
+        String original = annotation.sourceText();
         String replacement = annotation.targetText();
         return new MarkedError(start, end, original, replacement);
     }
@@ -51,7 +49,7 @@ public class CursorErrorMarker implements ErrorMarker {
         int charOffset = sourceToken.map(Token::charStart).orElse(0);
 
         String original = "";
-        String replacement = TextUtils.concatTokenTextWithWs(annotation.targetTokens()).trim();
+        String replacement = annotation.targetText();
         if (source.isEmpty()) {
             return new MarkedError(0, 0, "", replacement);
         }
@@ -3,8 +3,23 @@ package io.github.manzurola.errant4j.core.mark;
 import io.github.manzurola.errant4j.core.Annotation;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface ErrorMarker {
     MarkedError markError(Annotation annotation, List<Token> source);
+
+    /**
+     * Mark all annotations of the same source, in the order given.
+     */
+    default List<MarkedError> markErrors(
+        List<Annotation> annotations,
+        List<Token> source
+    ) {
+        List<MarkedError> errors = new ArrayList<>(annotations.size());
+        for (Annotation annotation : annotations) {
+            errors.add(markError(annotation, source));
+        }
+        return errors;
+    }
 }
@@ -0,0 +1,80 @@
+package io.github.manzurola.errant4j.core.mark;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The result of marking all errors of a source text at once: the marked
+ * errors, the fully corrected text, and for each error the span of its
+ * correction within the corrected text.
+ */
+public final class MarkedText {
+
+    private final List<MarkedError> errors;
+    private final String corrected;
+    private final List<CharOffset> correctedSpans;
+
+    public MarkedText(
+        List<MarkedError> errors,
+        String corrected,
+        List<CharOffset> correctedSpans
+    ) {
+        if (errors.size() != correctedSpans.size()) {
+            throw new IllegalArgumentException(String.format(
+                "Expected a span for each of %d errors, got %d",
+                errors.size(),
+                correctedSpans.size()
+            ));
+        }
+        this.errors = List.copyOf(errors);
+        this.corrected = Objects.requireNonNull(corrected);
+        this.correctedSpans = List.copyOf(correctedSpans);
+    }
+
+    /**
+     * The marked errors, in the order of the annotations they were marked
+     * from.
+     */
+    public final List<MarkedError> errors() {
+        return errors;
+    }
+
+    /**
+     * The source text with all corrections applied.
+     */
+    public final String corrected() {
+        return corrected;
+    }
+
+    /**
+     * The span of each error's correction within {@link #corrected()},
+     * parallel to {@link #errors()}.
+     */
+    public final List<CharOffset> correctedSpans() {
+        return correctedSpans;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MarkedText that = (MarkedText) o;
+        return errors.equals(that.errors) &&
+               corrected.equals(that.corrected) &&
+               correctedSpans.equals(that.correctedSpans);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(errors, corrected, correctedSpans);
+    }
+
+    @Override
+    public final String toString() {
+        return "MarkedText{" +
+               "errors=" + errors +
+               ", corrected='" + corrected + '\'' +
+               ", correctedSpans=" + correctedSpans +
+               '}';
+    }
+}
@@ -23,10 +23,9 @@ public class NeighbourIncludingErrorMarker implements ErrorMarker {
         int firstTokenPos = annotation.sourcePosition();
         int lastTokenPos = annotation.sourcePosition() +
                            annotation.sourceTokens().size();
-        List<Token> sourceTokens = source.subList(firstTokenPos, lastTokenPos);
-        int start = sourceTokens.get(0).charStart();
-        int end = sourceTokens.get(sourceTokens.size() - 1).charEnd();
-        String original = TextUtils.concatTokenTextWithWs(sourceTokens).trim();
+        int start = source.get(firstTokenPos).charStart();
+        int end = source.get(lastTokenPos - 1).charEnd();
+        String original = annotation.sourceText();
         String replacement = annotation.targetText();
         return new MarkedError(start, end, original, replacement);
     }
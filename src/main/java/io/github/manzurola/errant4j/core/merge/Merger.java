@@ -1,18 +1,39 @@
 package io.github.manzurola.errant4j.core.merge;
 
 import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.FeatureRequirements;
+import io.github.manzurola.errant4j.core.TokenFeature;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.BiPredicate;
 
-public interface Merger {
+public interface Merger extends FeatureRequirements {
 
     /**
      * Merge a list of Edits, producing a new list of equal or smaller size.
      */
     List<Edit<Token>> merge(List<Edit<Token>> edits);
 
+    /**
+     * All features, unless overridden.
+     */
+    @Override
+    default Set<TokenFeature> requiredFeatures() {
+        return EnumSet.allOf(TokenFeature.class);
+    }
+
+    /**
+     * Whether merging a list in which every edit but one is an equal edit
+     * always returns the list unchanged. Annotators use this to skip merging
+     * trivial pairs.
+     */
+    default boolean preservesSingleEdits() {
+        return false;
+    }
+
     /**
      * Get a new merger that doesn't merge any edit.
      */
@@ -3,6 +3,7 @@ package io.github.manzurola.errant4j.core.merge;
 import com.github.manzurola.aligner.edit.Edit;
 import com.github.manzurola.aligner.edit.EqualEdit;
 import com.github.manzurola.aligner.edit.TransposeEdit;
+import io.github.manzurola.errant4j.core.jfr.MergePassEvent;
 import io.github.manzurola.errant4j.lang.en.merge.rules.*;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
@@ -23,12 +24,16 @@ final class MergerImpl implements Merger {
         List<Edit<Token>> unmergeable = new ArrayList<>();
         List<Edit<Token>> result = new ArrayList<>(edits);
         boolean moreToMerge = true;
+        int pass = 0;
         while (moreToMerge) {
             moreToMerge = false;
+            MergePassEvent event = new MergePassEvent();
+            event.begin();
             unmergeable.addAll(filterUnmergeable(result));
             result.removeAll(unmergeable);
 
             List<Edit<Token>> applied = applyConditions(result);
+            event.complete(pass++, result.size(), applied.size());
             if (!equalsUnique(result, applied)) {
                 result = applied;
                 moreToMerge = true;
@@ -38,6 +43,11 @@ final class MergerImpl implements Merger {
         return sort(result);
     }
 
+    @Override
+    public final boolean preservesSingleEdits() {
+        return true;
+    }
+
     private boolean equalsUnique(List<Edit<Token>> a, List<Edit<Token>> b) {
         return new HashSet<>(a).equals(new HashSet<>(b));
     }
@@ -0,0 +1,39 @@
+package io.github.manzurola.errant4j.core.parse;
+
+import io.github.manzurola.spacy4j.api.SpaCy;
+import io.github.manzurola.spacy4j.api.containers.Doc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Parses text into a {@link Doc}. Implementations used by an annotator shared
+ * between threads must be thread-safe, see {@link ParserPool}.
+ */
+public interface Parser {
+
+    Doc parse(String text);
+
+    /**
+     * Parse several texts, returning their docs in order. Unless overridden,
+     * the texts are parsed one at a time; parsers backed by a batch capable
+     * backend override this to parse them in one call.
+     */
+    default List<Doc> parseAll(List<String> texts) {
+        List<Doc> docs = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            docs.add(parse(text));
+        }
+        return docs;
+    }
+
+    /**
+     * A parser calling a single {@link SpaCy} instance, thread-safe only if
+     * the instance is.
+     */
+    static Parser of(SpaCy spaCy) {
+        Objects.requireNonNull(spaCy);
+        return spaCy::nlp;
+    }
+}
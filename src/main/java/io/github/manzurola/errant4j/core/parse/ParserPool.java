@@ -0,0 +1,182 @@
+package io.github.manzurola.errant4j.core.parse;
+
+import io.github.manzurola.spacy4j.api.SpaCy;
+import io.github.manzurola.spacy4j.api.containers.Doc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe {@link Parser} backed by a fixed number of {@link SpaCy}
+ * instances that need not be thread-safe themselves.
+ * <p>
+ * Each call checks out an instance for the duration of the parse, and {@link
+ * #parseAll(List)} checks out a single instance for the whole batch. Waiting
+ * callers are served in arrival order; a caller that waits longer than the
+ * checkout timeout gets a {@link ParserUnavailableException}. The pool keeps
+ * counts of checkouts and timeouts, the time spent waiting, and the time
+ * instances spent parsing, from which {@link #utilization()} is derived.
+ */
+public final class ParserPool implements Parser {
+
+    private final BlockingQueue<SpaCy> available;
+    private final int size;
+    private final Duration timeout;
+    private final long createdAt = System.nanoTime();
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder busyNanos = new LongAdder();
+
+    private ParserPool(List<SpaCy> instances, Duration timeout) {
+        if (instances.isEmpty()) {
+            throw new IllegalArgumentException("A parser pool needs at least one instance");
+        }
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException(String.format(
+                "Timeout must not be negative, got %s",
+                timeout
+            ));
+        }
+        this.size = instances.size();
+        this.available = new ArrayBlockingQueue<>(size, true, instances);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Create a pool of {@code size} instances created by the backend.
+     */
+    public static ParserPool create(int size, Supplier<SpaCy> backend, Duration timeout) {
+        if (size < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Pool size must be positive, got %d",
+                size
+            ));
+        }
+        List<SpaCy> instances = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            instances.add(Objects.requireNonNull(backend.get()));
+        }
+        return new ParserPool(instances, Objects.requireNonNull(timeout));
+    }
+
+    /**
+     * Create a pool of the given instances.
+     */
+    public static ParserPool of(List<SpaCy> instances, Duration timeout) {
+        return new ParserPool(List.copyOf(instances), Objects.requireNonNull(timeout));
+    }
+
+    @Override
+    public Doc parse(String text) {
+        SpaCy spaCy = checkout();
+        long checkedOut = System.nanoTime();
+        try {
+            return spaCy.nlp(text);
+        } finally {
+            release(spaCy, checkedOut);
+        }
+    }
+
+    @Override
+    public List<Doc> parseAll(List<String> texts) {
+        SpaCy spaCy = checkout();
+        long checkedOut = System.nanoTime();
+        try {
+            List<Doc> docs = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                docs.add(spaCy.nlp(text));
+            }
+            return docs;
+        } finally {
+            release(spaCy, checkedOut);
+        }
+    }
+
+    private SpaCy checkout() {
+        long start = System.nanoTime();
+        SpaCy spaCy;
+        try {
+            spaCy = available.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserUnavailableException("Interrupted while waiting for a parser");
+        }
+        waitNanos.add(System.nanoTime() - start);
+        if (spaCy == null) {
+            timeouts.increment();
+            throw new ParserUnavailableException(String.format(
+                "No parser available within %s",
+                timeout
+            ));
+        }
+        checkouts.increment();
+        return spaCy;
+    }
+
+    private void release(SpaCy spaCy, long checkedOut) {
+        busyNanos.add(System.nanoTime() - checkedOut);
+        available.add(spaCy);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+
+    /**
+     * The number of instances currently checked out.
+     */
+    public int busyCount() {
+        return size - available.size();
+    }
+
+    public long checkoutCount() {
+        return checkouts.sum();
+    }
+
+    public long timeoutCount() {
+        return timeouts.sum();
+    }
+
+    /**
+     * The average time callers waited for an instance, including those that
+     * timed out.
+     */
+    public Duration averageWaitTime() {
+        long calls = checkoutCount() + timeoutCount();
+        return calls == 0 ? Duration.ZERO : Duration.ofNanos(waitNanos.sum() / calls);
+    }
+
+    /**
+     * The fraction of instance time spent parsing since the pool was created,
+     * between 0 and 1.
+     */
+    public double utilization() {
+        long elapsed = System.nanoTime() - createdAt;
+        return elapsed <= 0 ? 0.0 : Math.min(1.0, (double) busyNanos.sum() / ((double) elapsed * size));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "ParserPool{size=%d, busy=%d, checkouts=%d, timeouts=%d, averageWait=%s, utilization=%.2f}",
+            size,
+            busyCount(),
+            checkoutCount(),
+            timeoutCount(),
+            averageWaitTime(),
+            utilization()
+        );
+    }
+}
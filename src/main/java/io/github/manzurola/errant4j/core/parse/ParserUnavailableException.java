@@ -0,0 +1,11 @@
+package io.github.manzurola.errant4j.core.parse;
+
+/**
+ * Thrown when no parser of a {@link ParserPool} became available in time.
+ */
+public class ParserUnavailableException extends RuntimeException {
+
+    public ParserUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.manzurola.errant4j.core.stats;
+
+import java.util.Objects;
+
+/**
+ * The source and target texts of a correction, e.g. [go → went].
+ */
+public final class Correction {
+
+    private final String source;
+    private final String target;
+
+    private Correction(String source, String target) {
+        this.source = Objects.requireNonNull(source);
+        this.target = Objects.requireNonNull(target);
+    }
+
+    public static Correction of(String source, String target) {
+        return new Correction(source, target);
+    }
+
+    public final String source() {
+        return source;
+    }
+
+    public final String target() {
+        return target;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Correction that = (Correction) o;
+        return source.equals(that.source) &&
+               target.equals(that.target);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(source, target);
+    }
+
+    @Override
+    public final String toString() {
+        return "[" + source + " → " + target + "]";
+    }
+}
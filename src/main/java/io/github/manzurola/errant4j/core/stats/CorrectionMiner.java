@@ -0,0 +1,106 @@
+package io.github.manzurola.errant4j.core.stats;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+
+import java.util.List;
+
+/**
+ * Finds the most frequent corrections of each {@link GrammaticalError} in an
+ * annotation stream of any length, in fixed memory.
+ * <p>
+ * Each error has its own {@link SpaceSaving} summary of {@code capacity}
+ * corrections, so memory is bounded by the capacity times the number of
+ * errors. Reported counts overestimate the true frequency by at most {@link
+ * #maxError(GrammaticalError)}, which is at most the number of corrections of
+ * that error divided by the capacity; a capacity a few times larger than the
+ * number of corrections wanted tightens the bounds.
+ * <p>
+ * Miners are not thread-safe. Give each thread or shard its own miner and
+ * combine them with {@link #merge(CorrectionMiner)}.
+ */
+public final class CorrectionMiner {
+
+    private final int capacity;
+    private final SpaceSaving<Correction>[] summaries;
+
+    @SuppressWarnings("unchecked")
+    public CorrectionMiner(int capacity) {
+        this.capacity = capacity;
+        GrammaticalError[] errors = GrammaticalError.values();
+        this.summaries = new SpaceSaving[errors.length];
+        for (int i = 0; i < errors.length; i++) {
+            summaries[i] = new SpaceSaving<>(capacity);
+        }
+    }
+
+    /**
+     * Count the correction of an annotation. Annotations without an error are
+     * ignored.
+     */
+    public void add(Annotation annotation) {
+        if (annotation.error().isNone()) {
+            return;
+        }
+        add(
+            annotation.error(),
+            Correction.of(annotation.sourceText(), annotation.targetText())
+        );
+    }
+
+    public void add(GrammaticalError error, Correction correction) {
+        summaries[error.ordinal()].add(correction);
+    }
+
+    /**
+     * Add the counts of a miner of the same capacity over another part of the
+     * stream.
+     */
+    public void merge(CorrectionMiner other) {
+        if (other.capacity != capacity) {
+            throw new IllegalArgumentException(String.format(
+                "Cannot merge miners of capacity %d and %d",
+                capacity,
+                other.capacity
+            ));
+        }
+        for (int i = 0; i < summaries.length; i++) {
+            summaries[i].merge(other.summaries[i]);
+        }
+    }
+
+    /**
+     * The most frequent corrections of an error, most frequent first, with
+     * their error bounds.
+     */
+    public List<Estimate<Correction>> top(GrammaticalError error, int limit) {
+        return summaries[error.ordinal()].top(limit);
+    }
+
+    /**
+     * Whether a correction reported by {@link #top(GrammaticalError, int)} is
+     * certainly among the {@code k} most frequent corrections of the error.
+     */
+    public boolean isGuaranteed(GrammaticalError error, Estimate<Correction> estimate, int k) {
+        return summaries[error.ordinal()].isGuaranteed(estimate, k);
+    }
+
+    /**
+     * The largest possible overestimation of any count of the error, and an
+     * upper bound of the frequency of any correction not reported.
+     */
+    public long maxError(GrammaticalError error) {
+        return summaries[error.ordinal()].maxError();
+    }
+
+    /**
+     * The number of corrections of the error seen.
+     */
+    public long total(GrammaticalError error) {
+        return summaries[error.ordinal()].total();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.manzurola.errant4j.core.stats;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A concurrent accumulator of error type distributions and edit length
+ * histograms.
+ * <p>
+ * Counters are plain longs indexed by {@link GrammaticalError} ordinal and
+ * edit length, striped across several arrays so that threads annotating in
+ * parallel rarely update the same cache line. Updates are atomic and never
+ * lost; {@link #snapshot()} sums all stripes. A snapshot taken during updates
+ * reflects each counter at some point during the call.
+ */
+public final class ErrorStatistics {
+
+    /**
+     * Edit lengths at or above this value share the last histogram bucket.
+     */
+    public static final int MAX_LENGTH = 16;
+
+    static final int ERRORS = GrammaticalError.values().length;
+    static final int BUCKETS = MAX_LENGTH + 1;
+    private static final int SOURCE_LENGTHS = ERRORS;
+    private static final int TARGET_LENGTHS = SOURCE_LENGTHS + BUCKETS;
+    private static final int WIDTH = TARGET_LENGTHS + BUCKETS;
+
+    private final AtomicLongArray[] stripes;
+    private final int mask;
+
+    public ErrorStatistics() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ErrorStatistics(int concurrency) {
+        int size = concurrency <= 1 ? 1 : Integer.highestOneBit(concurrency - 1) << 1;
+        this.stripes = new AtomicLongArray[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new AtomicLongArray(WIDTH);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Count an annotation. Annotations without an error are ignored.
+     */
+    public void add(Annotation annotation) {
+        if (annotation.error().isNone()) {
+            return;
+        }
+        add(
+            annotation.error(),
+            annotation.sourceTokens().size(),
+            annotation.targetTokens().size()
+        );
+    }
+
+    public void addAll(Iterable<Annotation> annotations) {
+        for (Annotation annotation : annotations) {
+            add(annotation);
+        }
+    }
+
+    public void add(GrammaticalError error, int sourceLength, int targetLength) {
+        AtomicLongArray stripe = stripes[(int) Thread.currentThread().getId() & mask];
+        stripe.incrementAndGet(error.ordinal());
+        stripe.incrementAndGet(SOURCE_LENGTHS + bucket(sourceLength));
+        stripe.incrementAndGet(TARGET_LENGTHS + bucket(targetLength));
+    }
+
+    public ErrorStatisticsSnapshot snapshot() {
+        long[] errors = new long[ERRORS];
+        long[] sourceLengths = new long[BUCKETS];
+        long[] targetLengths = new long[BUCKETS];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < ERRORS; i++) {
+                errors[i] += stripe.get(i);
+            }
+            for (int i = 0; i < BUCKETS; i++) {
+                sourceLengths[i] += stripe.get(SOURCE_LENGTHS + i);
+                targetLengths[i] += stripe.get(TARGET_LENGTHS + i);
+            }
+        }
+        return new ErrorStatisticsSnapshot(errors, sourceLengths, targetLengths);
+    }
+
+    private static int bucket(int length) {
+        return Math.min(Math.max(length, 0), MAX_LENGTH);
+    }
+}
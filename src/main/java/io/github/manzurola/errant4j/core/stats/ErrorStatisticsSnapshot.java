@@ -0,0 +1,142 @@
+package io.github.manzurola.errant4j.core.stats;
+
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.errant4j.core.errors.ErrorType;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Immutable counts taken from {@link ErrorStatistics}. Snapshots of different
+ * accumulators, e.g. of different shards, can be merged.
+ */
+public final class ErrorStatisticsSnapshot {
+
+    private final long[] errors;
+    private final long[] sourceLengths;
+    private final long[] targetLengths;
+
+    ErrorStatisticsSnapshot(long[] errors, long[] sourceLengths, long[] targetLengths) {
+        this.errors = errors;
+        this.sourceLengths = sourceLengths;
+        this.targetLengths = targetLengths;
+    }
+
+    public static ErrorStatisticsSnapshot empty() {
+        return new ErrorStatisticsSnapshot(
+            new long[ErrorStatistics.ERRORS],
+            new long[ErrorStatistics.BUCKETS],
+            new long[ErrorStatistics.BUCKETS]
+        );
+    }
+
+    public final ErrorStatisticsSnapshot merge(ErrorStatisticsSnapshot other) {
+        return new ErrorStatisticsSnapshot(
+            add(errors, other.errors),
+            add(sourceLengths, other.sourceLengths),
+            add(targetLengths, other.targetLengths)
+        );
+    }
+
+    public final long total() {
+        return Arrays.stream(errors).sum();
+    }
+
+    public final long count(GrammaticalError error) {
+        return errors[error.ordinal()];
+    }
+
+    public final long count(ErrorType type) {
+        long count = 0;
+        for (GrammaticalError error : GrammaticalError.values()) {
+            if (error.matchesType(type)) {
+                count += errors[error.ordinal()];
+            }
+        }
+        return count;
+    }
+
+    public final long count(ErrorCategory category) {
+        long count = 0;
+        for (GrammaticalError error : GrammaticalError.values()) {
+            if (error.matchesCategory(category)) {
+                count += errors[error.ordinal()];
+            }
+        }
+        return count;
+    }
+
+    public final Map<GrammaticalError, Long> byError() {
+        Map<GrammaticalError, Long> counts = new EnumMap<>(GrammaticalError.class);
+        for (GrammaticalError error : GrammaticalError.values()) {
+            counts.put(error, count(error));
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public final Map<ErrorType, Long> byType() {
+        Map<ErrorType, Long> counts = new EnumMap<>(ErrorType.class);
+        for (ErrorType type : ErrorType.values()) {
+            counts.put(type, count(type));
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public final Map<ErrorCategory, Long> byCategory() {
+        Map<ErrorCategory, Long> counts = new EnumMap<>(ErrorCategory.class);
+        for (ErrorCategory category : ErrorCategory.values()) {
+            counts.put(category, count(category));
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Counts of source side edit lengths, where the last bucket holds all
+     * lengths of at least {@link ErrorStatistics#MAX_LENGTH}.
+     */
+    public final long[] sourceLengthHistogram() {
+        return sourceLengths.clone();
+    }
+
+    /**
+     * Counts of target side edit lengths, where the last bucket holds all
+     * lengths of at least {@link ErrorStatistics#MAX_LENGTH}.
+     */
+    public final long[] targetLengthHistogram() {
+        return targetLengths.clone();
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ErrorStatisticsSnapshot that = (ErrorStatisticsSnapshot) o;
+        return Arrays.equals(errors, that.errors) &&
+               Arrays.equals(sourceLengths, that.sourceLengths) &&
+               Arrays.equals(targetLengths, that.targetLengths);
+    }
+
+    @Override
+    public final int hashCode() {
+        int result = Arrays.hashCode(errors);
+        result = 31 * result + Arrays.hashCode(sourceLengths);
+        result = 31 * result + Arrays.hashCode(targetLengths);
+        return result;
+    }
+
+    @Override
+    public final String toString() {
+        return "ErrorStatisticsSnapshot{total=" + total() + ", byCategory=" + byCategory() + '}';
+    }
+
+    private static long[] add(long[] a, long[] b) {
+        long[] sum = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            sum[i] = a[i] + b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.manzurola.errant4j.core.stats;
+
+import java.util.Objects;
+
+/**
+ * The estimated frequency of an item reported by a {@link SpaceSaving}
+ * summary. The true frequency lies between {@link #lowerBound()} and {@link
+ * #count()}.
+ */
+public final class Estimate<K> {
+
+    private final K item;
+    private final long count;
+    private final long error;
+
+    Estimate(K item, long count, long error) {
+        this.item = Objects.requireNonNull(item);
+        this.count = count;
+        this.error = error;
+    }
+
+    public final K item() {
+        return item;
+    }
+
+    /**
+     * An upper bound of the frequency of the item.
+     */
+    public final long count() {
+        return count;
+    }
+
+    /**
+     * The largest possible overestimation of the count.
+     */
+    public final long error() {
+        return error;
+    }
+
+    /**
+     * A lower bound of the frequency of the item.
+     */
+    public final long lowerBound() {
+        return count - error;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Estimate<?> that = (Estimate<?>) o;
+        return count == that.count &&
+               error == that.error &&
+               item.equals(that.item);
+    }
+
+    @Override
+    public final int hashCode() {
+        return Objects.hash(item, count, error);
+    }
+
+    @Override
+    public final String toString() {
+        return item + "=" + count + "±" + error;
+    }
+}
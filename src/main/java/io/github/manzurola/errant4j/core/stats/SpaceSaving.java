@@ -0,0 +1,217 @@
+package io.github.manzurola.errant4j.core.stats;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A fixed-size summary of the most frequent items of a stream, using the
+ * Space-Saving algorithm of Metwally, Agrawal and El Abbadi.
+ * <p>
+ * At most {@code capacity} items are counted. An item that is not counted when
+ * the summary is full replaces the item with the smallest count and inherits
+ * that count as its possible overestimation. Every count overestimates the
+ * true frequency by at most {@link #maxError()}, which is at most the stream
+ * length divided by the capacity, and every item more frequent than that is
+ * counted.
+ * <p>
+ * Summaries are not thread-safe. Give each thread or shard its own summary and
+ * combine them with {@link #merge(SpaceSaving)}, which keeps the same bounds
+ * over the combined stream.
+ */
+public final class SpaceSaving<K> {
+
+    private final int capacity;
+    private final Map<K, Integer> positions;
+    // a binary min-heap of counters by count
+    private final List<Counter<K>> heap;
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Capacity must be positive, got %d",
+                capacity
+            ));
+        }
+        this.capacity = capacity;
+        this.positions = new HashMap<>(capacity * 2);
+        this.heap = new ArrayList<>(capacity);
+    }
+
+    public void add(K item) {
+        add(item, 1);
+    }
+
+    public void add(K item, long count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Count must be positive, got %d",
+                count
+            ));
+        }
+        total += count;
+        Integer position = positions.get(item);
+        if (position != null) {
+            heap.get(position).count += count;
+            siftDown(position);
+        } else if (heap.size() < capacity) {
+            heap.add(new Counter<>(item, count, 0));
+            positions.put(item, heap.size() - 1);
+            siftUp(heap.size() - 1);
+        } else {
+            Counter<K> smallest = heap.get(0);
+            positions.remove(smallest.item);
+            long error = smallest.count;
+            smallest.item = item;
+            smallest.error = error;
+            smallest.count = error + count;
+            positions.put(item, 0);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Add the counts of another summary over a disjoint part of the stream.
+     * Items missing from one summary are assumed to have that summary's
+     * smallest count there, as in the mergeable summaries of Agarwal et al.
+     */
+    public void merge(SpaceSaving<K> other) {
+        long thisMin = minCount();
+        long otherMin = other.minCount();
+        Map<K, Counter<K>> merged = new HashMap<>();
+        for (Counter<K> counter : heap) {
+            Counter<K> copy = new Counter<>(counter.item, counter.count + otherMin, counter.error + otherMin);
+            merged.put(counter.item, copy);
+        }
+        for (Counter<K> counter : other.heap) {
+            Counter<K> existing = merged.get(counter.item);
+            if (existing == null) {
+                merged.put(counter.item, new Counter<>(counter.item, counter.count + thisMin, counter.error + thisMin));
+            } else {
+                existing.count += counter.count - otherMin;
+                existing.error += counter.error - otherMin;
+            }
+        }
+        List<Counter<K>> counters = new ArrayList<>(merged.values());
+        counters.sort(Comparator.comparingLong((Counter<K> counter) -> counter.count).reversed());
+        heap.clear();
+        positions.clear();
+        for (Counter<K> counter : counters.subList(0, Math.min(capacity, counters.size()))) {
+            heap.add(counter);
+            positions.put(counter.item, heap.size() - 1);
+            siftUp(heap.size() - 1);
+        }
+        total += other.total;
+    }
+
+    /**
+     * The counted items, most frequent first, at most {@code limit} of them.
+     */
+    public List<Estimate<K>> top(int limit) {
+        List<Counter<K>> counters = new ArrayList<>(heap);
+        counters.sort(Comparator
+            .comparingLong((Counter<K> counter) -> counter.count)
+            .reversed()
+            .thenComparingLong(counter -> counter.error));
+        List<Estimate<K>> top = new ArrayList<>(Math.min(limit, counters.size()));
+        for (Counter<K> counter : counters.subList(0, Math.min(limit, counters.size()))) {
+            top.add(new Estimate<>(counter.item, counter.count, counter.error));
+        }
+        return top;
+    }
+
+    /**
+     * Whether an estimate is certainly among the {@code k} most frequent
+     * items: its lower bound is at least the count of the next counted item,
+     * or of any uncounted item.
+     */
+    public boolean isGuaranteed(Estimate<K> estimate, int k) {
+        List<Estimate<K>> top = top(k + 1);
+        long next = top.size() > k ? top.get(k).count() : minCount();
+        return top.subList(0, Math.min(k, top.size())).contains(estimate)
+               && estimate.lowerBound() >= next;
+    }
+
+    /**
+     * The largest possible overestimation of any count, and an upper bound of
+     * the frequency of any uncounted item.
+     */
+    public long maxError() {
+        return minCount();
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * The length of the stream summarized.
+     */
+    public long total() {
+        return total;
+    }
+
+    private long minCount() {
+        return heap.size() < capacity ? 0 : heap.get(0).count;
+    }
+
+    private void siftUp(int position) {
+        Counter<K> counter = heap.get(position);
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            Counter<K> above = heap.get(parent);
+            if (above.count <= counter.count) {
+                break;
+            }
+            place(above, position);
+            position = parent;
+        }
+        place(counter, position);
+    }
+
+    private void siftDown(int position) {
+        Counter<K> counter = heap.get(position);
+        int size = heap.size();
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap.get(child + 1).count < heap.get(child).count) {
+                child++;
+            }
+            Counter<K> below = heap.get(child);
+            if (counter.count <= below.count) {
+                break;
+            }
+            place(below, position);
+            position = child;
+        }
+        place(counter, position);
+    }
+
+    private void place(Counter<K> counter, int position) {
+        heap.set(position, counter);
+        positions.put(counter.item, position);
+    }
+
+    private static final class Counter<K> {
+
+        private K item;
+        private long count;
+        private long error;
+
+        Counter(K item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.manzurola.errant4j.lang.en;
+
+import io.github.manzurola.errant4j.core.TokenFeature;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The English classification profiles, trading accuracy for parsing cost.
+ */
+public enum EnProfile {
+
+    /**
+     * All rules, as described by ERRANT. Requires a dependency parse.
+     */
+    FULL(EnumSet.allOf(TokenFeature.class)),
+
+    /**
+     * Rules that need no dependency parse, which is the most expensive part of
+     * parsing. Tokens may lack dependency labels, heads and children. Two
+     * rules degrade:
+     * <ul>
+     *     <li>verb form errors between verbs preceded by a dependent auxiliary
+     *     verb are only detected if one of the verbs is a gerund or a
+     *     participle, see {@link io.github.manzurola.errant4j.lang.en.classify.rules.VerbFormRule};</li>
+     *     <li>determiner and pronoun confusions are told apart by the part of
+     *     speech of the next token instead of the dependency label of the
+     *     corrected token, see {@link io.github.manzurola.errant4j.lang.en.classify.rules.DetPronRule}.</li>
+     * </ul>
+     * Adjective form errors are detected by POS alone. All other rules are
+     * unaffected.
+     */
+    NO_DEPENDENCY_PARSE(EnumSet.of(
+        TokenFeature.TEXT,
+        TokenFeature.LEMMA,
+        TokenFeature.POS,
+        TokenFeature.TAG
+    ));
+
+    private final Set<TokenFeature> requiredFeatures;
+
+    EnProfile(Set<TokenFeature> requiredFeatures) {
+        this.requiredFeatures = Collections.unmodifiableSet(requiredFeatures);
+    }
+
+    /**
+     * The token features read by the classification rules of this profile.
+     */
+    public Set<TokenFeature> requiredFeatures() {
+        return requiredFeatures;
+    }
+
+    public boolean usesDependencyParse() {
+        return requiredFeatures.contains(TokenFeature.DEPENDENCY);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.manzurola.errant4j.lang.en;
+
+import io.github.manzurola.errant4j.lang.en.utils.lemmatize.Lemmatizer;
+import io.github.manzurola.errant4j.lang.en.utils.lemmatize.WordNetLemmatizer;
+import io.github.manzurola.errant4j.lang.en.utils.wordlist.HunspellWordList;
+import io.github.manzurola.errant4j.lang.en.utils.wordlist.WordList;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Registry of the English language resources shared by all classifiers in the
+ * JVM.
+ * <p>
+ * The Hunspell {@link WordList} and the WordNet {@link Lemmatizer} are loaded
+ * once, on first access, and the same instances are returned to every caller.
+ * Loading is thread-safe; concurrent first callers block until the resource is
+ * ready. Call {@link #preloadAsync()} at startup to load them in the background
+ * so that the first annotation doesn't pay for it.
+ */
+public final class EnResources {
+
+    private EnResources() {
+    }
+
+    /**
+     * Get the shared Hunspell word list, loading it if necessary.
+     */
+    public static WordList wordList() {
+        return WordListHolder.INSTANCE;
+    }
+
+    /**
+     * Get the shared WordNet lemmatizer, loading it if necessary.
+     */
+    public static Lemmatizer lemmatizer() {
+        return LemmatizerHolder.INSTANCE;
+    }
+
+    /**
+     * Load all resources in the calling thread.
+     */
+    public static void preload() {
+        wordList();
+        lemmatizer();
+    }
+
+    /**
+     * Start loading all resources in the common pool.
+     */
+    public static CompletableFuture<Void> preloadAsync() {
+        return preloadAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Start loading all resources using the supplied executor. Both resources
+     * are loaded in parallel.
+     */
+    public static CompletableFuture<Void> preloadAsync(Executor executor) {
+        return CompletableFuture.allOf(
+            CompletableFuture.runAsync(EnResources::wordList, executor),
+            CompletableFuture.runAsync(EnResources::lemmatizer, executor)
+        );
+    }
+
+    private static final class WordListHolder {
+        private static final WordList INSTANCE = new HunspellWordList();
+    }
+
+    private static final class LemmatizerHolder {
+        private static final Lemmatizer INSTANCE = new WordNetLemmatizer();
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.manzurola.errant4j.lang.en;
+
+import java.util.List;
+
+/**
+ * Sentence pairs exercising every English classification rule and merge
+ * condition, used to warm up an annotator before it serves traffic.
+ */
+public final class EnWarmUp {
+
+    private static final List<List<String>> PAIRS = List.of(
+        List.of("Yesterday I go to see my therapist.", "Yesterday I went to see my therapist."),
+        List.of("He go to school every day.", "He goes to school every day."),
+        List.of("I am go to the park.", "I am going to the park."),
+        List.of("He getted a prize last year.", "He got a prize last year."),
+        List.of("I want go home now.", "I want to go home now."),
+        List.of("I like to eat apples.", "I like eating apples."),
+        List.of("I have two cat and three dog.", "I have two cats and three dogs."),
+        List.of("I saw two childs in the park.", "I saw two children in the park."),
+        List.of("The boy toy is broken.", "The boy's toy is broken."),
+        List.of("This is the most big house.", "This is the biggest house."),
+        List.of("He is more tall than me.", "He is taller than me."),
+        List.of("He runs very quick.", "He runs very quickly."),
+        List.of("I cant go and he dont care.", "I can't go and he doesn't care."),
+        List.of("I can not swim.", "I cannot swim."),
+        List.of("Me and him went home.", "He and I went home."),
+        List.of("I saw the cat on a roof.", "I saw a cat on the roof."),
+        List.of("I looked in the sky and gave in.", "I looked at the sky and gave up."),
+        List.of("I like tea but coffee.", "I like tea and coffee."),
+        List.of("It is very nice house.", "It is a very nice house."),
+        List.of("i live in london.", "I live in London."),
+        List.of("Hello how are you", "Hello, how are you?"),
+        List.of("He left . Then we slept", "He left, then we slept."),
+        List.of("I recieved a letter yesterday.", "I received a letter yesterday."),
+        List.of("I like  this  food.", "I like this food."),
+        List.of("I like very much it.", "I like it very much."),
+        List.of("The teachers book is on the table.", "The teacher's book is on the table."),
+        List.of("The meeting was postponed.", "The session was delayed."),
+        List.of("She has a big red ball.", "She had a small blue box."),
+        List.of("I went at home.", "I went to the home."),
+        List.of("There is many problems.", "There are many problems."),
+        List.of("The weather is nice today.", "The weather is nice today.")
+    );
+
+    private EnWarmUp() {
+    }
+
+    /**
+     * The source and target text of each pair.
+     */
+    public static List<List<String>> pairs() {
+        return PAIRS;
+    }
+}
@@ -1,24 +1,46 @@
 package io.github.manzurola.errant4j.lang.en.classify;
 
+import io.github.manzurola.errant4j.core.TokenFeature;
+import io.github.manzurola.errant4j.core.classify.CachingClassifier;
 import io.github.manzurola.errant4j.core.classify.ClassificationRule;
 import io.github.manzurola.errant4j.core.classify.RuleBasedClassifier;
+import io.github.manzurola.errant4j.lang.en.EnProfile;
+import io.github.manzurola.errant4j.lang.en.EnResources;
 import io.github.manzurola.errant4j.lang.en.classify.rules.*;
 import io.github.manzurola.errant4j.lang.en.utils.lemmatize.Lemmatizer;
-import io.github.manzurola.errant4j.lang.en.utils.lemmatize.WordNetLemmatizer;
-import io.github.manzurola.errant4j.lang.en.utils.wordlist.HunspellWordList;
 import io.github.manzurola.errant4j.lang.en.utils.wordlist.WordList;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 public class EnClassifier extends RuleBasedClassifier {
 
+    private final EnProfile profile;
     private final List<ClassificationRule> rules;
 
+    /**
+     * Create a classifier backed by the shared {@link EnResources}.
+     */
     public EnClassifier() {
-        this(new WordNetLemmatizer(), new HunspellWordList());
+        this(EnProfile.FULL);
+    }
+
+    /**
+     * Create a classifier of the given profile backed by the shared {@link
+     * EnResources}.
+     */
+    public EnClassifier(EnProfile profile) {
+        this(EnResources.lemmatizer(), EnResources.wordList(), profile);
     }
 
     public EnClassifier(Lemmatizer lemmatizer, WordList wordList) {
+        this(lemmatizer, wordList, EnProfile.FULL);
+    }
+
+    public EnClassifier(Lemmatizer lemmatizer, WordList wordList, EnProfile profile) {
+        this.profile = Objects.requireNonNull(profile);
+        boolean dependencyParse = profile.usesDependencyParse();
         this.rules = List.of(
                 new IgnoreSpaceErrorRule(),
 
@@ -42,13 +64,13 @@ public class EnClassifier extends RuleBasedClassifier {
                 new SubjectVerbAgreementRule(),
                 new VerbTenseRule(lemmatizer),
 
-                new VerbFormRule(lemmatizer),
+                new VerbFormRule(lemmatizer, dependencyParse),
                 new MissingOrUnnecessaryVerbFormInfinitivalToRule(),
                 new ReplacementVerbFormInfinitivalToRule(),
 
                 new VerbRule(),
                 new PartRule(),
-                new DetPronRule(),
+                new DetPronRule(dependencyParse),
                 new PunctuationEffectRule(),
 
                 new SpellingErrorRule(wordList),
@@ -60,6 +82,36 @@ public class EnClassifier extends RuleBasedClassifier {
         );
     }
 
+    /**
+     * Create a classifier backed by the shared {@link EnResources} that caches
+     * up to {@code maximumSize} results keyed by {@link EnEditSignature}.
+     */
+    public static CachingClassifier cached(int maximumSize) {
+        return cached(EnProfile.FULL, maximumSize);
+    }
+
+    /**
+     * Create a classifier of the given profile backed by the shared {@link
+     * EnResources} that caches up to {@code maximumSize} results keyed by
+     * {@link EnEditSignature}.
+     */
+    public static CachingClassifier cached(EnProfile profile, int maximumSize) {
+        return new CachingClassifier(
+            new EnClassifier(profile),
+            new EnEditSignature(),
+            maximumSize
+        );
+    }
+
+    public final EnProfile profile() {
+        return profile;
+    }
+
+    @Override
+    public Set<TokenFeature> requiredFeatures() {
+        return profile.requiredFeatures();
+    }
+
     @Override
     protected List<ClassificationRule> getRules() {
         return rules;
@@ -0,0 +1,95 @@
+package io.github.manzurola.errant4j.lang.en.classify;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.classify.CachingClassifier;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Builds the cache key used by a {@link CachingClassifier} decorating an
+ * {@link EnClassifier}.
+ * <p>
+ * The signature holds every feature the English rules read: the operation and
+ * segment sizes; text, lower, lemma, POS, tag, dependency and the alpha and
+ * whitespace flags of every edit token; the POS and dependency of the children
+ * preceding each token (see {@link io.github.manzurola.errant4j.lang.en.classify.rules.VerbFormRule});
+ * the tag and POS of the token following the first token of each side (see
+ * {@link io.github.manzurola.errant4j.lang.en.classify.rules.NounPossessiveRule},
+ * and {@link io.github.manzurola.errant4j.lang.en.classify.rules.DetPronRule}
+ * without a dependency parse); and
+ * which edit tokens are equal to the last token of each side (see {@link
+ * io.github.manzurola.errant4j.lang.en.classify.rules.PunctuationEffectRule}).
+ * Strings are length-prefixed, so distinct feature sets never produce the same
+ * key.
+ */
+public final class EnEditSignature implements Function<Edit<Token>, String> {
+
+    @Override
+    public String apply(Edit<Token> edit) {
+        StringBuilder key = new StringBuilder(64 * (edit.source().size() + edit.target().size() + 1));
+        key.append(edit.operation().ordinal())
+            .append('|')
+            .append(edit.source().size())
+            .append('|')
+            .append(edit.target().size())
+            .append('|');
+        appendSegment(key, edit.source().tokens());
+        appendSegment(key, edit.target().tokens());
+        appendEqualityPattern(key, edit);
+        return key.toString();
+    }
+
+    private void appendSegment(StringBuilder key, List<Token> tokens) {
+        for (Token token : tokens) {
+            appendToken(key, token);
+            for (Token child : token.children()) {
+                if (child.index() < token.index()) {
+                    key.append('c');
+                    append(key, child.pos());
+                    append(key, child.dependency());
+                }
+            }
+        }
+        if (!tokens.isEmpty()) {
+            Optional<Token> next = tokens.get(0).next();
+            key.append('n');
+            append(key, next.map(Token::tag).orElse(null));
+            append(key, next.map(Token::pos).orElse(null));
+        }
+        key.append('/');
+    }
+
+    private void appendToken(StringBuilder key, Token token) {
+        key.append('t');
+        append(key, token.text());
+        append(key, token.lower());
+        append(key, token.lemma());
+        append(key, token.pos());
+        append(key, token.tag());
+        append(key, token.dependency());
+        key.append(token.isAlpha() ? '1' : '0');
+        key.append(token.isWhitespace() ? '1' : '0');
+    }
+
+    private void appendEqualityPattern(StringBuilder key, Edit<Token> edit) {
+        if (edit.source().isEmpty() || edit.target().isEmpty()) {
+            return;
+        }
+        Token sourceLast = edit.source().last();
+        Token targetLast = edit.target().last();
+        edit.stream().forEach(token -> key
+            .append(token.equals(sourceLast) ? '1' : '0')
+            .append(token.equals(targetLast) ? '1' : '0'));
+    }
+
+    private void append(StringBuilder key, String value) {
+        if (value == null) {
+            key.append('-');
+            return;
+        }
+        key.append(value.length()).append(':').append(value);
+    }
+}
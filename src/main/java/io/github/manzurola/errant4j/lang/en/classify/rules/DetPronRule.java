@@ -11,6 +11,7 @@ import io.github.manzurola.spacy4j.api.features.Pos;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * The following special rule differentiates between determiners and pronouns that have the same surface form; e.g. ‘His
@@ -18,6 +19,22 @@ import java.util.Optional;
  */
 public class DetPronRule implements ClassificationRule {
 
+    private final boolean dependencyParse;
+
+    public DetPronRule() {
+        this(true);
+    }
+
+    /**
+     * @param dependencyParse whether tokens are dependency parsed; if not, the
+     *                        corrected token is a determiner when it is
+     *                        followed by a noun, adjective or number, and a
+     *                        pronoun otherwise
+     */
+    public DetPronRule(boolean dependencyParse) {
+        this.dependencyParse = dependencyParse;
+    }
+
     /**
      * 1. There is exactly one token on both sides of the edit, and 2. The set of POS tags for these tokens is DET and
      * PRON, and 3. (a) The corrected token dependency label is poss (possessive determiner); i.e. DET, or (b) The
@@ -38,6 +55,12 @@ public class DetPronRule implements ClassificationRule {
             return GrammaticalError.unknown(edit);
         }
 
+        if (!dependencyParse) {
+            return target.get().next().filter(precedesNominal()).isPresent()
+                    ? GrammaticalError.of(edit, ErrorCategory.DET)
+                    : GrammaticalError.of(edit, ErrorCategory.PRON);
+        }
+
         if (target.filter(Predicates.matchDependency(Dependency.NMOD)).isPresent()) {
             return GrammaticalError.of(edit, ErrorCategory.DET);
         }
@@ -51,4 +74,11 @@ public class DetPronRule implements ClassificationRule {
         return GrammaticalError.unknown(edit);
     }
 
+    private Predicate<Token> precedesNominal() {
+        return Predicates.isNoun()
+                .or(Predicates.isAdjective())
+                .or(token -> Pos.PROPN.matches(token.pos()))
+                .or(token -> Pos.NUM.matches(token.pos()));
+    }
+
 }
@@ -45,9 +45,20 @@ import java.util.stream.Collectors;
 public class VerbFormRule extends ClassificationPredicate {
 
     private final Lemmatizer lemmatizer;
+    private final boolean dependencyParse;
 
     public VerbFormRule(Lemmatizer lemmatizer) {
+        this(lemmatizer, true);
+    }
+
+    /**
+     * @param dependencyParse whether tokens are dependency parsed; if not, the
+     *                        case of verbs preceded by a dependent auxiliary
+     *                        verb is skipped
+     */
+    public VerbFormRule(Lemmatizer lemmatizer, boolean dependencyParse) {
         this.lemmatizer = lemmatizer;
+        this.dependencyParse = dependencyParse;
     }
 
     @Override
@@ -65,7 +76,7 @@ public class VerbFormRule extends ClassificationPredicate {
     }
 
     public Predicate<Edit<Token>> case1() {
-        return edit -> edit
+        return edit -> dependencyParse && edit
                 .stream()
                 .allMatch(Predicates.isVerb().and(precededByDependantAuxVerb()));
     }
@@ -2,6 +2,7 @@ package io.github.manzurola.errant4j.lang.en.classify.rules.common;
 
 import com.github.manzurola.aligner.edit.Edit;
 import com.github.manzurola.aligner.edit.Operation;
+import io.github.manzurola.errant4j.core.labels.LabelEncoder;
 import io.github.manzurola.errant4j.lang.en.utils.lemmatize.Lemmatizer;
 import io.github.manzurola.spacy4j.api.containers.Token;
 import io.github.manzurola.spacy4j.api.features.Dependency;
@@ -121,10 +122,16 @@ public class Predicates {
     }
 
     public static Predicate<? super Edit<Token>> PosTagSetEquals(Pos... pos) {
-        return edit -> edit.stream()
-                .map(Token::pos)
-                .map(Pos::ofTag)
-                .collect(Collectors.toSet())
-                .equals(Set.of(pos));
+        long expected = LabelEncoder.bits(pos);
+        return edit -> {
+            long actual = 0;
+            for (Token token : edit.source().tokens()) {
+                actual |= LabelEncoder.POS.bit(token.pos());
+            }
+            for (Token token : edit.target().tokens()) {
+                actual |= LabelEncoder.POS.bit(token.pos());
+            }
+            return actual == expected;
+        };
     }
 }
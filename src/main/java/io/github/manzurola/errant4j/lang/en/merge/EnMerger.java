@@ -1,11 +1,14 @@
 package io.github.manzurola.errant4j.lang.en.merge;
 
 import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.TokenFeature;
 import io.github.manzurola.errant4j.core.merge.Merger;
 import io.github.manzurola.errant4j.lang.en.merge.rules.*;
 import io.github.manzurola.spacy4j.api.containers.Token;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * <p>As described in <a href="https://github.com/chrisjbryant/errant/blob/master/errant/en/merger.py">
@@ -60,4 +63,14 @@ public class EnMerger implements Merger {
     public List<Edit<Token>> merge(List<Edit<Token>> edits) {
         return impl.merge(edits);
     }
+
+    @Override
+    public Set<TokenFeature> requiredFeatures() {
+        return EnumSet.of(TokenFeature.TEXT, TokenFeature.POS);
+    }
+
+    @Override
+    public boolean preservesSingleEdits() {
+        return impl.preservesSingleEdits();
+    }
 }
@@ -1,45 +1,39 @@
 package io.github.manzurola.errant4j.lang.en.merge.rules;
 
 import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.labels.LabelEncoder;
 import io.github.manzurola.errant4j.core.merge.Merger;
 import io.github.manzurola.spacy4j.api.containers.Token;
 import io.github.manzurola.spacy4j.api.features.Pos;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 /**
  * Merge any consecutive operations that involve tokens with the same POS; e.g. [(look) at → (look) up] + [ε → to] =
  * [(look) at → (look) up to].
  */
 public class SamePosMergeCondition implements Merger.Rule {
 
-    private static final Set<Pos> expectedPos = new HashSet<>(Arrays.asList(Pos.AUX, Pos.PART, Pos.VERB));
+    private static final long expectedPos = LabelEncoder.bits(Pos.AUX, Pos.PART, Pos.VERB);
 
     @Override
     public boolean test(Edit<Token> left, Edit<Token> right) {
-        Set<Pos> leftPos = left.stream()
-                .map(Token::pos)
-                .map(Pos::ofTag)
-                .collect(Collectors.toSet());
-        Set<Pos> rightPos = right.stream()
-                .map(Token::pos)
-                .map(Pos::ofTag)
-                .collect(Collectors.toSet());
-        Set<Pos> posSet = new HashSet<>(leftPos);
-        posSet.addAll(rightPos);
+        long posSet = posBits(left) | posBits(right);
 
-        if (posSet.size() == 1) { //edits share same pos
+        if (Long.bitCount(posSet) == 1) { //edits share same pos
             return true;
         }
         // if set is subset of expected
-        int count = 0;
-        for (Pos expected : expectedPos) {
-            if (posSet.contains(expected)) count++;
+        return (posSet & ~expectedPos) == 0;
+    }
+
+    private long posBits(Edit<Token> edit) {
+        long bits = 0;
+        for (Token token : edit.source().tokens()) {
+            bits |= LabelEncoder.POS.bit(token.pos());
+        }
+        for (Token token : edit.target().tokens()) {
+            bits |= LabelEncoder.POS.bit(token.pos());
         }
-        return count == posSet.size();
+        return bits;
     }
 
 }
@@ -6,26 +6,77 @@ import net.sf.extjwnl.dictionary.Dictionary;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * A thread-safe {@link Lemmatizer} backed by WordNet.
+ * <p>
+ * Results are memoized in a concurrent map, so repeated words are served
+ * without locking. Misses go to one of a fixed number of dictionary handles,
+ * chosen by word hash; each handle is used by one thread at a time, since the
+ * extjwnl morphological processor is not safe for concurrent use. Every
+ * handle holds its own copy of WordNet, so more than one handle only pays off
+ * when misses are frequent. Once the memo holds {@code maximumCacheSize}
+ * words, further words are looked up but not stored. Returned sets are
+ * unmodifiable.
+ */
 public class WordNetLemmatizer implements Lemmatizer {
-    private final Dictionary wordnet;
+
+    public static final int DEFAULT_MAXIMUM_CACHE_SIZE = 1 << 17;
+
+    private final Dictionary[] dictionaries;
+    private final ConcurrentMap<String, Set<String>> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger cacheSize = new AtomicInteger();
+    private final int maximumCacheSize;
 
     public WordNetLemmatizer() {
+        this(1, DEFAULT_MAXIMUM_CACHE_SIZE);
+    }
+
+    public WordNetLemmatizer(int dictionaryCount, int maximumCacheSize) {
+        if (dictionaryCount < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Dictionary count must be positive, got %d",
+                dictionaryCount
+            ));
+        }
+        this.dictionaries = new Dictionary[dictionaryCount];
         try {
-            this.wordnet = Dictionary.getDefaultResourceInstance();
+            for (int i = 0; i < dictionaryCount; i++) {
+                dictionaries[i] = Dictionary.getDefaultResourceInstance();
+            }
         } catch (JWNLException e) {
             throw new RuntimeException(e);
         }
+        this.maximumCacheSize = maximumCacheSize;
     }
 
     @Override
     public Set<String> lemmas(String word) {
+        String lower = word.toLowerCase();
+        Set<String> lemmas = cache.get(lower);
+        if (lemmas != null) {
+            return lemmas;
+        }
+        lemmas = lookup(lower);
+        if (cacheSize.get() < maximumCacheSize && cache.putIfAbsent(lower, lemmas) == null) {
+            cacheSize.incrementAndGet();
+        }
+        return lemmas;
+    }
+
+    private Set<String> lookup(String word) {
+        Dictionary wordnet = dictionaries[Math.floorMod(word.hashCode(), dictionaries.length)];
         try {
             Set<String> lemmas = new HashSet<>();
-            for (POS pos : POS.getAllPOS()) {
-                lemmas.addAll(wordnet.getMorphologicalProcessor().lookupAllBaseForms(pos, word.toLowerCase()));
+            synchronized (wordnet) {
+                for (POS pos : POS.getAllPOS()) {
+                    lemmas.addAll(wordnet.getMorphologicalProcessor().lookupAllBaseForms(pos, word));
+                }
             }
-            return lemmas;
+            return Set.copyOf(lemmas);
         } catch (JWNLException e) {
             throw new RuntimeException(e);
         }
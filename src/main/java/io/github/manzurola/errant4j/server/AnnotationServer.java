@@ -0,0 +1,323 @@
+package io.github.manzurola.errant4j.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.Annotator;
+import io.github.manzurola.errant4j.core.Errant;
+import io.github.manzurola.errant4j.core.json.AnnotationJsonWriter;
+import io.github.manzurola.errant4j.core.mark.CursorErrorMarker;
+import io.github.manzurola.errant4j.core.mark.ErrorMarker;
+import io.github.manzurola.errant4j.core.mark.MarkedError;
+import io.github.manzurola.spacy4j.api.containers.Doc;
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * An embedded HTTP server exposing an {@link Annotator} over two endpoints:
+ * <ul>
+ *     <li>{@code POST /annotate} - returns the annotations of each pair</li>
+ *     <li>{@code POST /mark} - returns the marked errors of each pair, with
+ *     character offsets into the source text</li>
+ * </ul>
+ * The request body holds one sentence pair per line, source and target
+ * separated by a tab. The response is written by an {@link
+ * AnnotationJsonWriter}, one line per annotation with the index of its pair as
+ * the sentence, in input order and streamed as soon as each pair is done. The
+ * char offsets of {@code /mark} come from the {@link ErrorMarker}.
+ * <p>
+ * Pairs from all concurrent requests are collected by a {@link MicroBatcher}.
+ * The texts of each batch are passed to {@link Annotator#parseAll(List)} in a
+ * single call, so a parser with a batch capable backend parses them together,
+ * and a {@link io.github.manzurola.errant4j.core.parse.ParserPool} checks out
+ * one instance per batch rather than one per text.
+ * <p>
+ * Starting the server also starts {@link Errant#warmUp(String, Annotator)}
+ * for the annotator's language in the background. {@code GET /ready} answers
+ * 503 until the warm-up is done and 200 afterwards, for use as a readiness
+ * probe.
+ */
+public final class AnnotationServer implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ofMillis(5);
+
+    private final String language;
+    private final Annotator annotator;
+    private final ErrorMarker marker;
+    private final HttpServer server;
+    private final ExecutorService handlers;
+    private final ExecutorService workers;
+    private final MicroBatcher<TextPair, AnnotatedPair> batcher;
+    private final CompletableFuture<Duration> warmUp = new CompletableFuture<>();
+
+    private AnnotationServer(
+        String language,
+        Annotator annotator,
+        ErrorMarker marker,
+        InetSocketAddress address,
+        int maxBatchSize,
+        Duration maxWait,
+        int workerCount
+    ) throws IOException {
+        if (workerCount < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Worker count must be positive, got %d",
+                workerCount
+            ));
+        }
+        this.language = Objects.requireNonNull(language);
+        this.annotator = Objects.requireNonNull(annotator);
+        this.marker = Objects.requireNonNull(marker);
+        this.workers = Executors.newFixedThreadPool(workerCount);
+        this.handlers = Executors.newCachedThreadPool();
+        this.batcher = new MicroBatcher<>(
+            this::annotateBatch,
+            maxBatchSize,
+            maxWait,
+            workers
+        );
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(handlers);
+        this.server.createContext("/annotate", exchange -> handle(exchange, false));
+        this.server.createContext("/mark", exchange -> handle(exchange, true));
+        this.server.createContext("/ready", this::handleReady);
+    }
+
+    public static AnnotationServer create(
+        String language,
+        Annotator annotator,
+        InetSocketAddress address
+    ) throws IOException {
+        return create(
+            language,
+            annotator,
+            new CursorErrorMarker(),
+            address,
+            DEFAULT_MAX_BATCH_SIZE,
+            DEFAULT_MAX_WAIT,
+            Runtime.getRuntime().availableProcessors()
+        );
+    }
+
+    public static AnnotationServer create(
+        String language,
+        Annotator annotator,
+        ErrorMarker marker,
+        InetSocketAddress address,
+        int maxBatchSize,
+        Duration maxWait,
+        int workerCount
+    ) throws IOException {
+        return new AnnotationServer(
+            language,
+            annotator,
+            marker,
+            address,
+            maxBatchSize,
+            maxWait,
+            workerCount
+        );
+    }
+
+    public final AnnotationServer start() {
+        server.start();
+        CompletableFuture
+            .supplyAsync(() -> Errant.warmUp(language, annotator), workers)
+            .whenComplete((duration, error) -> {
+                if (error != null) {
+                    warmUp.completeExceptionally(error);
+                } else {
+                    warmUp.complete(duration);
+                }
+            });
+        return this;
+    }
+
+    /**
+     * Completes with the warm-up duration once the server is ready.
+     */
+    public final CompletableFuture<Duration> warmUp() {
+        return warmUp;
+    }
+
+    public final InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    public final MicroBatcher<?, ?> batcher() {
+        return batcher;
+    }
+
+    /**
+     * Stop accepting connections, finish the pairs already submitted and
+     * release all threads.
+     */
+    @Override
+    public final void close() throws InterruptedException {
+        server.stop(0);
+        batcher.close();
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        handlers.shutdown();
+    }
+
+    private List<AnnotatedPair> annotateBatch(List<TextPair> pairs) {
+        List<String> texts = new ArrayList<>(2 * pairs.size());
+        for (TextPair pair : pairs) {
+            texts.add(pair.source);
+            texts.add(pair.target);
+        }
+        List<Doc> docs = annotator.parseAll(texts);
+        List<AnnotatedPair> annotated = new ArrayList<>(pairs.size());
+        for (int i = 0; i < pairs.size(); i++) {
+            List<Token> source = docs.get(2 * i).tokens();
+            List<Annotation> annotations = annotator
+                .annotate(source, docs.get(2 * i + 1).tokens())
+                .stream()
+                .filter(annotation -> !annotation.error().isNone())
+                .collect(Collectors.toList());
+            annotated.add(new AnnotatedPair(source, annotations));
+        }
+        return annotated;
+    }
+
+    private void handleReady(HttpExchange exchange) throws IOException {
+        try {
+            String status;
+            int code;
+            if (!warmUp.isDone()) {
+                code = 503;
+                status = "warming up";
+            } else if (warmUp.isCompletedExceptionally()) {
+                code = 500;
+                status = "warm-up failed";
+            } else {
+                code = 200;
+                status = "ready in " + warmUp.join();
+            }
+            byte[] body = status.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(code, body.length);
+            exchange.getResponseBody().write(body);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handle(HttpExchange exchange, boolean mark) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            List<TextPair> pairs;
+            try {
+                pairs = readPairs(exchange.getRequestBody());
+            } catch (IllegalArgumentException e) {
+                byte[] message = e.getMessage().getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(400, message.length);
+                exchange.getResponseBody().write(message);
+                return;
+            }
+            List<CompletableFuture<AnnotatedPair>> futures = new ArrayList<>(pairs.size());
+            for (TextPair pair : pairs) {
+                futures.add(batcher.submit(pair));
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0);
+            AnnotationJsonWriter writer = new AnnotationJsonWriter(exchange.getResponseBody());
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    write(writer, i, futures.get(i).join(), mark);
+                } catch (CompletionException e) {
+                    writer.writeFailure(i, String.valueOf(e.getCause()));
+                }
+                writer.flush();
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private List<TextPair> readPairs(InputStream body) throws IOException {
+        List<TextPair> pairs = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+            body,
+            StandardCharsets.UTF_8
+        ));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            if (tab < 0) {
+                throw new IllegalArgumentException(String.format(
+                    "Line %d is not a tab separated sentence pair",
+                    lineNumber
+                ));
+            }
+            pairs.add(new TextPair(line.substring(0, tab), line.substring(tab + 1)));
+        }
+        return pairs;
+    }
+
+    private void write(
+        AnnotationJsonWriter writer,
+        int sentence,
+        AnnotatedPair pair,
+        boolean mark
+    ) throws IOException {
+        if (!mark) {
+            for (Annotation annotation : pair.annotations) {
+                writer.write(sentence, annotation);
+            }
+            return;
+        }
+        List<MarkedError> errors = marker.markErrors(pair.annotations, pair.source);
+        for (int i = 0; i < errors.size(); i++) {
+            writer.write(sentence, pair.annotations.get(i), errors.get(i));
+        }
+    }
+
+    private static final class TextPair {
+
+        private final String source;
+        private final String target;
+
+        TextPair(String source, String target) {
+            this.source = source;
+            this.target = target;
+        }
+    }
+
+    private static final class AnnotatedPair {
+
+        private final List<Token> source;
+        private final List<Annotation> annotations;
+
+        AnnotatedPair(List<Token> source, List<Annotation> annotations) {
+            this.source = source;
+            this.annotations = annotations;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.manzurola.errant4j.server;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * Collects concurrently submitted items into batches bounded by size and
+ * wait time, and processes each batch on an executor.
+ * <p>
+ * A batch is dispatched as soon as it holds {@code maxBatchSize} items, or
+ * {@code maxWait} after its first item arrived, whichever comes first. The
+ * processor must return one output per input, in order. If it fails on a
+ * batch, the items of the batch are processed again one at a time, so a
+ * failing item only fails its own future.
+ * <p>
+ * Every submitted item is completed: items submitted after {@link #close()}
+ * are failed with an {@link IllegalStateException}, and items submitted
+ * before are processed.
+ */
+public final class MicroBatcher<I, O> implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final Function<List<I>, List<O>> processor;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Executor executor;
+    private final BlockingQueue<Pending<I, O>> queue = new LinkedBlockingQueue<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder items = new LongAdder();
+    private final Thread collector;
+    private final ReadWriteLock closing = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public MicroBatcher(
+        Function<List<I>, List<O>> processor,
+        int maxBatchSize,
+        Duration maxWait,
+        Executor executor
+    ) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException(String.format(
+                "Batch size must be positive, got %d",
+                maxBatchSize
+            ));
+        }
+        this.processor = Objects.requireNonNull(processor);
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.executor = Objects.requireNonNull(executor);
+        this.collector = new Thread(this::collect, "errant-micro-batcher");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    public CompletableFuture<O> submit(I input) {
+        Pending<I, O> pending = new Pending<>(input);
+        // submitters share the read lock, close() takes the write lock, so an
+        // item is never queued after the collector has been told to stop
+        closing.readLock().lock();
+        try {
+            if (closed) {
+                pending.future.completeExceptionally(new IllegalStateException("Batcher is closed"));
+                return pending.future;
+            }
+            queue.add(pending);
+        } finally {
+            closing.readLock().unlock();
+        }
+        return pending.future;
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    public long itemCount() {
+        return items.sum();
+    }
+
+    public double averageBatchSize() {
+        long batchCount = batchCount();
+        return batchCount == 0 ? 0.0 : (double) itemCount() / batchCount;
+    }
+
+    /**
+     * Stop accepting items, dispatch the ones already queued and wait for the
+     * collector to finish.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closing.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closing.writeLock().unlock();
+        }
+        collector.join();
+        List<Pending<I, O>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        fail(remaining, new IllegalStateException("Batcher is closed"));
+    }
+
+    private void collect() {
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Pending<I, O> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<Pending<I, O>> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    Pending<I, O> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dispatch(List<Pending<I, O>> batch) {
+        batches.increment();
+        items.add(batch.size());
+        try {
+            executor.execute(() -> process(batch));
+        } catch (RejectedExecutionException e) {
+            fail(batch, e);
+        }
+    }
+
+    private void process(List<Pending<I, O>> batch) {
+        try {
+            complete(batch);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch, e);
+                return;
+            }
+            for (Pending<I, O> pending : batch) {
+                process(List.of(pending));
+            }
+        } catch (Error e) {
+            fail(batch, e);
+        }
+    }
+
+    private void complete(List<Pending<I, O>> batch) {
+        List<I> inputs = new ArrayList<>(batch.size());
+        for (Pending<I, O> pending : batch) {
+            inputs.add(pending.input);
+        }
+        List<O> outputs = processor.apply(inputs);
+        if (outputs.size() != batch.size()) {
+            throw new IllegalStateException(String.format(
+                "Expected %d batch outputs, got %d",
+                batch.size(),
+                outputs.size()
+            ));
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future.complete(outputs.get(i));
+        }
+    }
+
+    private void fail(List<Pending<I, O>> batch, Throwable cause) {
+        for (Pending<I, O> pending : batch) {
+            pending.future.completeExceptionally(cause);
+        }
+    }
+
+    private static final class Pending<I, O> {
+
+        private final I input;
+        private final CompletableFuture<O> future = new CompletableFuture<>();
+
+        Pending(I input) {
+            this.input = input;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.manzurola.errant4j.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ArgumentsTest {
+
+    @Test
+    void parsesOptionsWithZeroOrMoreValues() {
+        Arguments args = Arguments.parse(List.of(
+            "-orig", "o.txt", "-cor", "a.txt", "b.txt", "--threads", "8", "-dt"
+        ));
+        assertEquals(Path.of("o.txt"), args.requiredPath("orig"));
+        assertEquals(List.of("a.txt", "b.txt"), args.values("cor"));
+        assertEquals(8, args.intValue("threads", 1));
+        assertTrue(args.has("dt"));
+        assertEquals(List.of(), args.values("dt"));
+        assertFalse(args.has("ds"));
+        assertEquals(List.of(), args.values("ds"));
+        assertEquals(Optional.empty(), args.value("b"));
+        assertEquals(0.5, args.doubleValue("b", 0.5), 0);
+        args.checkSupported(Set.of("orig", "cor", "threads", "dt"));
+    }
+
+    @Test
+    void treatsNegativeNumbersAsValues() {
+        Arguments args = Arguments.parse(List.of("-b", "-1.5", "-cat", "2"));
+        assertEquals(-1.5, args.doubleValue("b", 0.5), 0);
+        assertEquals(2, args.intValue("cat", 0));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(UsageException.class, () -> Arguments.parse(List.of("stray", "-a")));
+        assertThrows(UsageException.class, () -> Arguments.parse(List.of("-a", "1", "--a", "2")));
+        Arguments args = Arguments.parse(List.of("-hyp", "a", "b", "-b", "x"));
+        assertThrows(UsageException.class, () -> args.value("hyp"));
+        assertThrows(UsageException.class, () -> args.required("ref"));
+        assertThrows(UsageException.class, () -> args.doubleValue("b", 0.5));
+        assertThrows(UsageException.class, () -> args.checkSupported(Set.of("hyp")));
+    }
+}
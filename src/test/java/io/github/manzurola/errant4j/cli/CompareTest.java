@@ -0,0 +1,132 @@
+package io.github.manzurola.errant4j.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Expected tables are those printed by ERRANT's {@code errant_compare} for the
+ * same files.
+ */
+public class CompareTest {
+
+    private static final String HYP = String.join("\n",
+        "S The cat sat on mat .",
+        "A 4 4|||M:DET|||the|||REQUIRED|||-NONE-|||0",
+        "A 2 3|||R:VERB:TENSE|||sits|||REQUIRED|||-NONE-|||0",
+        "",
+        "S He go home",
+        "A 1 2|||R:VERB:SVA|||goes|||REQUIRED|||-NONE-|||0",
+        "",
+        "S Fine .",
+        "A -1 -1|||noop|||-NONE-|||REQUIRED|||-NONE-|||0",
+        "",
+        "S a b c",
+        "A 0 2|||R:OTHER|||x|||REQUIRED|||-NONE-|||0",
+        ""
+    );
+
+    private static final String REF = String.join("\n",
+        "S The cat sat on mat .",
+        "A 4 4|||M:DET|||the|||REQUIRED|||-NONE-|||0",
+        "",
+        "S He go home",
+        "A 1 2|||R:VERB:TENSE|||went|||REQUIRED|||-NONE-|||0",
+        "A 1 2|||R:VERB:SVA|||goes|||REQUIRED|||-NONE-|||1",
+        "",
+        "S Fine .",
+        "A 1 1|||M:ADV|||indeed|||REQUIRED|||-NONE-|||0",
+        "",
+        "S a b c",
+        "A 1 2|||R:OTHER|||x|||REQUIRED|||-NONE-|||0",
+        ""
+    );
+
+    @Test
+    void spanBasedCorrectionWithCategories() throws Exception {
+        assertEquals(List.of(
+            "",
+            "===================== Span-Based Correction ======================",
+            "Category       TP       FP       FN       P        R        F0.5",
+            "M:ADV          0        0        1        1.0      0.0      0.0",
+            "M:DET          1        0        0        1.0      1.0      1.0",
+            "R:OTHER        0        1        1        0.0      0.0      0.0",
+            "R:VERB:SVA     1        0        0        1.0      1.0      1.0",
+            "R:VERB:TENSE   0        1        0        0.0      1.0      0.0",
+            "",
+            "=========== Span-Based Correction ============",
+            "TP\tFP\tFN\tPrec\tRec\tF0.5",
+            "2\t2\t2\t0.5\t0.5\t0.5",
+            "==============================================",
+            ""
+        ), compare("-cat", "3"));
+    }
+
+    @Test
+    void tokenBasedDetection() throws Exception {
+        assertEquals(List.of(
+            "",
+            "=========== Token-Based Detection ============",
+            "TP\tFP\tFN\tPrec\tRec\tF0.5",
+            "3\t2\t1\t0.6\t0.75\t0.625",
+            "==============================================",
+            ""
+        ), compare("-dt"));
+    }
+
+    @Test
+    void spanBasedDetectionWithBeta() throws Exception {
+        assertEquals(List.of(
+            "",
+            "============ Span-Based Detection ============",
+            "TP\tFP\tFN\tPrec\tRec\tF1.0",
+            "2\t2\t2\t0.5\t0.5\t0.5",
+            "==============================================",
+            ""
+        ), compare("-ds", "-b", "1"));
+    }
+
+    @Test
+    void exitCodes() throws IOException {
+        Path hyp = write(HYP);
+        Path shorter = write(REF.substring(0, REF.indexOf("S He")));
+        assertEquals(0, ErrantCli.run("compare", "-hyp", hyp.toString(), "-ref", hyp.toString()));
+        // invalid arguments
+        assertEquals(2, ErrantCli.run("compare", "-hyp", hyp.toString()));
+        assertEquals(2, ErrantCli.run("compare", "-hyp", hyp.toString(), "-ref", hyp.toString(), "-dt", "-ds"));
+        assertEquals(2, ErrantCli.run("compare", "-hyp", hyp.toString(), "-ref", hyp.toString(), "-cat", "x"));
+        assertEquals(2, ErrantCli.run("unknown"));
+        // invalid input
+        assertEquals(1, ErrantCli.run("compare", "-hyp", hyp.toString(), "-ref", shorter.toString()));
+        assertEquals(1, ErrantCli.run("compare", "-hyp", hyp.toString(), "-ref", hyp + ".missing"));
+    }
+
+    private static List<String> compare(String... options) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        List<String> args = new ArrayList<>(List.of(
+            "-hyp", write(HYP).toString(),
+            "-ref", write(REF).toString()
+        ));
+        args.addAll(List.of(options));
+        assertEquals(0, new Compare(out).run(args));
+        return bytes.toString(StandardCharsets.UTF_8).lines().collect(Collectors.toList());
+    }
+
+    private static Path write(String content) throws IOException {
+        Path path = Files.createTempFile("errant", ".m2");
+        path.toFile().deleteOnExit();
+        Files.writeString(path, content);
+        return path;
+    }
+}
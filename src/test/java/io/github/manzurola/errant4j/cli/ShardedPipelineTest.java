@@ -0,0 +1,94 @@
+package io.github.manzurola.errant4j.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShardedPipelineTest {
+
+    private static final List<Integer> INPUT = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    @Test
+    void writesResultsInInputOrder() throws Exception {
+        List<Integer> expected = INPUT.stream().map(i -> i * 2).collect(Collectors.toList());
+        assertEquals(expected, run(new ShardedPipeline<>(3, 2), i -> i * 2));
+        assertEquals(expected, run(new ShardedPipeline<>(3, 2, i -> i % 7), i -> i * 2));
+    }
+
+    @Test
+    void scheduledWindowsOverlap() throws Exception {
+        // Two threads and shards of one item make windows of eight items. The
+        // first item of the first window waits for the first item of the
+        // second, which only runs if the second window is scheduled before
+        // the first is done.
+        CountDownLatch second = new CountDownLatch(1);
+        List<Boolean> released = new ArrayList<>();
+        ShardedPipeline<Integer, Integer> pipeline = new ShardedPipeline<>(2, 1, i -> i == 0 ? 100 : 1);
+        List<Integer> results = run(pipeline, i -> {
+            if (i == 0) {
+                try {
+                    released.add(second.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            } else if (i == 8) {
+                second.countDown();
+            }
+            return i;
+        });
+        assertEquals(INPUT, results);
+        assertEquals(List.of(true), released);
+    }
+
+    @Test
+    void scheduledFailureIsRethrown() {
+        ShardedPipeline<Integer, Integer> pipeline = new ShardedPipeline<>(2, 1, i -> 1);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> run(pipeline, i -> {
+            if (i == 42) {
+                throw new IllegalArgumentException("bad item");
+            }
+            return i;
+        }));
+        assertTrue(e.getMessage().endsWith("bad item"));
+    }
+
+    @Test
+    void sinkFailureIsRethrown() {
+        ShardedPipeline<Integer, Integer> pipeline = new ShardedPipeline<>(2, 1, i -> 1);
+        IOException e = assertThrows(IOException.class, () -> pipeline.run(
+            INPUT.iterator(),
+            i -> i,
+            result -> {
+                throw new IOException("disk full");
+            },
+            progress()
+        ));
+        assertEquals("disk full", e.getMessage());
+    }
+
+    private static List<Integer> run(
+        ShardedPipeline<Integer, Integer> pipeline,
+        Function<Integer, Integer> function
+    ) throws IOException, InterruptedException {
+        List<Integer> results = new ArrayList<>();
+        pipeline.run(INPUT.iterator(), function, results::add, progress());
+        return results;
+    }
+
+    private static Progress progress() {
+        return new Progress(new PrintStream(new ByteArrayOutputStream()), "items");
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.manzurola.errant4j.core;
+
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.spacy4j.adapters.corenlp.CoreNLPAdapter;
+import io.github.manzurola.spacy4j.api.SpaCy;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AnnotationBudgetTest {
+
+    private static final String SOURCE = "Yesterday I go to see my therapist. " +
+                                         "She tell me that the weather were nice. " +
+                                         "Then we walks home together.";
+    private static final String TARGET = "Yesterday I went to see my therapist. " +
+                                         "She told me that the weather was nice. " +
+                                         "Then we walked home together.";
+
+    private static Annotator annotator;
+
+    @BeforeAll
+    static void setup() {
+        annotator = Errant.forEnglish(SpaCy.create(CoreNLPAdapter.forEnglish()));
+    }
+
+    @Test
+    void withinBudget() {
+        AnnotationResult result = annotate(AnnotationBudget.unlimited());
+        assertEquals(Degradation.NONE, result.degradation());
+        assertEquals(annotator.annotate(tokens(SOURCE), tokens(TARGET)), result.annotations());
+    }
+
+    @Test
+    void chunkedAlignment() {
+        AnnotationResult result = annotate(AnnotationBudget.of(100, Duration.ofMinutes(1)));
+        assertEquals(Degradation.CHUNKED_ALIGNMENT, result.degradation());
+        assertEquals(
+            errors(annotator.annotate(tokens(SOURCE), tokens(TARGET))),
+            errors(result.annotations())
+        );
+    }
+
+    @Test
+    void unclassifiedAfterTimeout() {
+        AnnotationResult result = annotate(AnnotationBudget.of(100, Duration.ofNanos(1)));
+        assertEquals(Degradation.UNCLASSIFIED, result.degradation());
+        assertTrue(result.annotations()
+            .stream()
+            .allMatch(annotation -> annotation.error().isNone()
+                                    || annotation.error().category() == ErrorCategory.OTHER));
+    }
+
+    private AnnotationResult annotate(AnnotationBudget budget) {
+        return annotator.annotate(tokens(SOURCE), tokens(TARGET), budget);
+    }
+
+    private List<Token> tokens(String text) {
+        return annotator.parse(text).tokens();
+    }
+
+    private List<String> errors(List<Annotation> annotations) {
+        return annotations
+            .stream()
+            .filter(annotation -> !annotation.error().isNone())
+            .map(annotation -> annotation.sourceText() + " -> " + annotation.targetText() + " " + annotation.error())
+            .collect(Collectors.toList());
+    }
+}
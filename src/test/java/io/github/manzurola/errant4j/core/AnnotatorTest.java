@@ -0,0 +1,91 @@
+package io.github.manzurola.errant4j.core;
+
+import com.github.manzurola.aligner.Aligner;
+import com.github.manzurola.aligner.Alignment;
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.align.TokenAligner;
+import io.github.manzurola.errant4j.core.classify.Classifier;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.merge.Merger;
+import io.github.manzurola.errant4j.core.parse.Parser;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AnnotatorTest {
+
+    @Test
+    void requiresUnionOfStageFeatures() {
+        Annotator annotator = Annotator.of(
+            (Parser) null,
+            new TokenAligner(),
+            merger(EnumSet.of(TokenFeature.TAG)),
+            classifier(EnumSet.of(TokenFeature.POS))
+        );
+        assertEquals(
+            EnumSet.of(TokenFeature.TEXT, TokenFeature.LEMMA, TokenFeature.POS, TokenFeature.TAG),
+            annotator.requiredFeatures()
+        );
+    }
+
+    @Test
+    void requiresAllFeaturesOfUndeclaredAligner() {
+        Aligner<Token> aligner = new Aligner<>() {
+            @Override
+            public Alignment<Token> align(List<Token> source, List<Token> target) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        Annotator annotator = Annotator.of(
+            (Parser) null,
+            aligner,
+            merger(EnumSet.noneOf(TokenFeature.class)),
+            classifier(EnumSet.noneOf(TokenFeature.class))
+        );
+        assertEquals(EnumSet.allOf(TokenFeature.class), annotator.requiredFeatures());
+    }
+
+    @Test
+    void requiresAllFeaturesOfDefaultStages() {
+        Annotator annotator = Annotator.of(
+            (Parser) null,
+            new TokenAligner(),
+            Merger.allSplit(),
+            edit -> GrammaticalError.NONE
+        );
+        assertEquals(EnumSet.allOf(TokenFeature.class), annotator.requiredFeatures());
+    }
+
+    private static Merger merger(Set<TokenFeature> features) {
+        return new Merger() {
+            @Override
+            public List<Edit<Token>> merge(List<Edit<Token>> edits) {
+                return edits;
+            }
+
+            @Override
+            public Set<TokenFeature> requiredFeatures() {
+                return features;
+            }
+        };
+    }
+
+    private static Classifier classifier(Set<TokenFeature> features) {
+        return new Classifier() {
+            @Override
+            public GrammaticalError classify(Edit<Token> edit) {
+                return GrammaticalError.NONE;
+            }
+
+            @Override
+            public Set<TokenFeature> requiredFeatures() {
+                return features;
+            }
+        };
+    }
+}
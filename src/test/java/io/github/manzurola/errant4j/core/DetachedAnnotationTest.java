@@ -0,0 +1,69 @@
+package io.github.manzurola.errant4j.core;
+
+import io.github.manzurola.errant4j.core.json.AnnotationRecord;
+import io.github.manzurola.spacy4j.adapters.corenlp.CoreNLPAdapter;
+import io.github.manzurola.spacy4j.api.SpaCy;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DetachedAnnotationTest {
+
+    private static Annotator annotator;
+
+    @BeforeAll
+    static void setup() {
+        annotator = Errant.forEnglish(SpaCy.create(CoreNLPAdapter.forEnglish()));
+    }
+
+    @Test
+    void keepsPositionsTextsErrorAndOffsets() {
+        List<Annotation> annotations = annotate(
+            "Yesterday I go to see my therapist.",
+            "Yesterday I went to see my therapist."
+        );
+        List<DetachedAnnotation> detached = DetachedAnnotation.ofAll(annotations, new StringPool());
+        assertEquals(annotations.size(), detached.size());
+        for (int i = 0; i < annotations.size(); i++) {
+            Annotation annotation = annotations.get(i);
+            DetachedAnnotation copy = detached.get(i);
+            assertEquals(annotation.error(), copy.error());
+            assertEquals(annotation.sourcePosition(), copy.sourcePosition());
+            assertEquals(annotation.sourcePosition() + annotation.sourceTokens().size(), copy.sourceEnd());
+            assertEquals(annotation.targetPosition(), copy.targetPosition());
+            assertEquals(annotation.targetPosition() + annotation.targetTokens().size(), copy.targetEnd());
+            assertEquals(annotation.sourceText(), copy.sourceText());
+            assertEquals(annotation.targetText(), copy.targetText());
+            assertEquals(annotation.sourceCharOffset(), copy.sourceCharOffset());
+            assertEquals(annotation.targetCharOffset(), copy.targetCharOffset());
+        }
+    }
+
+    @Test
+    void sharesPooledTexts() {
+        StringPool pool = new StringPool();
+        DetachedAnnotation first = annotate("I go home.", "I went home.").get(1).detach(pool);
+        DetachedAnnotation second = annotate("They go home.", "They went home.").get(1).detach(pool);
+        assertSame(first.targetText(), second.targetText());
+    }
+
+    @Test
+    void recordHoldsDetachedAnnotation() {
+        Annotation annotation = annotate("I go home.", "I went home.").get(1);
+        DetachedAnnotation detached = DetachedAnnotation.of(annotation);
+        assertEquals(annotation.detach(new StringPool()), detached);
+        assertEquals(detached, AnnotationRecord.of(2, annotation).annotation());
+        assertEquals(AnnotationRecord.of(2, detached), AnnotationRecord.of(2, annotation));
+    }
+
+    private List<Annotation> annotate(String source, String target) {
+        return annotator.annotate(
+            annotator.parse(source).tokens(),
+            annotator.parse(target).tokens()
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.manzurola.errant4j.core;
+
+import io.github.manzurola.spacy4j.adapters.corenlp.CoreNLPAdapter;
+import io.github.manzurola.spacy4j.api.SpaCy;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DocumentAnnotatorTest {
+
+    private static DocumentAnnotator annotator;
+
+    @BeforeAll
+    static void setup() {
+        annotator = new DocumentAnnotator(Errant.forEnglish(SpaCy.create(CoreNLPAdapter.forEnglish())));
+    }
+
+    @Test
+    void alignsSentencesOneToOne() {
+        DocumentAnnotation document = annotator.annotate(
+            "I go home. She like cats.",
+            "I went home. She likes cats."
+        );
+        assertEquals(
+            List.of(SentencePair.of(0, 4, 0, 4), SentencePair.of(4, 8, 4, 8)),
+            document.sentencePairs()
+        );
+        assertEquals(List.of("go -> went @1", "like -> likes @5"), errors(document));
+    }
+
+    @Test
+    void alignsSplitSentence() {
+        DocumentAnnotation document = annotator.annotate(
+            "I go home and she like cats.",
+            "I went home. She likes cats."
+        );
+        assertEquals(List.of(SentencePair.of(0, 8, 0, 8)), document.sentencePairs());
+    }
+
+    @Test
+    void alignsInsertedSentence() {
+        DocumentAnnotation document = annotator.annotate(
+            "I went home. She likes cats.",
+            "I went home. It was late. She likes cats."
+        );
+        assertEquals(
+            List.of(
+                SentencePair.of(0, 4, 0, 4),
+                SentencePair.of(4, 4, 4, 8),
+                SentencePair.of(4, 8, 8, 12)
+            ),
+            document.sentencePairs()
+        );
+    }
+
+    @Test
+    void emptyDocuments() {
+        DocumentAnnotation document = annotator.annotate("", "");
+        assertEquals(List.of(), document.sentencePairs());
+        assertEquals(List.of(), document.annotations());
+    }
+
+    private List<String> errors(DocumentAnnotation document) {
+        return document.annotations()
+            .stream()
+            .filter(annotation -> !annotation.error().isNone())
+            .map(annotation -> annotation.sourceText() + " -> " + annotation.targetText()
+                               + " @" + annotation.sourcePosition())
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.manzurola.errant4j.core;
+
+import io.github.manzurola.errant4j.core.classify.ClassificationRule;
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.parse.Parser;
+import io.github.manzurola.errant4j.lang.en.EnProfile;
+import io.github.manzurola.errant4j.lang.en.classify.EnClassifier;
+import io.github.manzurola.errant4j.lang.en.merge.EnMerger;
+import io.github.manzurola.spacy4j.adapters.corenlp.CoreNLPAdapter;
+import io.github.manzurola.spacy4j.api.SpaCy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ErrantTest {
+
+    @Test
+    void warmUpFiresEveryEnglishRule() {
+        RecordingClassifier classifier = new RecordingClassifier();
+        Annotator annotator = Annotator.of(
+            SpaCy.create(CoreNLPAdapter.forEnglish()),
+            new EnMerger(),
+            classifier
+        );
+
+        Errant.warmUp("en", annotator, 1);
+
+        Set<String> rules = classifier.rules().stream()
+            .map(rule -> rule.getClass().getSimpleName())
+            .collect(Collectors.toSet());
+        Set<String> fired = classifier.fired().stream()
+            .map(rule -> rule.getClass().getSimpleName())
+            .collect(Collectors.toSet());
+        assertEquals(rules, fired);
+    }
+
+    @Test
+    void warmUpWithoutParserOnlyLoadsResources() {
+        AtomicInteger classified = new AtomicInteger();
+        Annotator annotator = Annotator.of(
+            (Parser) null,
+            new EnMerger(),
+            edit -> {
+                classified.incrementAndGet();
+                return GrammaticalError.unknown(edit);
+            }
+        );
+
+        assertFalse(annotator.hasParser());
+        Errant.warmUp("en", annotator, 1);
+        assertEquals(0, classified.get());
+    }
+
+    @Test
+    void warmUpRejectsUnsupportedLanguage() {
+        Annotator annotator = Errant.newAnnotator("en");
+        assertThrows(IllegalArgumentException.class, () -> Errant.warmUp("xx", annotator));
+    }
+
+    @Test
+    void backendReceivesFeaturesOfProfile() {
+        List<Set<TokenFeature>> requested = new ArrayList<>();
+        Annotator annotator = Errant.forEnglish(EnProfile.NO_DEPENDENCY_PARSE, (Set<TokenFeature> features) -> {
+            requested.add(features);
+            return null;
+        });
+
+        Set<TokenFeature> expected = EnumSet.of(
+            TokenFeature.TEXT,
+            TokenFeature.LEMMA,
+            TokenFeature.POS,
+            TokenFeature.TAG
+        );
+        assertEquals(List.of(expected), requested);
+        assertEquals(expected, annotator.requiredFeatures());
+        assertFalse(annotator.hasParser());
+    }
+
+    @Test
+    void backendReceivesAllFeaturesOfFullProfile() {
+        List<Set<TokenFeature>> requested = new ArrayList<>();
+        Errant.forEnglish(EnProfile.FULL, (Set<TokenFeature> features) -> {
+            requested.add(features);
+            return null;
+        });
+
+        assertEquals(List.of(EnumSet.allOf(TokenFeature.class)), requested);
+    }
+
+    /**
+     * Records the rules that decided a classification: the first rule
+     * returning an error of a category other than {@link ErrorCategory#OTHER},
+     * or the last rule when none does.
+     */
+    private static final class RecordingClassifier extends EnClassifier {
+
+        private final Set<ClassificationRule> fired = ConcurrentHashMap.newKeySet();
+        private final List<ClassificationRule> rules;
+
+        RecordingClassifier() {
+            List<ClassificationRule> original = super.getRules();
+            List<ClassificationRule> recording = new ArrayList<>(original.size());
+            for (int i = 0; i < original.size(); i++) {
+                ClassificationRule rule = original.get(i);
+                boolean last = i == original.size() - 1;
+                recording.add(edit -> {
+                    GrammaticalError error = rule.classify(edit);
+                    if (last || !error.category().equals(ErrorCategory.OTHER)) {
+                        fired.add(rule);
+                    }
+                    return error;
+                });
+            }
+            this.rules = List.copyOf(recording);
+        }
+
+        List<ClassificationRule> rules() {
+            return super.getRules();
+        }
+
+        Set<ClassificationRule> fired() {
+            return fired;
+        }
+
+        @Override
+        protected List<ClassificationRule> getRules() {
+            return rules;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.manzurola.errant4j.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LengthAwareSchedulerTest {
+
+    @Test
+    void returnsResultsInInputOrder() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Integer> items = IntStream.range(0, 1000)
+                .map(i -> i % 37 == 0 ? 500 : i % 7)
+                .boxed()
+                .collect(Collectors.toList());
+            List<String> results = new LengthAwareScheduler(pool).map(
+                items,
+                item -> LengthAwareScheduler.pairCost(item, item),
+                String::valueOf
+            );
+            List<String> expected = new ArrayList<>();
+            for (Integer item : items) {
+                expected.add(String.valueOf(item));
+            }
+            assertEquals(expected, results);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void emptyBatch() {
+        assertEquals(List.of(), new LengthAwareScheduler().map(List.<Integer>of(), item -> item, item -> item));
+    }
+
+    @Test
+    void rethrowsFailures() {
+        assertThrows(IllegalStateException.class, () -> new LengthAwareScheduler().map(
+            List.of(1, 2, 3),
+            item -> item,
+            item -> {
+                if (item == 2) {
+                    throw new IllegalStateException("item " + item);
+                }
+                return item;
+            }
+        ));
+    }
+}
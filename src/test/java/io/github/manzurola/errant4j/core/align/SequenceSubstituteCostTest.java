@@ -0,0 +1,112 @@
+package io.github.manzurola.errant4j.core.align;
+
+import io.github.manzurola.errant4j.core.io.Parses;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SequenceSubstituteCostTest {
+
+    private static final TokenSubstituteCost TOKEN_COST = new TokenSubstituteCost();
+
+    private static final List<Token> SOURCE = Parses.tokens(
+        "The/the/DET/DT/det/2 cats/cat/NOUN/NNS/nsubj/3 sits/sit/VERB/VBZ/ROOT/0 "
+        + "quick/quick/ADJ/JJ/advmod/3 \n/\n/SPACE/_SP/dep/3 on/on/ADP/IN/prep/3 "
+        + "mat/mat/NOUN/NN/pobj/6 ././PUNCT/./punct/3"
+    );
+
+    private static final List<Token> TARGET = Parses.tokens(
+        "the/the/DET/DT/det/2 cat/cat/NOUN/NN/nsubj/3 sat/sit/VERB/VBD/ROOT/0 "
+        + "quickly/quickly/ADV/RB/advmod/3 on/on/ADP/IN/prep/3 the/the/DET/DT/det/7 "
+        + "Mat/mat/PROPN/NNP/pobj/5 !/!/PUNCT/./punct/3"
+    );
+
+    /**
+     * Tokens of another parse of the source sentence, equal in content but not
+     * part of either sequence.
+     */
+    private static final List<Token> FOREIGN = Parses.tokens(
+        "The/the/DET/DT/det/2 cats/cat/NOUN/NNS/nsubj/3 sits/sit/VERB/VBZ/ROOT/0"
+    );
+
+    @Test
+    void costEqualsTokenCost() {
+        SequenceSubstituteCost cost = cost(SOURCE, TARGET);
+        for (Token source : SOURCE) {
+            for (Token target : TARGET) {
+                assertEquals(
+                    TOKEN_COST.getCost(source, target),
+                    cost.getCost(source, target),
+                    0.0
+                );
+            }
+        }
+    }
+
+    @Test
+    void costOfForeignTokensFallsBackToTokenCost() {
+        SequenceSubstituteCost cost = cost(SOURCE, TARGET);
+        List<Token> all = new ArrayList<>(SOURCE);
+        all.addAll(TARGET);
+        all.addAll(FOREIGN);
+        for (Token left : all) {
+            for (Token right : all) {
+                assertEquals(
+                    TOKEN_COST.getCost(left, right),
+                    cost.getCost(left, right),
+                    0.0
+                );
+                assertEquals(
+                    left.text().equals(right.text()),
+                    cost.equal(left, right)
+                );
+            }
+        }
+    }
+
+    @Test
+    void lowerOrderMatchesTokens() {
+        SequenceSubstituteCost cost = cost(SOURCE, TARGET);
+        Comparator<Token> lowerOrder = Comparator.comparing(Token::lower);
+        List<Token> all = new ArrayList<>(SOURCE);
+        all.addAll(TARGET);
+        all.addAll(FOREIGN);
+        for (Token left : all) {
+            for (Token right : all) {
+                assertEquals(
+                    Integer.signum(lowerOrder.compare(left, right)),
+                    Integer.signum(cost.lowerOrder().compare(left, right))
+                );
+            }
+        }
+    }
+
+    @Test
+    void sequencesOfDifferentListsOfOneDocDoNotMix() {
+        List<Token> prefix = SOURCE.subList(0, 3);
+        List<Token> suffix = SOURCE.subList(3, SOURCE.size());
+        SequenceSubstituteCost cost = cost(prefix, suffix);
+        for (Token left : SOURCE) {
+            for (Token right : SOURCE) {
+                assertEquals(
+                    TOKEN_COST.getCost(left, right),
+                    cost.getCost(left, right),
+                    0.0
+                );
+            }
+        }
+    }
+
+    private static SequenceSubstituteCost cost(List<Token> source, List<Token> target) {
+        TokenSequence.Dictionary dictionary = new TokenSequence.Dictionary();
+        return new SequenceSubstituteCost(
+            TokenSequence.of(source, dictionary),
+            TokenSequence.of(target, dictionary)
+        );
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.manzurola.errant4j.core.classify;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.io.Parses;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachingClassifierTest {
+
+    private final List<Token> tokens = Parses.tokens(IntStream
+        .range(0, 100)
+        .mapToObj(i -> String.format("%d/%d/NUM/CD/nummod/0", i, i))
+        .collect(Collectors.joining(" ")));
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Classifier counting = edit -> {
+        calls.incrementAndGet();
+        return GrammaticalError.NONE;
+    };
+
+    @Test
+    void countsHitsAndMisses() {
+        CachingClassifier cached = new CachingClassifier(counting, this::key, 1600);
+        for (int pass = 0; pass < 3; pass++) {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(GrammaticalError.NONE, cached.classify(edit(i)));
+            }
+        }
+        assertEquals(100, calls.get());
+        assertEquals(100, cached.missCount());
+        assertEquals(200, cached.hitCount());
+        assertEquals(0, cached.evictionCount());
+        assertEquals(100, cached.size());
+        assertEquals(2.0 / 3, cached.hitRate(), 1e-9);
+
+        cached.clear();
+        assertEquals(0, cached.size());
+        cached.classify(edit(0));
+        assertEquals(101, calls.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        // keys 0, 16 and 32 fall into the same segment, which holds two entries
+        CachingClassifier cached = new CachingClassifier(counting, this::key, 32);
+        cached.classify(edit(0));
+        cached.classify(edit(16));
+        cached.classify(edit(0));
+        cached.classify(edit(32));
+        assertEquals(1, cached.evictionCount());
+        assertEquals(3, calls.get());
+
+        cached.classify(edit(0));
+        assertEquals(3, calls.get());
+        cached.classify(edit(16));
+        assertEquals(4, calls.get());
+        assertEquals(2, cached.evictionCount());
+    }
+
+    @Test
+    void boundsSize() {
+        CachingClassifier cached = new CachingClassifier(counting, this::key, 16);
+        List<Edit<Token>> edits = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            edits.add(edit(i));
+        }
+        edits.forEach(cached::classify);
+        assertTrue(cached.size() <= 16);
+        assertEquals(100 - cached.size(), cached.evictionCount());
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingClassifier(counting, this::key, 0));
+    }
+
+    private Edit<Token> edit(int index) {
+        return Edit
+            .builder()
+            .equal(String.valueOf(index))
+            .and(String.valueOf(index))
+            .atPosition(index, index)
+            .project(tokens, tokens);
+    }
+
+    private Integer key(Edit<Token> edit) {
+        return edit.source().first().index();
+    }
+}
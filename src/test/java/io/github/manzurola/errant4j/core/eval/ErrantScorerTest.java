@@ -0,0 +1,92 @@
+package io.github.manzurola.errant4j.core.eval;
+
+import io.github.manzurola.errant4j.core.m2.M2Reader;
+import io.github.manzurola.errant4j.core.m2.M2Sentence;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ErrantScorerTest {
+
+    private static final String HYP = String.join(
+        "\n",
+        "S I go home .",
+        "A 1 2|||R:VERB:TENSE|||went|||REQUIRED|||-NONE-|||0",
+        "",
+        "S A cat sat",
+        "A 3 3|||M:PUNCT|||.|||REQUIRED|||-NONE-|||0",
+        "",
+        "S I like cat .",
+        "A 2 3|||R:NOUN:NUM|||dogs|||REQUIRED|||-NONE-|||0",
+        ""
+    );
+
+    private static final String REF = String.join(
+        "\n",
+        "S I go home .",
+        "A 1 2|||R:VERB:TENSE|||went|||REQUIRED|||-NONE-|||0",
+        "",
+        "S A cat sat",
+        "A 0 1|||R:DET|||The|||REQUIRED|||-NONE-|||0",
+        "",
+        "S I like cat .",
+        "A 2 3|||R:NOUN|||cats|||REQUIRED|||-NONE-|||0",
+        "A 2 3|||R:NOUN:NUM|||dogs|||REQUIRED|||-NONE-|||1",
+        ""
+    );
+
+    @Test
+    void spanBasedCorrectionPicksBestReference() {
+        EvalResult result = new ErrantScorer().score(read(HYP), read(REF));
+        assertEquals(EditCounts.of(2, 1, 1), result.total());
+        assertEquals(EditCounts.of(1, 0, 0), result.byType().get("R:NOUN:NUM"));
+        assertEquals(EditCounts.of(0, 1, 0), result.byType().get("M:PUNCT"));
+        assertEquals(EditCounts.of(0, 0, 1), result.byType().get("R:DET"));
+        assertEquals(2.0 / 3, result.fScore(), 1e-9);
+    }
+
+    @Test
+    void spanBasedDetectionIgnoresCorrection() {
+        List<M2Sentence> hyp = read("S a b\nA 0 1|||R:OTHER|||x|||REQUIRED|||-NONE-|||0\n");
+        List<M2Sentence> ref = read("S a b\nA 0 1|||R:OTHER|||y|||REQUIRED|||-NONE-|||0\n");
+        assertEquals(
+            EditCounts.of(0, 1, 1),
+            new ErrantScorer().score(hyp, ref).total()
+        );
+        assertEquals(
+            EditCounts.of(1, 0, 0),
+            new ErrantScorer(EvalMode.SPAN_DETECTION, 0.5).score(hyp, ref).total()
+        );
+    }
+
+    @Test
+    void tokenBasedDetectionSplitsSpans() {
+        List<M2Sentence> hyp = read("S a b c\nA 0 2|||R:OTHER|||x|||REQUIRED|||-NONE-|||0\n");
+        List<M2Sentence> ref = read("S a b c\nA 1 3|||R:OTHER|||y|||REQUIRED|||-NONE-|||0\n");
+        assertEquals(
+            EditCounts.of(1, 1, 1),
+            new ErrantScorer(EvalMode.TOKEN_DETECTION, 0.5).score(hyp, ref).total()
+        );
+    }
+
+    @Test
+    void noopEditsAreNotCounted() {
+        List<M2Sentence> hyp = read("S a b\nA -1 -1|||noop|||-NONE-|||REQUIRED|||-NONE-|||0\n");
+        List<M2Sentence> ref = read("S a b\nA -1 -1|||noop|||-NONE-|||REQUIRED|||-NONE-|||0\n");
+        assertEquals(
+            EditCounts.ZERO,
+            new ErrantScorer().score(hyp, ref).total()
+        );
+    }
+
+    private static List<M2Sentence> read(String m2) {
+        List<M2Sentence> sentences = new ArrayList<>();
+        new M2Reader(new BufferedReader(new StringReader(m2))).forEachRemaining(sentences::add);
+        return sentences;
+    }
+}
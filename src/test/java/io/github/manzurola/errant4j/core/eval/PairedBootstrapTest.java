@@ -0,0 +1,91 @@
+package io.github.manzurola.errant4j.core.eval;
+
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.errant4j.core.m2.M2Edit;
+import io.github.manzurola.errant4j.core.m2.M2Sentence;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PairedBootstrapTest {
+
+    private static final int SENTENCES = 200;
+
+    @Test
+    void perfectSystemIsSignificantlyBetter() {
+        List<M2Sentence> reference = reference();
+        List<M2Sentence> systemA = noisy(reference);
+        BootstrapResult result = new PairedBootstrap(1000, 42).testM2(
+            systemA,
+            reference,
+            reference
+        );
+        assertEquals(1.0, result.total().fScoreB(), 1e-9);
+        assertTrue(result.total().delta() > 0);
+        assertTrue(result.total().isSignificant(0.05));
+    }
+
+    @Test
+    void resultsDoNotDependOnParallelism() {
+        List<M2Sentence> reference = reference();
+        List<M2Sentence> systemA = noisy(reference);
+        double single = new PairedBootstrap(EvalMode.SPAN_CORRECTION, 0.5, 500, 7, new ForkJoinPool(1))
+            .testM2(systemA, reference, reference)
+            .total()
+            .pValue();
+        double parallel = new PairedBootstrap(EvalMode.SPAN_CORRECTION, 0.5, 500, 7, new ForkJoinPool(4))
+            .testM2(systemA, reference, reference)
+            .total()
+            .pValue();
+        assertEquals(single, parallel);
+    }
+
+    @Test
+    void errantTagsAreScoredPerCategory() {
+        List<M2Sentence> reference = new ArrayList<>();
+        List<M2Sentence> systemA = new ArrayList<>();
+        for (int i = 0; i < SENTENCES; i++) {
+            M2Sentence sentence = M2Sentence.of(
+                "a b c",
+                List.of(M2Edit.of(0, 1, "R:DET", "the", 0), M2Edit.of(1, 2, "R:VERB:SVA", "is", 0))
+            );
+            reference.add(sentence);
+            systemA.add(i % 3 == 0 ?
+                        M2Sentence.of("a b c", List.of(M2Edit.of(0, 1, "R:DET", "an", 0))) :
+                        sentence);
+        }
+        BootstrapResult result = new PairedBootstrap(500, 42).testM2(systemA, reference, reference);
+
+        Significance det = result.byCategory().get(ErrorCategory.DET);
+        assertEquals(1.0, det.fScoreB(), 1e-9);
+        assertTrue(det.fScoreA() > 0 && det.fScoreA() < 1);
+        assertTrue(det.isSignificant(0.05));
+        assertEquals(1.0, result.byCategory().get(ErrorCategory.VERB_SVA).fScoreB(), 1e-9);
+    }
+
+    private static List<M2Sentence> reference() {
+        List<M2Sentence> sentences = new ArrayList<>();
+        for (int i = 0; i < SENTENCES; i++) {
+            sentences.add(M2Sentence.of(
+                "a b c",
+                List.of(M2Edit.of(1, 2, "R:VERB:TENSE", "x", 0))
+            ));
+        }
+        return sentences;
+    }
+
+    private static List<M2Sentence> noisy(List<M2Sentence> reference) {
+        List<M2Sentence> sentences = new ArrayList<>();
+        for (int i = 0; i < reference.size(); i++) {
+            sentences.add(i % 3 == 0 ?
+                          M2Sentence.of("a b c", List.of(M2Edit.of(0, 1, "R:DETERMINER", "y", 0))) :
+                          reference.get(i));
+        }
+        return sentences;
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.manzurola.errant4j.core.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConlluReaderTest {
+
+    @Test
+    void readsSentencesSkippingComments() {
+        String conllu = String.join("\n",
+            "# sent_id = 1",
+            "# text = He didn't go.",
+            "1\tHe\the\tPRON\tPRP\t_\t4\tnsubj\t_\t_",
+            "2-3\tdidn't\t_\t_\t_\t_\t_\t_\t_\t_",
+            "2\tdid\tdo\tAUX\tVBD\t_\t4\taux\t_\tSpaceAfter=No",
+            "3\tn't\tnot\tPART\tRB\t_\t4\tadvmod\t_\t_",
+            "4\tgo\tgo\tVERB\tVB\t_\t0\troot\t_\tSpaceAfter=No",
+            "5\t.\t.\tPUNCT\t.\t_\t4\tpunct\t_\t_",
+            "",
+            "",
+            "1\tYes\t_\tINTJ\t_\t_\t0\troot\t_\t_",
+            ""
+        );
+        List<List<TokenRecord>> sentences = new ConlluReader(
+            new BufferedReader(new StringReader(conllu))
+        ).stream().collect(Collectors.toList());
+
+        assertEquals(List.of(
+            List.of(
+                TokenRecord.of("He", " ", "he", "PRON", "PRP", "nsubj", 3, 0, 2),
+                TokenRecord.of("did", "", "do", "AUX", "VBD", "aux", 3, 3, 6),
+                TokenRecord.of("n't", " ", "not", "PART", "RB", "advmod", 3, 6, 9),
+                TokenRecord.of("go", "", "go", "VERB", "VB", "ROOT", 3, 10, 12),
+                TokenRecord.of(".", "", ".", "PUNCT", ".", "punct", 3, 12, 13)
+            ),
+            List.of(
+                TokenRecord.of("Yes", "", "Yes", "INTJ", "", "ROOT", 0, 0, 3)
+            )
+        ), sentences);
+    }
+
+    @Test
+    void carriesRangeSpaceAfterOntoLastWord() {
+        String conllu = String.join("\n",
+            "1-2\tdon't\t_\t_\t_\t_\t_\t_\t_\tSpaceAfter=No",
+            "1\tdo\tdo\tAUX\tVBP\t_\t0\troot\t_\t_",
+            "2\tn't\tnot\tPART\tRB\t_\t1\tadvmod\t_\t_",
+            "3\t!\t!\tPUNCT\t.\t_\t1\tpunct\t_\t_",
+            ""
+        );
+        List<TokenRecord> sentence = new ConlluReader(
+            new BufferedReader(new StringReader(conllu))
+        ).next();
+
+        assertEquals(List.of(
+            TokenRecord.of("do", "", "do", "AUX", "VBP", "ROOT", 0, 0, 2),
+            TokenRecord.of("n't", "", "not", "PART", "RB", "advmod", 0, 2, 5),
+            TokenRecord.of("!", "", "!", "PUNCT", ".", "punct", 0, 5, 6)
+        ), sentence);
+    }
+
+    @Test
+    void mapsUniversalRelationsToSpacyLabels() {
+        String conllu = String.join("\n",
+            "1\tHis\the\tPRON\tPRP$\t_\t2\tnmod:poss\t_\t_",
+            "2\tbook\tbook\tNOUN\tNN\t_\t4\tnsubj:pass\t_\t_",
+            "3\twas\tbe\tAUX\tVBD\t_\t4\taux:pass\t_\t_",
+            "4\tsold\tsell\tVERB\tVBN\t_\t0\troot\t_\t_",
+            "5\tit\tit\tPRON\tPRP\t_\t4\tobj\t_\t_",
+            "6\tnow\tnow\tADV\tRB\t_\t4\tadvmod\t_\t_",
+            ""
+        );
+        List<String> relations = new ConlluReader(
+            new BufferedReader(new StringReader(conllu))
+        ).next().stream().map(TokenRecord::dependency).collect(Collectors.toList());
+
+        assertEquals(
+            List.of("poss", "nsubjpass", "auxpass", "ROOT", "dobj", "advmod"),
+            relations
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.manzurola.errant4j.core.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DocCacheTest {
+
+    @Test
+    void recordsSurviveRoundTrip() throws IOException {
+        List<List<TokenRecord>> sentences = List.of(
+            List.of(
+                TokenRecord.of("He", " ", "he", "PRON", "PRP", "nsubj", 1, 0, 2),
+                TokenRecord.of("goes", " ", "go", "VERB", "VBZ", "ROOT", 1, 3, 7),
+                TokenRecord.of("home", "", "home", "ADV", "RB", "advmod", 1, 8, 12),
+                TokenRecord.of(".", "", ".", "PUNCT", ".", "punct", 1, 12, 13)
+            ),
+            List.of(),
+            List.of(
+                TokenRecord.of("Ça", " ", "ça", "PRON", "PRP", "ROOT", 0, 20, 22),
+                TokenRecord.of("va", "\n", "aller", "VERB", "VBZ", "dep", 0, 23, 25)
+            )
+        );
+        Path path = Files.createTempFile("errant", ".cache");
+        try {
+            try (DocCacheWriter writer = DocCacheWriter.create(path)) {
+                for (List<TokenRecord> sentence : sentences) {
+                    writer.write(sentence);
+                }
+            }
+            try (DocCacheReader reader = DocCacheReader.open(path)) {
+                List<List<TokenRecord>> read = new ArrayList<>();
+                for (int i = 0; i < reader.size(); i++) {
+                    read.add(reader.records(i));
+                }
+                assertEquals(sentences, read);
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.manzurola.errant4j.core.io;
+
+import io.github.manzurola.spacy4j.api.containers.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds parsed tokens for tests without running a parser.
+ */
+public final class Parses {
+
+    private Parses() {
+    }
+
+    /**
+     * Parse a sentence written as space separated tokens of the form
+     * {@code text/lemma/POS/tag/dependency/head}, where head is the 1-based
+     * index of the head token, or 0 for the root. Tokens are followed by a
+     * space, except for the last.
+     */
+    public static List<Token> tokens(String sentence) {
+        String[] words = sentence.split(" ");
+        List<TokenRecord> records = new ArrayList<>(words.length);
+        int offset = 0;
+        for (int i = 0; i < words.length; i++) {
+            String[] fields = words[i].split("/", -1);
+            if (fields.length != 6) {
+                throw new IllegalArgumentException(String.format(
+                    "Expected 6 fields in %s",
+                    words[i]
+                ));
+            }
+            int head = Integer.parseInt(fields[5]);
+            String whitespace = i == words.length - 1 ? "" : " ";
+            records.add(TokenRecord.of(
+                fields[0],
+                whitespace,
+                fields[1],
+                fields[2],
+                fields[3],
+                fields[4],
+                head == 0 ? i : head - 1,
+                offset,
+                offset + fields[0].length()
+            ));
+            offset += fields[0].length() + whitespace.length();
+        }
+        return Docs.of(records).tokens();
+    }
+}
@@ -0,0 +1,151 @@
+package io.github.manzurola.errant4j.core.jfr;
+
+import com.github.manzurola.aligner.edit.Operation;
+import io.github.manzurola.errant4j.core.Annotator;
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.io.Docs;
+import io.github.manzurola.errant4j.core.io.Parses;
+import io.github.manzurola.errant4j.core.io.TokenRecord;
+import io.github.manzurola.errant4j.core.merge.Merger;
+import io.github.manzurola.errant4j.core.parse.Parser;
+import io.github.manzurola.spacy4j.api.containers.Doc;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EventsTest {
+
+    private static final String[] EVENTS = {
+        "errant4j.Parse",
+        "errant4j.Align",
+        "errant4j.Merge",
+        "errant4j.MergePass",
+        "errant4j.Classify",
+        "errant4j.ClassificationRule"
+    };
+
+    @Test
+    void annotatorEmitsPipelineEvents() throws IOException {
+        Annotator annotator = Annotator.of(
+            (Parser) null,
+            Merger.allSplit(),
+            edit -> edit.operation() == Operation.EQUAL
+                ? GrammaticalError.NONE
+                : GrammaticalError.unknown(edit)
+        );
+
+        List<RecordedEvent> events = record(() -> annotator.annotate(
+            Parses.tokens("a/a/X/X/dep/0 b/b/X/X/dep/1"),
+            Parses.tokens("a/a/X/X/dep/0 c/c/X/X/dep/1")
+        ));
+
+        RecordedEvent align = single(events, "errant4j.Align");
+        assertEquals(2, align.getInt("sourceTokens"));
+        assertEquals(2, align.getInt("targetTokens"));
+        assertEquals(2, align.getInt("edits"));
+
+        RecordedEvent merge = single(events, "errant4j.Merge");
+        assertEquals(2, merge.getInt("inputEdits"));
+        assertEquals(2, merge.getInt("outputEdits"));
+
+        List<RecordedEvent> classify = named(events, "errant4j.Classify");
+        assertEquals(2, classify.size());
+        RecordedEvent equal = classify.get(0);
+        assertEquals(Operation.EQUAL.name(), equal.getString("operation"));
+        assertEquals(GrammaticalError.NONE.tag(), equal.getString("error"));
+        RecordedEvent substitute = classify.get(1);
+        assertEquals(Operation.SUBSTITUTE.name(), substitute.getString("operation"));
+        assertEquals(1, substitute.getInt("sourceTokens"));
+        assertEquals(1, substitute.getInt("targetTokens"));
+        assertEquals("R:OTHER", substitute.getString("error"));
+        assertEquals(ErrorCategory.OTHER.tag(), substitute.getString("category"));
+    }
+
+    @Test
+    void parseEventSumsBatch() throws IOException {
+        List<String> texts = List.of("a b", "c");
+        List<Doc> docs = List.of(
+            Docs.of(List.of(
+                TokenRecord.of("a", " ", "a", "X", "X", "dep", 0, 0, 1),
+                TokenRecord.of("b", "", "b", "X", "X", "dep", 0, 2, 3)
+            )),
+            Docs.of(List.of(TokenRecord.of("c", "", "c", "X", "X", "dep", 0, 0, 1)))
+        );
+
+        List<RecordedEvent> events = record(() -> {
+            ParseEvent event = new ParseEvent();
+            event.begin();
+            event.complete(texts, docs);
+        });
+
+        RecordedEvent parse = single(events, "errant4j.Parse");
+        assertEquals(4, parse.getInt("textLength"));
+        assertEquals(3, parse.getInt("tokens"));
+        assertEquals(2, parse.getInt("texts"));
+    }
+
+    @Test
+    void detailEventsCarryTheirFields() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            MergePassEvent pass = new MergePassEvent();
+            pass.begin();
+            pass.complete(2, 5, 3);
+            ClassificationRuleEvent rule = new ClassificationRuleEvent();
+            rule.begin();
+            rule.complete(new EventsTest(), GrammaticalError.NONE);
+        });
+
+        RecordedEvent pass = single(events, "errant4j.MergePass");
+        assertEquals(2, pass.getInt("pass"));
+        assertEquals(5, pass.getInt("inputEdits"));
+        assertEquals(3, pass.getInt("outputEdits"));
+
+        RecordedEvent rule = single(events, "errant4j.ClassificationRule");
+        assertEquals("EventsTest", rule.getString("rule"));
+        assertEquals(GrammaticalError.NONE.tag(), rule.getString("error"));
+    }
+
+    /**
+     * Run the action in a recording with all errant4j events enabled,
+     * including those disabled by default, and read back its events.
+     */
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("errant4j", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : EVENTS) {
+                recording.enable(event);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events
+            .stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+            .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> named = named(events, name);
+        assertEquals(1, named.size());
+        return named.get(0);
+    }
+}
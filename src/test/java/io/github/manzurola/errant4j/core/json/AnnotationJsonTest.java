@@ -0,0 +1,78 @@
+package io.github.manzurola.errant4j.core.json;
+
+import io.github.manzurola.errant4j.core.DetachedAnnotation;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AnnotationJsonTest {
+
+    @Test
+    void recordsSurviveRoundTrip() throws IOException {
+        List<AnnotationRecord> records = List.of(
+            AnnotationRecord.of(0, 1, 2, 1, 2, "go", "went", GrammaticalError.REPLACEMENT_VERB_TENSE, 2, 4),
+            AnnotationRecord.of(-1, 3, 3, 3, 4, "", "\"the\"\t\\", GrammaticalError.MISSING_DETERMINER, -1, -1),
+            AnnotationRecord.of(7, 0, 1, 0, 0, "café 😀\u0001", "", GrammaticalError.UNNECESSARY_OTHER, 0, 7)
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AnnotationJsonWriter writer = new AnnotationJsonWriter(out)) {
+            for (AnnotationRecord record : records) {
+                writer.write(record);
+            }
+        }
+        List<AnnotationRecord> read = new AnnotationJsonReader(new ByteArrayInputStream(out.toByteArray()))
+            .stream()
+            .collect(Collectors.toList());
+        assertEquals(records, read);
+    }
+
+    @Test
+    void readerAcceptsAnyFieldOrderAndSkipsUnknownFields() {
+        String json = "{ \"error\" : \"R:VERB:TENSE\", \"extra\": {\"a\": [1, 2.5e3, null, \"x\"]},"
+                      + " \"target\": \"w\\u00e9nt\", \"source\": \"go\", \"source_start\": 1,"
+                      + " \"source_end\": 2, \"target_start\": 1, \"target_end\": 2 }\n";
+        AnnotationRecord record = new AnnotationJsonReader(new ByteArrayInputStream(
+            json.getBytes(StandardCharsets.UTF_8)
+        )).next();
+        assertEquals(
+            AnnotationRecord.of(-1, 1, 2, 1, 2, "go", "wént", GrammaticalError.REPLACEMENT_VERB_TENSE, -1, -1),
+            record
+        );
+    }
+
+    @Test
+    void recordOfDetachedAnnotationCarriesItsFields() {
+        DetachedAnnotation annotation = DetachedAnnotation.of(
+            1, 2, 1, 3, "go", "have gone", GrammaticalError.REPLACEMENT_VERB_TENSE
+        );
+        AnnotationRecord record = AnnotationRecord.of(4, annotation);
+        assertSame(annotation, record.annotation());
+        assertEquals(4, record.sentence());
+        assertEquals(Optional.empty(), record.charOffset());
+        assertEquals(
+            AnnotationRecord.of(4, 1, 2, 1, 3, "go", "have gone", GrammaticalError.REPLACEMENT_VERB_TENSE, -1, -1),
+            record
+        );
+    }
+
+    @Test
+    void readerRejectsFailures() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AnnotationJsonWriter writer = new AnnotationJsonWriter(out)) {
+            writer.writeFailure(3, "parse error");
+        }
+        AnnotationJsonReader reader = new AnnotationJsonReader(new ByteArrayInputStream(out.toByteArray()));
+        assertThrows(IllegalArgumentException.class, reader::next);
+    }
+}
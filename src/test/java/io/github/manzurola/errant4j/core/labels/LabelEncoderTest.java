@@ -0,0 +1,108 @@
+package io.github.manzurola.errant4j.core.labels;
+
+import io.github.manzurola.spacy4j.api.features.Dependency;
+import io.github.manzurola.spacy4j.api.features.Pos;
+import io.github.manzurola.spacy4j.api.features.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiPredicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class LabelEncoderTest {
+
+    private static final List<String> UNKNOWN = List.of("", "unknown", "NOT-A-LABEL", " ");
+
+    @Test
+    void posMatchesLikeConstants() {
+        assertEquivalent(LabelEncoder.POS, Pos.values(), Pos::matches);
+    }
+
+    @Test
+    void tagMatchesLikeConstants() {
+        assertEquivalent(LabelEncoder.TAG, Tag.values(), Tag::matches);
+    }
+
+    @Test
+    void dependencyMatchesLikeConstants() {
+        assertEquivalent(LabelEncoder.DEPENDENCY, Dependency.values(), Dependency::matches);
+    }
+
+    @Test
+    void posOrdinalIsThatOfCanonicalConstant() {
+        for (String label : labels(Pos.values())) {
+            Pos canonical = Pos.ofTag(label);
+            int ordinal = canonical == null ? -1 : canonical.ordinal();
+            assertEquals(ordinal, LabelEncoder.POS.ordinal(label), label);
+            long bit = canonical == null ? 1L : LabelEncoder.bits(canonical);
+            assertEquals(bit, LabelEncoder.POS.bit(label), label);
+        }
+    }
+
+    @Test
+    void nullAndUnknownLabelsMatchNothing() {
+        List<String> labels = new ArrayList<>(UNKNOWN);
+        labels.add(null);
+        for (String label : labels) {
+            for (Pos pos : Pos.values()) {
+                assertFalse(LabelEncoder.POS.matches(pos, label));
+            }
+            for (Tag tag : Tag.values()) {
+                assertFalse(LabelEncoder.TAG.matches(tag, label));
+            }
+            for (Dependency dependency : Dependency.values()) {
+                assertFalse(LabelEncoder.DEPENDENCY.matches(dependency, label));
+            }
+            assertEquals(-1, LabelEncoder.POS.ordinal(label));
+            assertEquals(-1, LabelEncoder.TAG.ordinal(label));
+            assertEquals(-1, LabelEncoder.DEPENDENCY.ordinal(label));
+            assertEquals(1L, LabelEncoder.POS.bit(label));
+        }
+    }
+
+    @Test
+    void bitsOfSetsCompareLikeSetsOfConstants() {
+        long expected = LabelEncoder.bits(Pos.AUX, Pos.VERB);
+        long actual = LabelEncoder.bits(Pos.VERB) | LabelEncoder.bits(Pos.AUX) | LabelEncoder.bits(Pos.VERB);
+        assertEquals(expected, actual);
+        assertEquals(0L, LabelEncoder.bits());
+    }
+
+    /**
+     * Every constant against the names of all constants in upper, lower and
+     * original case, and labels that match none.
+     */
+    private static <E extends Enum<E>> void assertEquivalent(
+        LabelEncoder<E> encoder,
+        E[] values,
+        BiPredicate<E, String> matcher
+    ) {
+        for (String label : labels(values)) {
+            int first = -1;
+            for (E value : values) {
+                boolean expected = matcher.test(value, label);
+                assertEquals(expected, encoder.matches(value, label), value + " " + label);
+                if (expected && first < 0) {
+                    first = value.ordinal();
+                }
+            }
+            if (encoder != LabelEncoder.POS) {
+                assertEquals(first, encoder.ordinal(label), label);
+            }
+        }
+    }
+
+    private static <E extends Enum<E>> List<String> labels(E[] values) {
+        List<String> labels = new ArrayList<>(UNKNOWN);
+        for (E value : values) {
+            labels.add(value.name());
+            labels.add(value.name().toLowerCase(Locale.ROOT));
+            labels.add(value.toString());
+        }
+        return labels;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.manzurola.errant4j.core.m2;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.io.ConlluReader;
+import io.github.manzurola.errant4j.core.io.Docs;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class M2EditTest {
+
+    @Test
+    void correctionIsSpaceSeparatedTokens() {
+        List<Token> source = parse(
+            "1\tI\tI\tPRON\tPRP\t_\t2\tnsubj\t_\t_",
+            "2\tknow\tknow\tVERB\tVBP\t_\t0\troot\t_\tSpaceAfter=No"
+        );
+        List<Token> target = parse(
+            "1\tI\tI\tPRON\tPRP\t_\t4\tnsubj\t_\t_",
+            "2-3\tdon't\t_\t_\t_\t_\t_\t_\t_\t_",
+            "2\tdo\tdo\tAUX\tVBP\t_\t4\taux\t_\tSpaceAfter=No",
+            "3\tn't\tnot\tPART\tRB\t_\t4\tneg\t_\t_",
+            "4\tknow\tknow\tVERB\tVB\t_\t0\troot\t_\tSpaceAfter=No",
+            "5\t.\t.\tPUNCT\t.\t_\t4\tpunct\t_\t_"
+        );
+        Annotation contraction = Edit
+            .builder()
+            .insert("do", "n't")
+            .atPosition(1, 1)
+            .project(source, target)
+            .transform(edit -> Annotation.of(edit, GrammaticalError.MISSING_VERB));
+        Annotation punctuation = Edit
+            .builder()
+            .insert(".")
+            .atPosition(2, 4)
+            .project(source, target)
+            .transform(edit -> Annotation.of(edit, GrammaticalError.MISSING_PUNCTUATION));
+        assertEquals("don't", contraction.targetText());
+
+        M2Sentence sentence = M2Sentence.of(source, List.of(contraction, punctuation));
+        assertEquals(String.join("\n",
+            "S I know",
+            "A 1 1|||M:VERB|||do n't|||REQUIRED|||-NONE-|||0",
+            "A 2 2|||M:PUNCT|||.|||REQUIRED|||-NONE-|||0"
+        ), sentence.toM2());
+        assertEquals(
+            List.of("I", "do", "n't", "know", "."),
+            sentence.correct(0).tokens()
+        );
+    }
+
+    private static List<Token> parse(String... lines) {
+        String conllu = String.join("\n", lines) + "\n";
+        ConlluReader reader = new ConlluReader(new BufferedReader(new StringReader(conllu)));
+        return Docs.of(reader.next()).tokens();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.manzurola.errant4j.core.m2;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class M2SentenceTest {
+
+    @Test
+    void appliesEditsOfOneCoderWithShiftingOffsets() {
+        M2Sentence sentence = M2Sentence.of("I goes to the the school yesterday", List.of(
+            M2Edit.parse("A 6 7|||U:ADV||||||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A 1 2|||R:VERB:SVA|||go|||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A 3 4|||U:DET||||||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A 0 0|||M:ADV|||Today|||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A 7 7|||M:PUNCT|||.|||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A 1 2|||R:VERB:TENSE|||went|||REQUIRED|||-NONE-|||1")
+        ));
+        M2Sentence.Correction correction = sentence.correct(0);
+        assertEquals(
+            List.of("Today", "I", "go", "to", "the", "school", "."),
+            correction.tokens()
+        );
+        List<M2Edit> edits = correction.edits();
+        assertEquals(List.of(0, 1, 3, 6, 7), List.of(
+            edits.get(0).start(),
+            edits.get(1).start(),
+            edits.get(2).start(),
+            edits.get(3).start(),
+            edits.get(4).start()
+        ));
+        // target spans of Today, go, the deleted "the", the deleted "yesterday" and "."
+        assertEquals(List.of(0, 1, 2, 3, 4, 4, 6, 6, 6, 7), List.of(
+            correction.targetStart(0), correction.targetEnd(0),
+            correction.targetStart(1), correction.targetEnd(1),
+            correction.targetStart(2), correction.targetEnd(2),
+            correction.targetStart(3), correction.targetEnd(3),
+            correction.targetStart(4), correction.targetEnd(4)
+        ));
+        assertEquals(
+            List.of("I", "went", "to", "the", "the", "school", "yesterday"),
+            sentence.correct(1).tokens()
+        );
+    }
+
+    @Test
+    void appliesMultiTokenCorrections() {
+        M2Sentence sentence = M2Sentence.of("I dont know", List.of(
+            M2Edit.parse("A 1 2|||R:OTHER|||do n't|||REQUIRED|||-NONE-|||0")
+        ));
+        M2Sentence.Correction correction = sentence.correct(0);
+        assertEquals(List.of("I", "do", "n't", "know"), correction.tokens());
+        assertEquals(1, correction.targetStart(0));
+        assertEquals(3, correction.targetEnd(0));
+    }
+
+    @Test
+    void appliesInsertionBeforeReplacementAtSamePosition() {
+        M2Sentence sentence = M2Sentence.of("a b c", List.of(
+            M2Edit.parse("A 1 2|||R:OTHER|||x|||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A 1 1|||M:OTHER|||y|||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A 2 2|||M:OTHER|||z|||REQUIRED|||-NONE-|||0")
+        ));
+        assertEquals(List.of("a", "y", "x", "z", "c"), sentence.correct(0).tokens());
+    }
+
+    @Test
+    void ignoresNoopEdits() {
+        M2Sentence sentence = M2Sentence.of("This is fine .", List.of(
+            M2Edit.noop(0),
+            M2Edit.parse("A 2 3|||R:ADJ|||good|||REQUIRED|||-NONE-|||1")
+        ));
+        M2Sentence.Correction correction = sentence.correct(0);
+        assertEquals(List.of("This", "is", "fine", "."), correction.tokens());
+        assertEquals(List.of(), correction.edits());
+        assertEquals(List.of(0, 1), sentence.coders());
+        assertEquals(List.of("This", "is", "good", "."), sentence.correct(1).tokens());
+    }
+
+    @Test
+    void rejectsOverlappingEdits() {
+        M2Sentence sentence = M2Sentence.of("a b c d", List.of(
+            M2Edit.parse("A 0 2|||R:OTHER|||x|||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A 1 3|||R:OTHER|||y|||REQUIRED|||-NONE-|||0")
+        ));
+        assertThrows(IllegalArgumentException.class, () -> sentence.correct(0));
+    }
+
+    @Test
+    void roundTripsThroughM2() {
+        String block = String.join("\n",
+            "S I goes home",
+            "A 1 2|||R:VERB:SVA|||go|||REQUIRED|||-NONE-|||0",
+            "A -1 -1|||noop|||-NONE-|||REQUIRED|||-NONE-|||1"
+        );
+        M2Sentence sentence = M2Sentence.of("I goes home", List.of(
+            M2Edit.parse("A 1 2|||R:VERB:SVA|||go|||REQUIRED|||-NONE-|||0"),
+            M2Edit.parse("A -1 -1|||noop|||-NONE-|||REQUIRED|||-NONE-|||1")
+        ));
+        assertEquals(block, sentence.toM2());
+        assertTrue(sentence.edits().get(1).isNoop());
+    }
+}
@@ -3,13 +3,17 @@ package io.github.manzurola.errant4j.core.mark;
 import com.github.manzurola.aligner.edit.Edit;
 import io.github.manzurola.errant4j.core.Annotation;
 import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.io.Parses;
 import io.github.manzurola.spacy4j.adapters.corenlp.CoreNLPAdapter;
 import io.github.manzurola.spacy4j.api.SpaCy;
 import io.github.manzurola.spacy4j.api.containers.Doc;
+import io.github.manzurola.spacy4j.api.containers.Token;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 public class ErrorMarkerTest {
 
     private static SpaCy spacy = SpaCy.create(CoreNLPAdapter.forEnglish());
@@ -100,4 +104,101 @@ public class ErrorMarkerTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void batchMarkerMatchesCursorMarker() {
+        Doc source = spacy.nlp("My name guy.");
+        Doc target = spacy.nlp("My name is guy.");
+        Annotation annotation = Annotation.of(
+            Edit
+                .builder()
+                .insert("is")
+                .atPosition(2, 2)
+                .project(source.tokens(), target.tokens()),
+            GrammaticalError.NONE
+        );
+
+        MarkedError expected = new CursorErrorMarker().markError(
+            annotation,
+            source.tokens()
+        );
+        MarkedText actual = new BatchErrorMarker().mark(
+            List.of(annotation),
+            source.tokens()
+        );
+        Assertions.assertEquals(List.of(expected), actual.errors());
+        Assertions.assertEquals("My name is guy.", actual.corrected());
+        Assertions.assertEquals(
+            List.of(CharOffset.of(8, 10)),
+            actual.correctedSpans()
+        );
+    }
+
+    @Test
+    void batchMarkerAppliesSeveralCorrectionsInInputOrder() {
+        List<Token> source = Parses.tokens(
+            "He/he/PRON/PRP/nsubj/2 go/go/VERB/VBP/ROOT/0 to/to/ADP/IN/prep/2 the/the/DET/DT/det/5 "
+            + "school/school/NOUN/NN/pobj/3 yesterday/yesterday/NOUN/NN/npadvmod/2 ././PUNCT/./punct/2"
+        );
+        List<Token> target = Parses.tokens(
+            "He/he/PRON/PRP/nsubj/2 goes/go/VERB/VBZ/ROOT/0 to/to/ADP/IN/prep/2 "
+            + "school/school/NOUN/NN/pobj/3 ././PUNCT/./punct/2"
+        );
+        Annotation replacement = Annotation.of(
+            Edit.builder().substitute("go").with("goes").atPosition(1, 1).project(source, target),
+            GrammaticalError.REPLACEMENT_SUBJECT_VERB_AGREEMENT
+        );
+        Annotation determiner = Annotation.of(
+            Edit.builder().delete("the").atPosition(3, 3).project(source, target),
+            GrammaticalError.UNNECESSARY_DETERMINER
+        );
+        Annotation adverb = Annotation.of(
+            Edit.builder().delete("yesterday").atPosition(5, 4).project(source, target),
+            GrammaticalError.UNNECESSARY_NOUN
+        );
+        // out of source order
+        List<Annotation> annotations = List.of(adverb, replacement, determiner);
+
+        MarkedText actual = new BatchErrorMarker().mark(annotations, source);
+
+        Assertions.assertEquals(
+            new CursorErrorMarker().markErrors(annotations, source),
+            actual.errors()
+        );
+        Assertions.assertEquals(
+            List.of(
+                new MarkedError(20, 29, "yesterday", ""),
+                new MarkedError(3, 5, "go", "goes"),
+                new MarkedError(9, 12, "the", "")
+            ),
+            actual.errors()
+        );
+        Assertions.assertEquals("He goes to school .", actual.corrected());
+        Assertions.assertEquals(
+            List.of(CharOffset.of(18, 18), CharOffset.of(3, 7), CharOffset.of(11, 11)),
+            actual.correctedSpans()
+        );
+    }
+
+    @Test
+    void batchMarkerRejectsOverlappingAnnotations() {
+        List<Token> source = Parses.tokens(
+            "He/he/PRON/PRP/nsubj/2 go/go/VERB/VBP/ROOT/0 to/to/ADP/IN/prep/2 school/school/NOUN/NN/pobj/3"
+        );
+        List<Token> target = Parses.tokens(
+            "He/he/PRON/PRP/nsubj/2 goes/go/VERB/VBZ/ROOT/0 school/school/NOUN/NN/dobj/2"
+        );
+        Annotation replacement = Annotation.of(
+            Edit.builder().substitute("go", "to").with("goes").atPosition(1, 1).project(source, target),
+            GrammaticalError.REPLACEMENT_VERB
+        );
+        Annotation preposition = Annotation.of(
+            Edit.builder().delete("to").atPosition(2, 2).project(source, target),
+            GrammaticalError.UNNECESSARY_PREPOSITION
+        );
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new BatchErrorMarker().markErrors(List.of(preposition, replacement), source)
+        );
+    }
 }
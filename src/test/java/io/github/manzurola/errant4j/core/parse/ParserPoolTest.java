@@ -0,0 +1,128 @@
+package io.github.manzurola.errant4j.core.parse;
+
+import io.github.manzurola.spacy4j.adapters.corenlp.CoreNLPAdapter;
+import io.github.manzurola.spacy4j.api.SpaCy;
+import io.github.manzurola.spacy4j.api.containers.Doc;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParserPoolTest {
+
+    @Test
+    void parsesConcurrently() throws Exception {
+        ParserPool pool = ParserPool.create(
+            2,
+            () -> SpaCy.create(CoreNLPAdapter.forEnglish()),
+            Duration.ofMinutes(1)
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Doc>> docs = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                docs.add(executor.submit(() -> pool.parse("My name is John.")));
+            }
+            for (Future<Doc> doc : docs) {
+                assertEquals(5, doc.get().tokens().size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8, pool.checkoutCount());
+        assertEquals(0, pool.timeoutCount());
+        assertEquals(0, pool.busyCount());
+    }
+
+    @Test
+    void callerTimesOutWhileInstanceIsBusy() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // the pool passes documents through, so the stubs return none
+        SpaCy blocking = text -> {
+            entered.countDown();
+            await(release);
+            return null;
+        };
+        ParserPool pool = ParserPool.of(List.of(blocking), Duration.ofMillis(50));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Doc> first = executor.submit(() -> pool.parse("a"));
+            await(entered);
+
+            assertThrows(ParserUnavailableException.class, () -> pool.parse("b"));
+            assertEquals(1, pool.timeoutCount());
+            assertEquals(1, pool.busyCount());
+
+            release.countDown();
+            first.get();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(0, pool.busyCount());
+        assertEquals(1, pool.checkoutCount());
+        assertEquals(1, pool.timeoutCount());
+    }
+
+    @Test
+    void waitingCallersAreServedInArrivalOrder() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> parsed = Collections.synchronizedList(new ArrayList<>());
+        SpaCy recording = text -> {
+            if (text.equals("holder")) {
+                entered.countDown();
+                await(release);
+            }
+            parsed.add(text);
+            return null;
+        };
+        ParserPool pool = ParserPool.of(List.of(recording), Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Doc>> docs = new ArrayList<>();
+            docs.add(executor.submit(() -> pool.parse("holder")));
+            await(entered);
+            // give each waiter time to queue before the next one arrives
+            for (String text : List.of("first", "second", "third")) {
+                docs.add(executor.submit(() -> pool.parse(text)));
+                Thread.sleep(100);
+            }
+            release.countDown();
+            for (Future<Doc> doc : docs) {
+                doc.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(List.of("holder", "first", "second", "third"), parsed);
+    }
+
+    @Test
+    void rejectsEmptyPool() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ParserPool.of(List.of(), Duration.ofSeconds(1))
+        );
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for latch");
+            }
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
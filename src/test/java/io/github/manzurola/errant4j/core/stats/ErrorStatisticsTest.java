@@ -0,0 +1,55 @@
+package io.github.manzurola.errant4j.core.stats;
+
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.errant4j.core.errors.ErrorType;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ErrorStatisticsTest {
+
+    @Test
+    void concurrentUpdatesAreNotLost() throws InterruptedException {
+        ErrorStatistics statistics = new ErrorStatistics(4);
+        int threads = 8;
+        int updates = 100_000;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < updates; i++) {
+                    statistics.add(GrammaticalError.REPLACEMENT_VERB_TENSE, 1, 1);
+                    statistics.add(GrammaticalError.MISSING_DETERMINER, 0, 20);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        ErrorStatisticsSnapshot snapshot = statistics.snapshot();
+        long expected = (long) threads * updates;
+        assertEquals(2 * expected, snapshot.total());
+        assertEquals(expected, snapshot.count(GrammaticalError.REPLACEMENT_VERB_TENSE));
+        assertEquals(expected, snapshot.count(ErrorType.MISSING));
+        assertEquals(expected, snapshot.count(ErrorCategory.DET));
+        assertEquals(expected, snapshot.sourceLengthHistogram()[0]);
+        assertEquals(expected, snapshot.targetLengthHistogram()[ErrorStatistics.MAX_LENGTH]);
+    }
+
+    @Test
+    void snapshotsMerge() {
+        ErrorStatistics a = new ErrorStatistics();
+        ErrorStatistics b = new ErrorStatistics();
+        a.add(GrammaticalError.REPLACEMENT_SPELLING, 1, 1);
+        b.add(GrammaticalError.REPLACEMENT_SPELLING, 1, 1);
+        ErrorStatisticsSnapshot merged = a.snapshot().merge(b.snapshot());
+        assertEquals(2, merged.count(GrammaticalError.REPLACEMENT_SPELLING));
+        assertEquals(2, merged.sourceLengthHistogram()[1]);
+    }
+}
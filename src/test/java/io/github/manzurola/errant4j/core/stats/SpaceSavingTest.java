@@ -0,0 +1,74 @@
+package io.github.manzurola.errant4j.core.stats;
+
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SpaceSavingTest {
+
+    @Test
+    void exactWhileUnderCapacity() {
+        SpaceSaving<String> summary = new SpaceSaving<>(10);
+        for (String item : List.of("a", "b", "a", "c", "a", "b")) {
+            summary.add(item);
+        }
+        assertEquals(
+            List.of(new Estimate<>("a", 3, 0), new Estimate<>("b", 2, 0), new Estimate<>("c", 1, 0)),
+            summary.top(10)
+        );
+        assertEquals(0, summary.maxError());
+    }
+
+    @Test
+    void boundsHoldOnSkewedStream() {
+        SpaceSaving<Integer> summary = new SpaceSaving<>(50);
+        Map<Integer, Long> exact = new HashMap<>();
+        Random random = new Random(7);
+        int length = 200_000;
+        for (int i = 0; i < length; i++) {
+            // roughly Zipfian over 10000 items
+            int item = (int) Math.floor(Math.pow(10_000, random.nextDouble()));
+            summary.add(item);
+            exact.merge(item, 1L, Long::sum);
+        }
+        assertTrue(summary.maxError() <= length / 50);
+        for (Estimate<Integer> estimate : summary.top(50)) {
+            long frequency = exact.get(estimate.item());
+            assertTrue(estimate.lowerBound() <= frequency);
+            assertTrue(estimate.count() >= frequency);
+        }
+        assertEquals(Integer.valueOf(1), summary.top(1).get(0).item());
+        assertTrue(summary.isGuaranteed(summary.top(1).get(0), 1));
+    }
+
+    @Test
+    void mergedShardsKeepBounds() {
+        Map<Integer, Long> exact = new HashMap<>();
+        CorrectionMiner merged = new CorrectionMiner(20);
+        Random random = new Random(11);
+        for (int shard = 0; shard < 4; shard++) {
+            CorrectionMiner miner = new CorrectionMiner(20);
+            for (int i = 0; i < 20_000; i++) {
+                int item = (int) Math.floor(Math.pow(1_000, random.nextDouble()));
+                miner.add(GrammaticalError.REPLACEMENT_VERB, Correction.of("w" + item, "v" + item));
+                exact.merge(item, 1L, Long::sum);
+            }
+            merged.merge(miner);
+        }
+        assertEquals(80_000, merged.total(GrammaticalError.REPLACEMENT_VERB));
+        assertTrue(merged.maxError(GrammaticalError.REPLACEMENT_VERB) <= 80_000 / 20);
+        for (Estimate<Correction> estimate : merged.top(GrammaticalError.REPLACEMENT_VERB, 20)) {
+            long frequency = exact.get(Integer.parseInt(estimate.item().source().substring(1)));
+            assertTrue(estimate.lowerBound() <= frequency);
+            assertTrue(estimate.count() >= frequency);
+        }
+        assertEquals(List.of(), merged.top(GrammaticalError.MISSING_NOUN, 5));
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.manzurola.errant4j.lang.en;
+
+import io.github.manzurola.errant4j.core.Annotation;
+import io.github.manzurola.errant4j.core.Annotator;
+import io.github.manzurola.errant4j.core.align.TokenAligner;
+import io.github.manzurola.errant4j.lang.en.classify.EnClassifier;
+import io.github.manzurola.errant4j.lang.en.merge.EnMerger;
+import io.github.manzurola.spacy4j.adapters.corenlp.CoreNLPAdapter;
+import io.github.manzurola.spacy4j.api.SpaCy;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EnAnnotatorFastPathTest {
+
+    private static Annotator annotator;
+    private static Annotator fullPipeline;
+
+    @BeforeAll
+    static void setup() {
+        SpaCy spacy = SpaCy.create(CoreNLPAdapter.forEnglish());
+        annotator = Annotator.of(spacy, new EnMerger(), new EnClassifier());
+        // a subclass of the token aligner disables the fast paths
+        fullPipeline = Annotator.of(
+            spacy,
+            new TokenAligner() {
+            },
+            new EnMerger(),
+            new EnClassifier()
+        );
+    }
+
+    @Test
+    void identicalPair() {
+        assertSameAsFullPipeline("The cat sat on the mat.", "The cat sat on the mat.");
+    }
+
+    @Test
+    void singleInsertion() {
+        assertSameAsFullPipeline("I like eat food.", "I like to eat food.");
+    }
+
+    @Test
+    void singleDeletion() {
+        assertSameAsFullPipeline("He is go to the school.", "He is go to school.");
+    }
+
+    @Test
+    void ambiguousInsertion() {
+        assertSameAsFullPipeline("I had had it.", "I had had had it.");
+    }
+
+    @Test
+    void caseChangeAndInsertion() {
+        assertSameAsFullPipeline("the cat sat.", "The the cat sat.");
+    }
+
+    @Test
+    void substitution() {
+        assertSameAsFullPipeline("I likes food.", "I like food.");
+    }
+
+    private void assertSameAsFullPipeline(String source, String target) {
+        List<Token> sourceTokens = annotator.parse(source).tokens();
+        List<Token> targetTokens = annotator.parse(target).tokens();
+        assertEquals(
+            fullPipeline.annotate(sourceTokens, targetTokens),
+            annotator.annotate(sourceTokens, targetTokens)
+        );
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.manzurola.errant4j.lang.en;
+
+import com.github.manzurola.aligner.edit.Edit;
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.errant4j.core.errors.ErrorType;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.io.Parses;
+import io.github.manzurola.errant4j.lang.en.classify.EnClassifier;
+import io.github.manzurola.errant4j.lang.en.classify.rules.VerbFormRule;
+import io.github.manzurola.errant4j.lang.en.utils.lemmatize.Lemmatizer;
+import io.github.manzurola.errant4j.lang.en.utils.wordlist.WordList;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EnProfileTest {
+
+    private static final Lemmatizer LEMMATIZER = word -> Set.of(
+        word.equals("ate") ? "eat" : word.toLowerCase()
+    );
+    private static final WordList WORD_LIST = word -> true;
+
+    @Test
+    void classifiesDeterminerByNextTokenWithoutDependencies() {
+        List<Token> source = Parses.tokens(
+            "I/I/PRON/PRP//0 fed/feed/VERB/VBD//0 him/he/PRON/PRP//0 cat/cat/NOUN/NN//0"
+        );
+        List<Token> target = Parses.tokens(
+            "I/I/PRON/PRP//0 fed/feed/VERB/VBD//0 his/his/DET/PRP$//0 cat/cat/NOUN/NN//0"
+        );
+        Edit<Token> edit = substitute("him", "his", 2, source, target);
+
+        assertEquals(
+            GrammaticalError.of(ErrorType.REPLACEMENT, ErrorCategory.DET),
+            classifier(EnProfile.NO_DEPENDENCY_PARSE).classify(edit)
+        );
+        assertEquals(
+            GrammaticalError.of(ErrorType.REPLACEMENT, ErrorCategory.OTHER),
+            classifier(EnProfile.FULL).classify(edit)
+        );
+    }
+
+    @Test
+    void classifiesPronounByNextTokenWithoutDependencies() {
+        List<Token> source = Parses.tokens(
+            "I/I/PRON/PRP//0 like/like/VERB/VBP//0 the/the/DET/DT//0 ././PUNCT/.//0"
+        );
+        List<Token> target = Parses.tokens(
+            "I/I/PRON/PRP//0 like/like/VERB/VBP//0 it/it/PRON/PRP//0 ././PUNCT/.//0"
+        );
+        Edit<Token> edit = substitute("the", "it", 2, source, target);
+
+        assertEquals(
+            GrammaticalError.of(ErrorType.REPLACEMENT, ErrorCategory.PRON),
+            classifier(EnProfile.NO_DEPENDENCY_PARSE).classify(edit)
+        );
+    }
+
+    @Test
+    void skipsAuxiliaryVerbFormCaseWithoutDependencies() {
+        List<Token> source = Parses.tokens(
+            "He/he/PRON/PRP/nsubj/3 has/have/AUX/VBZ/aux/3 eat/eat/VERB/VB/ROOT/0"
+        );
+        List<Token> target = Parses.tokens(
+            "He/he/PRON/PRP/nsubj/3 has/have/AUX/VBZ/aux/3 ate/eat/VERB/VBD/ROOT/0"
+        );
+        Edit<Token> edit = substitute("eat", "ate", 2, source, target);
+
+        VerbFormRule full = new VerbFormRule(LEMMATIZER, EnProfile.FULL.usesDependencyParse());
+        VerbFormRule reduced = new VerbFormRule(
+            LEMMATIZER,
+            EnProfile.NO_DEPENDENCY_PARSE.usesDependencyParse()
+        );
+        assertTrue(full.case1().test(edit));
+        assertFalse(reduced.case1().test(edit));
+        assertEquals(
+            GrammaticalError.of(ErrorType.REPLACEMENT, ErrorCategory.VERB_FORM),
+            full.classify(edit)
+        );
+        assertEquals(
+            GrammaticalError.of(ErrorType.REPLACEMENT, ErrorCategory.OTHER),
+            reduced.classify(edit)
+        );
+    }
+
+    @Test
+    void reducedProfileDoesNotRequireDependencies() {
+        assertTrue(EnProfile.FULL.usesDependencyParse());
+        assertFalse(EnProfile.NO_DEPENDENCY_PARSE.usesDependencyParse());
+        assertEquals(
+            EnProfile.NO_DEPENDENCY_PARSE.requiredFeatures(),
+            new EnClassifier(LEMMATIZER, WORD_LIST, EnProfile.NO_DEPENDENCY_PARSE).requiredFeatures()
+        );
+    }
+
+    private static EnClassifier classifier(EnProfile profile) {
+        return new EnClassifier(LEMMATIZER, WORD_LIST, profile);
+    }
+
+    private static Edit<Token> substitute(String source,
+                                          String target,
+                                          int position,
+                                          List<Token> sourceTokens,
+                                          List<Token> targetTokens) {
+        return Edit
+            .builder()
+            .substitute(source)
+            .with(target)
+            .atPosition(position, position)
+            .project(sourceTokens, targetTokens);
+    }
+}
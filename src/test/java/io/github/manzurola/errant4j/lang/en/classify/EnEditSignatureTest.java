@@ -0,0 +1,216 @@
+package io.github.manzurola.errant4j.lang.en.classify;
+
+import com.github.manzurola.aligner.edit.Edit;
+import com.github.manzurola.aligner.edit.Operation;
+import io.github.manzurola.errant4j.core.Annotator;
+import io.github.manzurola.errant4j.core.classify.CachingClassifier;
+import io.github.manzurola.errant4j.core.errors.ErrorCategory;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.io.Parses;
+import io.github.manzurola.errant4j.core.parse.Parser;
+import io.github.manzurola.errant4j.lang.en.EnProfile;
+import io.github.manzurola.errant4j.lang.en.merge.EnMerger;
+import io.github.manzurola.spacy4j.api.containers.Token;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class EnEditSignatureTest {
+
+    /**
+     * Pairs of parses, see {@link Parses#tokens(String)}. Consecutive pairs
+     * often differ only in context the signature must capture.
+     */
+    private static final String[][] CORPUS = {
+        // verb preceded by a dependent auxiliary verb
+        {
+            "He/he/PRON/PRP/nsubj/3 will/will/AUX/MD/aux/3 eats/eat/VERB/VBZ/ROOT/0 ././PUNCT/./punct/3",
+            "He/he/PRON/PRP/nsubj/3 will/will/AUX/MD/aux/3 eat/eat/VERB/VB/ROOT/0 ././PUNCT/./punct/3"
+        },
+        // the auxiliary is not a child of the verb
+        {
+            "He/he/PRON/PRP/nsubj/3 will/will/AUX/MD/aux/1 eats/eat/VERB/VBZ/ROOT/0 ././PUNCT/./punct/3",
+            "He/he/PRON/PRP/nsubj/3 will/will/AUX/MD/aux/1 eat/eat/VERB/VB/ROOT/0 ././PUNCT/./punct/3"
+        },
+        // the preceding child is not an auxiliary
+        {
+            "He/he/PRON/PRP/nsubj/3 will/will/VERB/MD/advmod/3 eats/eat/VERB/VBZ/ROOT/0 ././PUNCT/./punct/3",
+            "He/he/PRON/PRP/nsubj/3 will/will/VERB/MD/advmod/3 eat/eat/VERB/VB/ROOT/0 ././PUNCT/./punct/3"
+        },
+        // possessive suffix, told apart by the tag of the next token
+        {
+            "My/my/PRON/PRP$/poss/2 friends/friend/NOUN/NNS/nsubj/3 came/come/VERB/VBD/ROOT/0",
+            "My/my/PRON/PRP$/poss/2 friend/friend/NOUN/NN/nsubj/4 's/'s/PART/POS/case/2 came/come/VERB/VBD/ROOT/0"
+        },
+        {
+            "My/my/PRON/PRP$/poss/2 friends/friend/NOUN/NNS/nsubj/3 came/come/VERB/VBD/ROOT/0",
+            "My/my/PRON/PRP$/poss/2 friend/friend/NOUN/NN/nsubj/4 's/be/AUX/VBZ/aux/2 came/come/VERB/VBD/ROOT/0"
+        },
+        // determiner or pronoun, told apart by the dependency label
+        {
+            "I/I/PRON/PRP/nsubj/2 like/like/VERB/VBP/ROOT/0 his/his/PRON/PRP$/poss/4 book/book/NOUN/NN/dobj/2",
+            "I/I/PRON/PRP/nsubj/2 like/like/VERB/VBP/ROOT/0 this/this/DET/DT/det/4 book/book/NOUN/NN/dobj/2"
+        },
+        {
+            "I/I/PRON/PRP/nsubj/2 like/like/VERB/VBP/ROOT/0 his/his/DET/PRP$/poss/2",
+            "I/I/PRON/PRP/nsubj/2 like/like/VERB/VBP/ROOT/0 this/this/PRON/DT/dobj/2"
+        },
+        // verb form and tense
+        {
+            "I/I/PRON/PRP/nsubj/3 have/have/AUX/VBP/aux/3 eat/eat/VERB/VB/ROOT/0 it/it/PRON/PRP/dobj/3",
+            "I/I/PRON/PRP/nsubj/3 have/have/AUX/VBP/aux/3 eaten/eat/VERB/VBN/ROOT/0 it/it/PRON/PRP/dobj/3"
+        },
+        {
+            "I/I/PRON/PRP/nsubj/2 go/go/VERB/VBP/ROOT/0 home/home/ADV/RB/advmod/2 yesterday/yesterday/NOUN/NN/npadvmod/2",
+            "I/I/PRON/PRP/nsubj/2 went/go/VERB/VBD/ROOT/0 home/home/ADV/RB/advmod/2 yesterday/yesterday/NOUN/NN/npadvmod/2"
+        },
+        // punctuation at the end of either side
+        {
+            "Because/because/SCONJ/IN/mark/0",
+            ",/,/PUNCT/,/punct/2 because/because/SCONJ/IN/mark/0"
+        },
+        {
+            "He/he/PRON/PRP/nsubj/2 left/leave/VERB/VBD/ROOT/0",
+            "He/he/PRON/PRP/nsubj/2 left/leave/VERB/VBD/ROOT/0 ././PUNCT/./punct/2"
+        },
+        // spelling, word order, orthography and contraction
+        {
+            "I/I/PRON/PRP/nsubj/2 recieved/recieve/VERB/VBD/ROOT/0 it/it/PRON/PRP/dobj/2",
+            "I/I/PRON/PRP/nsubj/2 received/receive/VERB/VBD/ROOT/0 it/it/PRON/PRP/dobj/2"
+        },
+        {
+            "I/I/PRON/PRP/nsubj/2 like/like/VERB/VBP/ROOT/0 very/very/ADV/RB/advmod/4 much/much/ADV/RB/advmod/2 it/it/PRON/PRP/dobj/2",
+            "I/I/PRON/PRP/nsubj/2 like/like/VERB/VBP/ROOT/0 it/it/PRON/PRP/dobj/2 very/very/ADV/RB/advmod/5 much/much/ADV/RB/advmod/2"
+        },
+        {
+            "i/i/PRON/PRP/nsubj/2 left/leave/VERB/VBD/ROOT/0",
+            "I/I/PRON/PRP/nsubj/2 left/leave/VERB/VBD/ROOT/0"
+        },
+        {
+            "I/I/PRON/PRP/nsubj/4 do/do/AUX/VBP/aux/4 not/not/PART/RB/neg/4 know/know/VERB/VB/ROOT/0",
+            "I/I/PRON/PRP/nsubj/4 do/do/AUX/VBP/aux/4 n't/not/PART/RB/neg/4 know/know/VERB/VB/ROOT/0"
+        },
+        // noun number, agreement and prepositions
+        {
+            "Two/two/NUM/CD/nummod/2 cat/cat/NOUN/NN/nsubj/3 sleep/sleep/VERB/VBP/ROOT/0",
+            "Two/two/NUM/CD/nummod/2 cats/cat/NOUN/NNS/nsubj/3 sleep/sleep/VERB/VBP/ROOT/0"
+        },
+        {
+            "He/he/PRON/PRP/nsubj/2 sleep/sleep/VERB/VBP/ROOT/0",
+            "He/he/PRON/PRP/nsubj/2 sleeps/sleep/VERB/VBZ/ROOT/0"
+        },
+        {
+            "I/I/PRON/PRP/nsubj/2 live/live/VERB/VBP/ROOT/0 at/at/ADP/IN/prep/2 London/London/PROPN/NNP/pobj/3",
+            "I/I/PRON/PRP/nsubj/2 live/live/VERB/VBP/ROOT/0 in/in/ADP/IN/prep/2 London/London/PROPN/NNP/pobj/3"
+        },
+        {
+            "I/I/PRON/PRP/nsubj/2 want/want/VERB/VBP/ROOT/0 eat/eat/VERB/VB/xcomp/2",
+            "I/I/PRON/PRP/nsubj/2 want/want/VERB/VBP/ROOT/0 to/to/PART/TO/aux/4 eat/eat/VERB/VB/xcomp/2"
+        },
+        {
+            "I/I/PRON/PRP/nsubj/2 want/want/VERB/VBP/ROOT/0 eat/eat/VERB/VB/xcomp/2",
+            "I/I/PRON/PRP/nsubj/2 want/want/VERB/VBP/ROOT/0 to/to/ADP/IN/prep/2 eat/eat/VERB/VB/pobj/3"
+        },
+        // determiner or pronoun without a dependency parse, told apart by the
+        // POS of the next token when tags are missing
+        {
+            "I/I/PRON//nsubj/2 like/like/VERB//ROOT/0 it/it/PRON//dobj/2 cat/cat/NOUN//dobj/2",
+            "I/I/PRON//nsubj/2 like/like/VERB//ROOT/0 his/his/DET//poss/4 cat/cat/NOUN//dobj/2"
+        },
+        {
+            "I/I/PRON//nsubj/2 like/like/VERB//ROOT/0 it/it/PRON//dobj/2 ././PUNCT//punct/2",
+            "I/I/PRON//nsubj/2 like/like/VERB//ROOT/0 his/his/DET//dobj/2 ././PUNCT//punct/2"
+        }
+    };
+
+    private static List<Edit<Token>> edits;
+    private static EnClassifier classifier;
+
+    @BeforeAll
+    static void setup() {
+        classifier = new EnClassifier();
+        Annotator annotator = Annotator.of((Parser) null, new EnMerger(), classifier);
+        edits = new ArrayList<>();
+        for (String[] pair : CORPUS) {
+            List<Token> source = Parses.tokens(pair[0]);
+            List<Token> target = Parses.tokens(pair[1]);
+            edits.addAll(annotator.merge(annotator.align(source, target).edits()));
+        }
+    }
+
+    @Test
+    void cachedClassificationEqualsUncached() {
+        CachingClassifier cached = new CachingClassifier(classifier, new EnEditSignature(), 1024);
+        List<Edit<Token>> shuffled = new ArrayList<>(edits);
+        Random random = new Random(3);
+        for (int pass = 0; pass < 3; pass++) {
+            for (Edit<Token> edit : shuffled) {
+                GrammaticalError expected = classifier.classify(edit);
+                assertEquals(expected, cached.classify(edit));
+            }
+            Collections.shuffle(shuffled, random);
+        }
+        assertEquals(2L * edits.size(), cached.hitCount());
+    }
+
+    @Test
+    void cachedClassificationEqualsUncachedUnderEviction() {
+        CachingClassifier cached = new CachingClassifier(classifier, new EnEditSignature(), 16);
+        for (int pass = 0; pass < 3; pass++) {
+            for (Edit<Token> edit : edits) {
+                assertEquals(classifier.classify(edit), cached.classify(edit));
+            }
+        }
+    }
+
+    @Test
+    void signatureCapturesContext() {
+        EnEditSignature signature = new EnEditSignature();
+        // the verb edits of the first three pairs differ only in the
+        // children of the verb
+        String withAux = signature.apply(firstSubstitute(0));
+        String withDetachedAux = signature.apply(firstSubstitute(1));
+        String withOtherChild = signature.apply(firstSubstitute(2));
+        assertFalse(withAux.equals(withDetachedAux));
+        assertFalse(withAux.equals(withOtherChild));
+        assertFalse(withDetachedAux.equals(withOtherChild));
+    }
+
+    @Test
+    void signatureCapturesPosOfNextToken() {
+        EnEditSignature signature = new EnEditSignature();
+        Edit<Token> beforeNoun = firstSubstitute(20);
+        Edit<Token> beforePunct = firstSubstitute(21);
+        assertFalse(signature.apply(beforeNoun).equals(signature.apply(beforePunct)));
+
+        EnClassifier reduced = new EnClassifier(EnProfile.NO_DEPENDENCY_PARSE);
+        CachingClassifier cached = EnClassifier.cached(EnProfile.NO_DEPENDENCY_PARSE, 1024);
+        for (Edit<Token> edit : List.of(beforeNoun, beforePunct, beforeNoun, beforePunct)) {
+            assertEquals(reduced.classify(edit), cached.classify(edit));
+        }
+        assertEquals(ErrorCategory.DET, cached.classify(beforeNoun).category());
+        assertEquals(ErrorCategory.PRON, cached.classify(beforePunct).category());
+    }
+
+    private static Edit<Token> firstSubstitute(int pair) {
+        return edits(pair)
+            .stream()
+            .filter(edit -> edit.operation() == Operation.SUBSTITUTE)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static List<Edit<Token>> edits(int pair) {
+        Annotator annotator = Annotator.of((Parser) null, new EnMerger(), classifier);
+        List<Token> source = Parses.tokens(CORPUS[pair][0]);
+        List<Token> target = Parses.tokens(CORPUS[pair][1]);
+        return annotator.merge(annotator.align(source, target).edits());
+    }
+}
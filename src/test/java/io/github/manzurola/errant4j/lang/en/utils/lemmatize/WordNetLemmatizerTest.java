@@ -0,0 +1,111 @@
+package io.github.manzurola.errant4j.lang.en.utils.lemmatize;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WordNetLemmatizerTest {
+
+    private static final List<String> WORDS = List.of(
+        "went", "going", "children", "better", "mice", "running", "was", "geese",
+        "bigger", "ate", "leaves", "studies", "flew", "taller", "thought", "women"
+    );
+
+    @Test
+    void concurrentLookupsMatchSequentialLookups() throws Exception {
+        Lemmatizer lemmatizer = new WordNetLemmatizer(2, 1024);
+        assertTrue(lemmatizer.lemmas("Went").contains("go"));
+        Lemmatizer sequential = new WordNetLemmatizer();
+        List<Set<String>> expected = new ArrayList<>();
+        for (String word : WORDS) {
+            expected.add(sequential.lemmas(word));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<Set<String>>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> {
+                    List<Set<String>> lemmas = new ArrayList<>();
+                    for (String word : WORDS) {
+                        lemmas.add(lemmatizer.lemmas(word));
+                    }
+                    return lemmas;
+                }));
+            }
+            for (Future<List<Set<String>>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Looks up words of the hunspell word list, which is much larger than the
+     * memo, so most lookups miss and go to a dictionary handle.
+     */
+    @Test
+    @Disabled("Benchmark, run manually")
+    void scalingBenchmark() throws Exception {
+        List<String> vocabulary = vocabulary();
+        int maximumCacheSize = 4096;
+        int lookupsPerThread = 20_000;
+        for (int dictionaryCount = 1; dictionaryCount <= 4; dictionaryCount *= 2) {
+            for (int threads = 1; threads <= 32; threads *= 2) {
+                Lemmatizer lemmatizer = new WordNetLemmatizer(dictionaryCount, maximumCacheSize);
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                    long start = System.nanoTime();
+                    List<Future<?>> tasks = new ArrayList<>();
+                    for (int t = 0; t < threads; t++) {
+                        int offset = t * lookupsPerThread;
+                        tasks.add(executor.submit(() -> {
+                            for (int i = 0; i < lookupsPerThread; i++) {
+                                lemmatizer.lemmas(vocabulary.get((offset + i) % vocabulary.size()));
+                            }
+                        }));
+                    }
+                    for (Future<?> task : tasks) {
+                        task.get();
+                    }
+                    double seconds = (System.nanoTime() - start) / 1e9;
+                    System.out.printf(
+                        "%d dictionaries, %2d threads: %,.0f lookups/s%n",
+                        dictionaryCount,
+                        threads,
+                        threads * lookupsPerThread / seconds
+                    );
+                } finally {
+                    executor.shutdown();
+                }
+            }
+        }
+    }
+
+    private static List<String> vocabulary() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            WordNetLemmatizerTest.class.getResourceAsStream("/en/wordlist/hunspell/en_GB-large.txt"),
+            StandardCharsets.UTF_8
+        ))) {
+            List<String> words = reader.lines().collect(Collectors.toList());
+            Collections.shuffle(words, new Random(42));
+            return words;
+        }
+    }
+}
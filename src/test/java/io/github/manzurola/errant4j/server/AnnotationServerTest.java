@@ -0,0 +1,170 @@
+package io.github.manzurola.errant4j.server;
+
+import com.github.manzurola.aligner.edit.Operation;
+import io.github.manzurola.errant4j.core.Annotator;
+import io.github.manzurola.errant4j.core.errors.GrammaticalError;
+import io.github.manzurola.errant4j.core.io.Docs;
+import io.github.manzurola.errant4j.core.io.TokenRecord;
+import io.github.manzurola.errant4j.core.mark.CursorErrorMarker;
+import io.github.manzurola.errant4j.core.merge.Merger;
+import io.github.manzurola.errant4j.core.parse.Parser;
+import io.github.manzurola.spacy4j.api.containers.Doc;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AnnotationServerTest {
+
+    private static final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Splits text on spaces; fails on the text "FAIL".
+     */
+    private static Doc parse(String text) {
+        if (text.equals("FAIL")) {
+            throw new IllegalArgumentException("cannot parse");
+        }
+        String[] words = text.split(" ");
+        List<TokenRecord> records = new ArrayList<>(words.length);
+        int offset = 0;
+        for (int i = 0; i < words.length; i++) {
+            String whitespace = i == words.length - 1 ? "" : " ";
+            records.add(TokenRecord.of(
+                words[i],
+                whitespace,
+                words[i].toLowerCase(),
+                "X",
+                "X",
+                i == 0 ? "ROOT" : "dep",
+                0,
+                offset,
+                offset + words[i].length()
+            ));
+            offset += words[i].length() + whitespace.length();
+        }
+        return Docs.of(records);
+    }
+
+    private static AnnotationServer start() throws Exception {
+        Annotator annotator = Annotator.of(
+            (Parser) AnnotationServerTest::parse,
+            Merger.allSplit(),
+            edit -> edit.operation() == Operation.EQUAL
+                ? GrammaticalError.NONE
+                : GrammaticalError.unknown(edit)
+        );
+        return AnnotationServer.create(
+            "en",
+            annotator,
+            new CursorErrorMarker(),
+            new InetSocketAddress("localhost", 0),
+            8,
+            Duration.ofMillis(5),
+            2
+        ).start();
+    }
+
+    @Test
+    void writesAnnotationsInInputOrder() throws Exception {
+        try (AnnotationServer server = start()) {
+            List<String> lines = post(server, "/annotate", String.join("\n",
+                "a b\ta c",
+                "x y z\tx y z",
+                "one two\tone three two"
+            ));
+            assertEquals(List.of(
+                "{\"sentence\":0,\"source_start\":1,\"source_end\":2,\"target_start\":1,\"target_end\":2,"
+                + "\"source\":\"b\",\"target\":\"c\",\"error\":\"R:OTHER\",\"char_start\":2,\"char_end\":3}",
+                "{\"sentence\":2,\"source_start\":1,\"source_end\":1,\"target_start\":1,\"target_end\":2,"
+                + "\"source\":\"\",\"target\":\"three\",\"error\":\"M:OTHER\"}"
+            ), lines);
+        }
+    }
+
+    @Test
+    void reportsFailedPairWithoutFailingOthers() throws Exception {
+        try (AnnotationServer server = start()) {
+            List<String> lines = post(server, "/annotate", String.join("\n",
+                "a b\ta c",
+                "FAIL\tok",
+                "d e\td f"
+            ));
+            assertEquals(3, lines.size());
+            assertTrue(lines.get(0).startsWith("{\"sentence\":0,"));
+            assertTrue(lines.get(1).startsWith("{\"sentence\":1,\"failure\":"));
+            assertTrue(lines.get(2).startsWith("{\"sentence\":2,"));
+        }
+    }
+
+    @Test
+    void servesConcurrentRequests() throws Exception {
+        try (AnnotationServer server = start()) {
+            List<CompletableFuture<List<String>>> responses = new ArrayList<>();
+            for (int request = 0; request < 16; request++) {
+                StringBuilder body = new StringBuilder();
+                for (int pair = 0; pair < 10; pair++) {
+                    body.append("w").append(request).append(" old\tw").append(request).append(" new").append(pair).append('\n');
+                }
+                int id = request;
+                responses.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return post(server, "/annotate", body.toString());
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).thenApply(lines -> {
+                    for (int pair = 0; pair < lines.size(); pair++) {
+                        assertTrue(lines.get(pair).startsWith("{\"sentence\":" + pair + ","));
+                        assertTrue(lines.get(pair).contains("\"target\":\"new" + pair + "\""));
+                    }
+                    assertEquals(10, lines.size());
+                    return lines;
+                }));
+            }
+            CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+            assertEquals(160, server.batcher().itemCount());
+        }
+    }
+
+    @Test
+    void rejectsMalformedBody() throws Exception {
+        try (AnnotationServer server = start()) {
+            HttpResponse<String> response = client.send(
+                HttpRequest
+                    .newBuilder(uri(server, "/annotate"))
+                    .POST(HttpRequest.BodyPublishers.ofString("no tab here"))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString()
+            );
+            assertEquals(400, response.statusCode());
+        }
+    }
+
+    private static List<String> post(AnnotationServer server, String path, String body) throws Exception {
+        HttpResponse<String> response = client.send(
+            HttpRequest
+                .newBuilder(uri(server, path))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+        assertEquals(200, response.statusCode());
+        return response.body().lines().collect(Collectors.toList());
+    }
+
+    private static URI uri(AnnotationServer server, String path) {
+        return URI.create("http://localhost:" + server.address().getPort() + path);
+    }
+}
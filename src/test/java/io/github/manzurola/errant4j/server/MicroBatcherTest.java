@@ -0,0 +1,147 @@
+package io.github.manzurola.errant4j.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MicroBatcherTest {
+
+    @Test
+    void completesEachItemWithItsOwnOutput() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>(
+            inputs -> inputs.stream().map(i -> "#" + i).collect(Collectors.toList()),
+            16,
+            Duration.ofMillis(2),
+            executor
+        );
+        List<List<CompletableFuture<String>>> futures = new ArrayList<>();
+        List<Thread> submitters = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            List<CompletableFuture<String>> own = new ArrayList<>();
+            futures.add(own);
+            int base = t * 1000;
+            submitters.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    own.add(batcher.submit(base + i));
+                }
+            }));
+        }
+        submitters.forEach(Thread::start);
+        for (Thread submitter : submitters) {
+            submitter.join();
+        }
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("#" + (t * 1000 + i), futures.get(t).get(i).get(10, TimeUnit.SECONDS));
+            }
+        }
+        batcher.close();
+        executor.shutdown();
+        assertEquals(4000, batcher.itemCount());
+        assertTrue(batcher.averageBatchSize() <= 16);
+    }
+
+    @Test
+    void failingItemFailsOnlyItsOwnFuture() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>(
+            inputs -> {
+                if (inputs.contains(0)) {
+                    running.countDown();
+                    awaitQuietly(blocked);
+                    return List.of(0);
+                }
+                if (inputs.contains(13)) {
+                    throw new IllegalArgumentException("unlucky");
+                }
+                return inputs.stream().map(i -> -i).collect(Collectors.toList());
+            },
+            8,
+            Duration.ofSeconds(1),
+            executor
+        );
+        // block the single worker, so the next items are collected into one batch
+        CompletableFuture<Integer> first = batcher.submit(0);
+        running.await();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 10; i < 18; i++) {
+            futures.add(batcher.submit(i));
+        }
+        blocked.countDown();
+        assertEquals(Integer.valueOf(0), first.get(10, TimeUnit.SECONDS));
+        for (int i = 0; i < futures.size(); i++) {
+            int input = 10 + i;
+            if (input == 13) {
+                ExecutionException e = assertThrows(ExecutionException.class, futures.get(i)::get);
+                assertTrue(e.getCause() instanceof IllegalArgumentException);
+            } else {
+                assertEquals(Integer.valueOf(-input), futures.get(i).get(10, TimeUnit.SECONDS));
+            }
+        }
+        batcher.close();
+        executor.shutdown();
+    }
+
+    @Test
+    void completesItemsSubmittedWhileClosing() throws Exception {
+        for (int round = 0; round < 50; round++) {
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            MicroBatcher<Integer, Integer> batcher = new MicroBatcher<>(
+                inputs -> inputs,
+                4,
+                Duration.ofMillis(1),
+                executor
+            );
+            List<CompletableFuture<Integer>> futures = new ArrayList<>();
+            CountDownLatch started = new CountDownLatch(1);
+            Thread submitter = new Thread(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    CompletableFuture<Integer> future = batcher.submit(i);
+                    synchronized (futures) {
+                        futures.add(future);
+                    }
+                    started.countDown();
+                }
+            });
+            submitter.start();
+            started.await();
+            batcher.close();
+            submitter.join();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            synchronized (futures) {
+                for (CompletableFuture<Integer> future : futures) {
+                    assertTrue(future.isDone());
+                    if (future.isCompletedExceptionally()) {
+                        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+                        assertTrue(e.getCause() instanceof IllegalStateException);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}